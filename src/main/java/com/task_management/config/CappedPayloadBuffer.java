@@ -0,0 +1,55 @@
+package com.task_management.config;
+
+import java.nio.charset.Charset;
+
+/**
+ * Keeps the first {@code capacity} bytes written to it and only counts the rest, so capturing a payload for the
+ * log never costs more than {@code capacity} bytes of heap whatever the size of the body.
+ */
+final class CappedPayloadBuffer {
+
+    private final int capacity;
+    private byte[] bytes;
+    private int length;
+    private long total;
+
+    CappedPayloadBuffer(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void write(int b) {
+        total++;
+        if (length < capacity) {
+            ensureAllocated();
+            bytes[length++] = (byte) b;
+        }
+    }
+
+    void write(byte[] b, int off, int len) {
+        total += len;
+        int copied = Math.min(len, capacity - length);
+        if (copied > 0) {
+            ensureAllocated();
+            System.arraycopy(b, off, bytes, length, copied);
+            length += copied;
+        }
+    }
+
+    boolean isEmpty() {
+        return total == 0;
+    }
+
+    boolean isTruncated() {
+        return total > length;
+    }
+
+    String decode(Charset charset) {
+        return length == 0 ? "" : new String(bytes, 0, length, charset);
+    }
+
+    private void ensureAllocated() {
+        if (bytes == null) {
+            bytes = new byte[capacity];
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.task_management.config;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Copies the request body into a {@link CappedPayloadBuffer} as the application reads it. Unlike
+ * {@code ContentCachingRequestWrapper} nothing beyond the cap is retained, and a body nobody reads is never copied.
+ */
+final class CappedTeeRequestWrapper extends HttpServletRequestWrapper {
+
+    private final CappedPayloadBuffer payload;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    CappedTeeRequestWrapper(HttpServletRequest request, int maxPayloadLength) {
+        super(request);
+        this.payload = new CappedPayloadBuffer(maxPayloadLength);
+    }
+
+    CappedPayloadBuffer payload() {
+        return payload;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new TeeInputStream(super.getInputStream(), payload);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+        return reader;
+    }
+
+    private static final class TeeInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final CappedPayloadBuffer payload;
+
+        TeeInputStream(ServletInputStream delegate, CappedPayloadBuffer payload) {
+            this.delegate = delegate;
+            this.payload = payload;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) {
+                payload.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (read > 0) {
+                payload.write(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+            delegate.setReadListener(listener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.task_management.config;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the response straight through to the client and copies the first bytes into a
+ * {@link CappedPayloadBuffer} on the way. {@code ContentCachingResponseWrapper} held the whole body until the
+ * filter copied it out, which also delayed streamed responses until they completed.
+ */
+final class CappedTeeResponseWrapper extends HttpServletResponseWrapper {
+
+    private final CappedPayloadBuffer payload;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    CappedTeeResponseWrapper(HttpServletResponse response, int maxPayloadLength) {
+        super(response);
+        this.payload = new CappedPayloadBuffer(maxPayloadLength);
+    }
+
+    CappedPayloadBuffer payload() {
+        return payload;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream(), payload);
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), charset));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        flushWriter();
+        super.flushBuffer();
+    }
+
+    /** Pushes characters still held by our writer to the stream; the container does not know about it. */
+    void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    private static final class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final CappedPayloadBuffer payload;
+
+        TeeOutputStream(ServletOutputStream delegate, CappedPayloadBuffer payload) {
+            this.delegate = delegate;
+            this.payload = payload;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            payload.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            payload.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+}
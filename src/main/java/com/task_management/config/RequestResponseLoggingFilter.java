@@ -7,97 +7,141 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
+/**
+ * Logs one line per request once the response is complete.
+ *
+ * <p>In {@link Mode#PAYLOAD} a sampled share of requests also logs the first {@value #MAX_PAYLOAD_LENGTH} bytes of
+ * both bodies, copied by capped tee wrappers while the application reads and writes them. Unsampled requests are
+ * not wrapped at all. The rate is {@code app.request-logging.sample-rate} unless one of the
+ * {@code app.request-logging.route-sample-rates} patterns matches the path first, e.g.
+ * {@code /api/projects/**=0.01,/actuator/**=0}.
+ */
 @Component
 public class RequestResponseLoggingFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(RequestResponseLoggingFilter.class);
-    private static final int MAX_PAYLOAD_LENGTH = 2000;
+    static final int MAX_PAYLOAD_LENGTH = 2000;
     private static final Charset DEFAULT_CHARSET = StandardCharsets.UTF_8;
     private static final String TRUNCATION_SUFFIX = "...(truncated)";
 
+    public enum Mode {
+        /** No wrapping and no log line. */
+        OFF,
+        /** Method, path, status and duration of every request; bodies are never captured. */
+        METADATA,
+        /** Like {@link #METADATA}, plus the capped bodies of sampled requests. */
+        PAYLOAD
+    }
+
+    private record RouteSampleRate(String pattern, double rate) {
+    }
+
+    private final Mode mode;
+    private final double defaultSampleRate;
+    private final List<RouteSampleRate> routeSampleRates;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RequestResponseLoggingFilter(
+            @Value("${app.request-logging.mode:PAYLOAD}") Mode mode,
+            @Value("${app.request-logging.sample-rate:0.01}") double defaultSampleRate,
+            @Value("${app.request-logging.route-sample-rates:}") String routeSampleRates) {
+        this.mode = mode;
+        this.defaultSampleRate = requireRate(defaultSampleRate);
+        this.routeSampleRates = parseRouteSampleRates(routeSampleRates);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return mode == Mode.OFF || !logger.isInfoEnabled();
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        HttpServletRequest requestToUse = wrapRequest(request);
-        HttpServletResponse responseToUse = wrapResponse(response);
-
-        String requestId = UUID.randomUUID().toString();
-        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        if (mode != Mode.PAYLOAD || !isSampled(request)) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                if (!isAsyncStarted(request)) {
+                    logMetadata(request, response, startNanos);
+                }
+            }
+            return;
+        }
 
+        var requestToUse = new CappedTeeRequestWrapper(request, MAX_PAYLOAD_LENGTH);
+        var responseToUse = new CappedTeeResponseWrapper(response, MAX_PAYLOAD_LENGTH);
         try {
             filterChain.doFilter(requestToUse, responseToUse);
         } finally {
+            responseToUse.flushWriter();
             if (!isAsyncStarted(requestToUse)) {
-                logRequest(requestToUse, requestId);
-                logResponse(responseToUse, requestId, System.currentTimeMillis() - startTime);
-            }
-            if (responseToUse instanceof ContentCachingResponseWrapper wrapper) {
-                wrapper.copyBodyToResponse();
+                logPayload(requestToUse, responseToUse, startNanos);
             }
         }
     }
 
-    private HttpServletRequest wrapRequest(HttpServletRequest request) {
-        if (request instanceof ContentCachingRequestWrapper) {
-            return request;
-        }
-        return new ContentCachingRequestWrapper(request);
+    boolean isSampled(HttpServletRequest request) {
+        double rate = sampleRate(request.getRequestURI());
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
     }
 
-    private HttpServletResponse wrapResponse(HttpServletResponse response) {
-        if (response instanceof ContentCachingResponseWrapper) {
-            return response;
+    private double sampleRate(String path) {
+        for (RouteSampleRate route : routeSampleRates) {
+            if (pathMatcher.match(route.pattern(), path)) {
+                return route.rate();
+            }
         }
-        return new ContentCachingResponseWrapper(response);
+        return defaultSampleRate;
     }
 
-    private void logRequest(HttpServletRequest request, String requestId) {
-        String queryString = request.getQueryString();
-        String requestUri = request.getRequestURI();
-        if (queryString != null) {
-            requestUri += "?" + queryString;
-        }
-
-        String payload = "";
-        if (request instanceof ContentCachingRequestWrapper wrapper) {
-            payload = getPayload(wrapper.getContentAsByteArray(), wrapper.getCharacterEncoding(), wrapper.getContentType());
-        }
-
+    private void logMetadata(HttpServletRequest request, HttpServletResponse response, long startNanos) {
         logger.info(
-                "Incoming request [{}]: method={}, uri={}, remoteAddress={}, payload={}",
-                requestId,
+                "Request: method={}, uri={}, remoteAddress={}, status={}, durationMs={}",
                 request.getMethod(),
-                requestUri,
+                requestUri(request),
                 request.getRemoteAddr(),
-                payload);
+                response.getStatus(),
+                elapsedMillis(startNanos));
     }
 
-    private void logResponse(HttpServletResponse response, String requestId, long durationMs) {
-        String payload = "";
-        if (response instanceof ContentCachingResponseWrapper wrapper) {
-            payload = getPayload(wrapper.getContentAsByteArray(), wrapper.getCharacterEncoding(), wrapper.getContentType());
-        }
-
+    private void logPayload(CappedTeeRequestWrapper request, CappedTeeResponseWrapper response, long startNanos) {
         logger.info(
-                "Outgoing response [{}]: status={}, durationMs={}, payload={}",
-                requestId,
+                "Request: method={}, uri={}, remoteAddress={}, status={}, durationMs={}, payload={}, responsePayload={}",
+                request.getMethod(),
+                requestUri(request),
+                request.getRemoteAddr(),
                 response.getStatus(),
-                durationMs,
-                payload);
+                elapsedMillis(startNanos),
+                getPayload(request.payload(), request.getCharacterEncoding(), request.getContentType()),
+                getPayload(response.payload(), response.getCharacterEncoding(), response.getContentType()));
+    }
+
+    private static String requestUri(HttpServletRequest request) {
+        String queryString = request.getQueryString();
+        return queryString == null ? request.getRequestURI() : request.getRequestURI() + "?" + queryString;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
     }
 
-    private String getPayload(byte[] buf, String encoding, String contentType) {
-        if (buf == null || buf.length == 0) {
+    private String getPayload(CappedPayloadBuffer buf, String encoding, String contentType) {
+        if (buf.isEmpty()) {
             return "<empty>";
         }
         if (!isReadableContentType(contentType)) {
@@ -112,11 +156,9 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
                 logger.trace("Falling back to UTF-8 due to unsupported charset {}", encoding, ex);
             }
         }
-        String payload = new String(buf, charset);
-        if (payload.length() > MAX_PAYLOAD_LENGTH) {
-            return payload.substring(0, MAX_PAYLOAD_LENGTH) + TRUNCATION_SUFFIX;
-        }
-        return payload;
+        // The cap may split a multi-byte character; the decoder turns the stray bytes into one replacement char
+        String payload = buf.decode(charset);
+        return buf.isTruncated() ? payload + TRUNCATION_SUFFIX : payload;
     }
 
     private boolean isReadableContentType(String contentType) {
@@ -132,4 +174,27 @@ public class RequestResponseLoggingFilter extends OncePerRequestFilter {
                 || lowerCaseContentType.contains("javascript")
                 || lowerCaseContentType.contains("html");
     }
+
+    private static List<RouteSampleRate> parseRouteSampleRates(String value) {
+        List<RouteSampleRate> routes = new ArrayList<>();
+        if (!StringUtils.hasText(value)) {
+            return routes;
+        }
+        for (String entry : value.split(",")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected <path pattern>=<rate> in request logging route: " + entry);
+            }
+            routes.add(new RouteSampleRate(entry.substring(0, separator).trim(),
+                    requireRate(Double.parseDouble(entry.substring(separator + 1).trim()))));
+        }
+        return List.copyOf(routes);
+    }
+
+    private static double requireRate(double rate) {
+        if (rate < 0.0 || rate > 1.0) {
+            throw new IllegalArgumentException("Request logging sample rate must be between 0 and 1: " + rate);
+        }
+        return rate;
+    }
 }
@@ -1,8 +1,10 @@
 package com.task_management.controller;
 
+import com.task_management.dto.ActionBulkCreateReq;
 import com.task_management.dto.ActionCreateReq;
 import com.task_management.dto.ActionRes;
 import com.task_management.dto.ActionUpdateReq;
+import com.task_management.dto.CursorPageRes;
 import com.task_management.service.ActionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,6 +19,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -42,6 +45,21 @@ public class ActionController {
         return actionService.create(req);
     }
 
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(
+            summary = "Create actions in bulk",
+            description = "Creates up to 1000 actions of one task at once, either from an explicit list or by repeating a details template for every day of a range (by default the whole task).",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Actions created"),
+                    @ApiResponse(responseCode = "400", description = "Validation failure"),
+                    @ApiResponse(responseCode = "404", description = "Task not found")
+            }
+    )
+    public List<ActionRes> createBulk(@Valid @RequestBody ActionBulkCreateReq req) {
+        return actionService.createBulk(req);
+    }
+
     @GetMapping("/{actionId}")
     @Operation(
             summary = "Get action",
@@ -70,6 +88,25 @@ public class ActionController {
         return actionService.listInTask(taskId, pageable);
     }
 
+    @GetMapping(params = "paging=cursor")
+    @Operation(
+            summary = "List task actions by cursor",
+            description = "Keyset-paginated actions of a task ordered by day then id. Pages are fetched without a total count; follow nextCursor until it is null.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Page retrieved"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or size outside 1-100"),
+                    @ApiResponse(responseCode = "404", description = "Task not found")
+            }
+    )
+    public CursorPageRes<ActionRes> listByTaskCursor(@Parameter(description = "Task identifier")
+                                                     @RequestParam("taskId") UUID taskId,
+                                                     @Parameter(description = "Cursor returned as nextCursor by the previous page; omit for the first page")
+                                                     @RequestParam(value = "cursor", required = false) String cursor,
+                                                     @Parameter(description = "Page size (1-100)")
+                                                     @RequestParam(value = "size", defaultValue = "20") int size) {
+        return actionService.listInTaskByCursor(taskId, cursor, size);
+    }
+
     @PatchMapping("/{actionId}")
     @Operation(
             summary = "Update action",
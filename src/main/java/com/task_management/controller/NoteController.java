@@ -1,5 +1,6 @@
 package com.task_management.controller;
 
+import com.task_management.dto.CursorPageRes;
 import com.task_management.dto.NoteCreateReq;
 import com.task_management.dto.NoteRes;
 import com.task_management.dto.NoteUpdateReq;
@@ -77,6 +78,34 @@ public class NoteController {
                 : noteService.listForTask(taskId, pageable);
     }
 
+    @GetMapping(params = "paging=cursor")
+    @Operation(
+            summary = "List notes by cursor",
+            description = "Keyset-paginated notes of a project or a task, newest first. Exactly one identifier must be provided. Pages are fetched without a total count; follow nextCursor until it is null.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Page retrieved"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor, size outside 1-100, or not exactly one identifier"),
+                    @ApiResponse(responseCode = "404", description = "Project or task not found")
+            }
+    )
+    public CursorPageRes<NoteRes> listCursor(@Parameter(description = "Project identifier", required = false)
+                                             @RequestParam(value = "projectId", required = false) UUID projectId,
+                                             @Parameter(description = "Task identifier", required = false)
+                                             @RequestParam(value = "taskId", required = false) UUID taskId,
+                                             @Parameter(description = "Cursor returned as nextCursor by the previous page; omit for the first page")
+                                             @RequestParam(value = "cursor", required = false) String cursor,
+                                             @Parameter(description = "Page size (1-100)")
+                                             @RequestParam(value = "size", defaultValue = "20") int size) {
+        boolean hasProject = projectId != null;
+        boolean hasTask = taskId != null;
+        if (hasProject == hasTask) {
+            throw new BadRequestException("Provide either projectId or taskId");
+        }
+        return hasProject
+                ? noteService.listForProjectByCursor(projectId, cursor, size)
+                : noteService.listForTaskByCursor(taskId, cursor, size);
+    }
+
     @PatchMapping("/{noteId}")
     @Operation(
             summary = "Update note",
@@ -1,23 +1,44 @@
 package com.task_management.controller;
 
+import com.task_management.dto.ChangeSetRes;
+import com.task_management.dto.ExportFormat;
+import com.task_management.dto.ImportJobRes;
 import com.task_management.dto.ProjectCreateReq;
+import com.task_management.dto.ProjectEventRes;
 import com.task_management.dto.ProjectImportReq;
 import com.task_management.dto.ProjectImportRes;
 import com.task_management.dto.ProjectRes;
+import com.task_management.dto.ProjectSearchRes;
+import com.task_management.dto.ProjectSummaryRes;
 import com.task_management.dto.ProjectUpdateReq;
+import com.task_management.service.ChangeSyncService;
+import com.task_management.service.ImportJobService;
+import com.task_management.service.ProjectEventService;
+import com.task_management.service.ProjectExportService;
+import com.task_management.service.ProjectPurgeService;
+import com.task_management.service.ProjectSearchService;
 import com.task_management.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -25,8 +46,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -35,6 +60,12 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ImportJobService importJobService;
+    private final ProjectSearchService projectSearchService;
+    private final ProjectPurgeService projectPurgeService;
+    private final ChangeSyncService changeSyncService;
+    private final ProjectEventService projectEventService;
+    private final ProjectExportService projectExportService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -65,17 +96,78 @@ public class ProjectController {
         return projectService.importProject(req);
     }
 
+    @PostMapping(value = "/import", params = "mode=async")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(
+            summary = "Queue project import",
+            description = "Queues the import as a background job and returns its identifier immediately. Progress is available from the job endpoints.",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Import job queued"),
+                    @ApiResponse(responseCode = "400", description = "Validation failure or target project name already exists"),
+                    @ApiResponse(responseCode = "404", description = "Source project not found")
+            }
+    )
+    public ImportJobRes importProjectAsync(@Valid @RequestBody ProjectImportReq req) {
+        return importJobService.submit(req);
+    }
+
+    @GetMapping("/import/jobs/{jobId}")
+    @Operation(
+            summary = "Get import job",
+            description = "Returns the status and per-entity counts of an asynchronous import.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Import job found"),
+                    @ApiResponse(responseCode = "404", description = "Import job not found")
+            }
+    )
+    public ImportJobRes getImportJob(@Parameter(description = "Import job identifier") @PathVariable UUID jobId) {
+        return importJobService.get(jobId);
+    }
+
+    @GetMapping(value = "/import/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream import job progress",
+            description = "Server-Sent Events stream that emits a progress event whenever the job changes and closes once it is done or failed.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Event stream opened"),
+                    @ApiResponse(responseCode = "404", description = "Import job not found")
+            }
+    )
+    public SseEmitter streamImportJob(@Parameter(description = "Import job identifier") @PathVariable UUID jobId) {
+        return importJobService.subscribe(jobId);
+    }
+
     @GetMapping("/{projectId}")
     @Operation(
             summary = "Get project",
-            description = "Retrieves the details of a project by its identifier.",
+            description = "Retrieves the details of a project by its identifier. The ETag changes with every write to the project or its tasks, tags, notes and actions; send it back in If-None-Match to get a 304 while nothing has changed.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Project found"),
+                    @ApiResponse(responseCode = "304", description = "Project unchanged since the given ETag"),
+                    @ApiResponse(responseCode = "404", description = "Project not found")
+            }
+    )
+    public ResponseEntity<ProjectRes> get(@Parameter(description = "Project identifier") @PathVariable UUID projectId,
+                                          @RequestHeader HttpHeaders headers) {
+        return ProjectEtags.conditionalGet(projectService, projectId, headers,
+                () -> projectService.getVersioned(projectId));
+    }
+
+    @GetMapping(value = "/{projectId}", params = "view=summary")
+    @Operation(
+            summary = "Get project summary",
+            description = "Retrieves the project columns with task, activity, tag and note counts and the schedule day range, without embedded tasks or tags. Supports If-None-Match like the full project.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Project summary found"),
+                    @ApiResponse(responseCode = "304", description = "Project unchanged since the given ETag"),
                     @ApiResponse(responseCode = "404", description = "Project not found")
             }
     )
-    public ProjectRes get(@Parameter(description = "Project identifier") @PathVariable UUID projectId) {
-        return projectService.get(projectId);
+    public ResponseEntity<ProjectSummaryRes> getSummary(
+            @Parameter(description = "Project identifier") @PathVariable UUID projectId,
+            @RequestHeader HttpHeaders headers) {
+        return ProjectEtags.conditionalGet(projectService, projectId, headers,
+                () -> projectService.getSummaryVersioned(projectId));
     }
 
     @GetMapping
@@ -90,6 +182,110 @@ public class ProjectController {
         return projectService.list(pageable);
     }
 
+    @GetMapping(params = "view=summary")
+    @Operation(
+            summary = "List project summaries",
+            description = "Returns a paginated list of project summaries with aggregate counts instead of embedded tasks and tags.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Page of project summaries retrieved")
+            }
+    )
+    public Page<ProjectSummaryRes> listSummaries(@ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        return projectService.listSummaries(pageable);
+    }
+
+    @GetMapping("/{projectId}/search")
+    @Operation(
+            summary = "Search project",
+            description = "Searches tasks, tags, notes and actions of a project in one call and returns a single page of hits ordered by relevance. Sort parameters are ignored.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Page of search hits retrieved"),
+                    @ApiResponse(responseCode = "400", description = "Missing search text or page beyond the first 1000 hits"),
+                    @ApiResponse(responseCode = "404", description = "Project not found")
+            }
+    )
+    public ProjectSearchRes search(@Parameter(description = "Project identifier") @PathVariable UUID projectId,
+                                   @Parameter(description = "Search text") @RequestParam("q") String q,
+                                   @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        return projectSearchService.search(projectId, q, pageable);
+    }
+
+    @GetMapping("/{projectId}/changes")
+    @Operation(
+            summary = "List changes since a cursor",
+            description = "Returns the tasks, tags, notes and actions of the project created, updated or deleted after the cursor, oldest first. Omit since for a full initial sync; pass nextCursor back while hasMore is true, then keep it for the next sync. Deletes come as entries with deleted=true and no data. Changes from the last few seconds are held back until their transactions have settled.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Page of changes retrieved",
+                            content = @Content(schema = @Schema(implementation = ChangeSetRes.class))),
+                    @ApiResponse(responseCode = "400", description = "Malformed cursor, cursor older than the change history, or limit out of range"),
+                    @ApiResponse(responseCode = "404", description = "Project not found")
+            }
+    )
+    public ResponseEntity<StreamingResponseBody> changes(
+            @Parameter(description = "Project identifier") @PathVariable UUID projectId,
+            @Parameter(description = "Cursor from a previous response; omit for an initial sync") @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes, 1 to 1000") @RequestParam(defaultValue = "500") int limit) {
+        // Resolved up front so a bad cursor or unknown project still gets a proper error status
+        var batch = changeSyncService.findChanges(projectId, since, limit);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> changeSyncService.writeChanges(batch, out));
+    }
+
+    @GetMapping("/{projectId}/export")
+    @Operation(
+            summary = "Export project",
+            description = "Streams the project with all of its tasks, tags, notes and actions, one row per entity, as NDJSON (one JSON object per line) or CSV with a header row. Every row has a type field; fields that do not apply to a type are left out or empty. Rows come grouped by type in no particular order and are read from a single consistent snapshot. Compressed with gzip when the client accepts it. Only a few exports run at once on a node; further requests get a 503 and should retry later.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Project export streamed"),
+                    @ApiResponse(responseCode = "400", description = "Unknown format"),
+                    @ApiResponse(responseCode = "404", description = "Project not found"),
+                    @ApiResponse(responseCode = "503", description = "Too many exports running on this node")
+            }
+    )
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Project identifier") @PathVariable UUID projectId,
+            @Parameter(description = "ndjson or csv") @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse servletResponse) {
+        var exportFormat = ExportFormat.parse(format);
+        var slot = projectExportService.reserveExport(projectId);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("project-" + projectId + "." + exportFormat.extension()).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .body(out -> {
+                    try (slot) {
+                        // Encoding is only declared once the export goes ahead, so a late 404 is not sent as gzip
+                        projectExportService.writeExport(projectId, exportFormat, () -> {
+                            if (!gzip) {
+                                return out;
+                            }
+                            servletResponse.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                            return new GZIPOutputStream(out, 8192);
+                        });
+                    }
+                });
+    }
+
+    @GetMapping(value = "/{projectId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream project events",
+            description = "Pushes a change event for every committed create, update or delete of the project's tasks, tags, notes and actions, from whichever node handled the write. Deleting a task also removes its notes and actions without separate events. A bulk task or action request sends one change event with operation BULK and no id instead of one per row; fetch its rows through the changes endpoint. A resync event means events may have been missed: catch up through the changes endpoint. A stream that falls too far behind gets a resync event with reason overflow and is closed; reopen it after catching up.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Event stream opened",
+                            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                                    schema = @Schema(implementation = ProjectEventRes.class))),
+                    @ApiResponse(responseCode = "404", description = "Project not found"),
+                    @ApiResponse(responseCode = "503", description = "Too many event streams open on this node")
+            }
+    )
+    public SseEmitter streamEvents(@Parameter(description = "Project identifier") @PathVariable UUID projectId) {
+        return projectEventService.subscribe(projectId);
+    }
+
     @PatchMapping("/{projectId}")
     @Operation(
         summary = "Update project",
@@ -118,4 +314,18 @@ public class ProjectController {
     public void delete(@Parameter(description = "Project identifier") @PathVariable UUID projectId) {
         projectService.delete(projectId);
     }
+
+    @DeleteMapping(value = "/{projectId}", params = "mode=async")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(
+            summary = "Delete project in the background",
+            description = "Hides the project from all reads immediately and removes its tasks, tags, notes and actions in small batches afterwards. Meant for very large projects.",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "Project marked for deletion"),
+                    @ApiResponse(responseCode = "404", description = "Project not found")
+            }
+    )
+    public void deleteAsync(@Parameter(description = "Project identifier") @PathVariable UUID projectId) {
+        projectPurgeService.markDeleted(projectId);
+    }
 }
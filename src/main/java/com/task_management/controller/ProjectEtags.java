@@ -0,0 +1,38 @@
+package com.task_management.controller;
+
+import com.task_management.service.ProjectService;
+import com.task_management.service.Versioned;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Conditional GETs of anything tagged with the project version. A tag the client already holds is answered from
+ * the version lookup alone. Otherwise the tag is the version loaded in the same snapshot as the body, never a
+ * separate read that a concurrent write could slip past.
+ */
+final class ProjectEtags {
+
+    private ProjectEtags() {
+    }
+
+    static <T> ResponseEntity<T> conditionalGet(ProjectService projectService, UUID projectId, HttpHeaders headers,
+                                                Supplier<Versioned<T>> load) {
+        List<String> ifNoneMatch = headers.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            String current = etag(projectService.getVersion(projectId));
+            if (ifNoneMatch.contains("*") || ifNoneMatch.contains(current) || ifNoneMatch.contains("W/" + current)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current).build();
+            }
+        }
+        Versioned<T> loaded = load.get();
+        return ResponseEntity.ok().eTag(etag(loaded.version())).body(loaded.body());
+    }
+
+    private static String etag(long version) {
+        return "\"" + version + "\"";
+    }
+}
@@ -1,9 +1,13 @@
 package com.task_management.controller;
 
+import com.task_management.dto.CursorPageRes;
 import com.task_management.dto.TagCreateReq;
 import com.task_management.dto.TagRes;
 import com.task_management.dto.TagUpdateReq;
+import com.task_management.dto.TitleSuggestionRes;
+import com.task_management.repository.TitleSuggestionRepository;
 import com.task_management.service.TagService;
+import com.task_management.service.TitleAutocompleteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,8 +19,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -26,6 +32,7 @@ import java.util.UUID;
 public class TagController {
 
     private final TagService tagService;
+    private final TitleAutocompleteService titleAutocompleteService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -55,10 +62,29 @@ public class TagController {
         return tagService.get(tagId);
     }
 
+    @GetMapping("/autocomplete")
+    @Operation(
+            summary = "Autocomplete tag titles",
+            description = "Suggests existing tag titles of a project that start with, or closely resemble, the typed text. Meant to be called on every keystroke.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Suggestions retrieved"),
+                    @ApiResponse(responseCode = "400", description = "limit outside 1-25"),
+                    @ApiResponse(responseCode = "404", description = "Project not found")
+            }
+    )
+    public List<TitleSuggestionRes> autocomplete(@Parameter(description = "Project identifier")
+                                                 @RequestParam("projectId") UUID projectId,
+                                                 @Parameter(description = "Text typed so far")
+                                                 @RequestParam("q") String q,
+                                                 @Parameter(description = "Maximum number of suggestions")
+                                                 @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return titleAutocompleteService.suggest(TitleSuggestionRepository.Source.TAG, projectId, q, limit);
+    }
+
     @GetMapping
     @Operation(
             summary = "List project tags",
-            description = "Returns a paginated list of tags for the specified project.",
+            description = "Returns a paginated list of tags for the specified project. When q is given, only tags whose title or description match every word are returned, best matches first.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Page of tags retrieved"),
                     @ApiResponse(responseCode = "404", description = "Project not found")
@@ -66,10 +92,34 @@ public class TagController {
     )
     public Page<TagRes> listByProject(@Parameter(description = "Project identifier")
                                       @RequestParam("projectId") UUID projectId,
+                                      @Parameter(description = "Optional search text matched against title and description")
+                                      @RequestParam(value = "q", required = false) String q,
                                       @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        if (StringUtils.hasText(q)) {
+            return tagService.searchInProject(projectId, q, pageable);
+        }
         return tagService.listInProject(projectId, pageable);
     }
 
+    @GetMapping(params = "paging=cursor")
+    @Operation(
+            summary = "List project tags by cursor",
+            description = "Keyset-paginated tags of a project ordered by endAt then id. Pages are fetched without a total count; follow nextCursor until it is null.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Page retrieved"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or size outside 1-100"),
+                    @ApiResponse(responseCode = "404", description = "Project not found")
+            }
+    )
+    public CursorPageRes<TagRes> listByProjectCursor(@Parameter(description = "Project identifier")
+                                                     @RequestParam("projectId") UUID projectId,
+                                                     @Parameter(description = "Cursor returned as nextCursor by the previous page; omit for the first page")
+                                                     @RequestParam(value = "cursor", required = false) String cursor,
+                                                     @Parameter(description = "Page size (1-100)")
+                                                     @RequestParam(value = "size", defaultValue = "20") int size) {
+        return tagService.listInProjectByCursor(projectId, cursor, size);
+    }
+
     @PatchMapping("/{tagId}")
     @Operation(
             summary = "Update tag",
@@ -1,27 +1,38 @@
 package com.task_management.controller;
 
+import com.task_management.dto.CursorPageRes;
+import com.task_management.dto.TaskBulkReq;
+import com.task_management.dto.TaskBulkRes;
 import com.task_management.dto.TaskCreateReq;
 import com.task_management.dto.TaskRes;
 import com.task_management.dto.TaskUpdateReq;
+import com.task_management.dto.TitleSuggestionRes;
+import com.task_management.repository.TitleSuggestionRepository;
+import com.task_management.service.ProjectService;
 import com.task_management.service.TaskService;
+import com.task_management.service.TitleAutocompleteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -34,6 +45,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class TaskController {
 
     private final TaskService taskService;
+    private final ProjectService projectService;
+    private final TitleAutocompleteService titleAutocompleteService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -50,6 +63,20 @@ public class TaskController {
         return taskService.create(req);
     }
 
+    @PostMapping("/bulk")
+    @Operation(
+            summary = "Bulk create, update and delete tasks",
+            description = "Applies up to 500 task operations of one project in a single transaction. Each item gets its own status (201, 200, 204, 400 or 404); failed items do not roll back the others.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Per-item results"),
+                    @ApiResponse(responseCode = "400", description = "Malformed request or more than 500 items"),
+                    @ApiResponse(responseCode = "404", description = "Project not found")
+            }
+    )
+    public TaskBulkRes bulk(@Valid @RequestBody TaskBulkReq req) {
+        return taskService.bulk(req);
+    }
+
     @GetMapping("/{taskId}")
     @Operation(
             summary = "Get task",
@@ -63,19 +90,65 @@ public class TaskController {
         return taskService.get(taskId);
     }
 
+    @GetMapping("/autocomplete")
+    @Operation(
+            summary = "Autocomplete task titles",
+            description = "Suggests existing task titles of a project that start with, or closely resemble, the typed text. Meant to be called on every keystroke.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Suggestions retrieved"),
+                    @ApiResponse(responseCode = "400", description = "limit outside 1-25"),
+                    @ApiResponse(responseCode = "404", description = "Project not found")
+            }
+    )
+    public List<TitleSuggestionRes> autocomplete(@Parameter(description = "Project identifier")
+                                                 @RequestParam("projectId") UUID projectId,
+                                                 @Parameter(description = "Text typed so far")
+                                                 @RequestParam("q") String q,
+                                                 @Parameter(description = "Maximum number of suggestions")
+                                                 @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return titleAutocompleteService.suggest(TitleSuggestionRepository.Source.TASK, projectId, q, limit);
+    }
+
     @GetMapping
     @Operation(
             summary = "List project tasks",
-            description = "Returns a paginated list of tasks for the specified project.",
+            description = "Returns a paginated list of tasks for the specified project. When q is given, only tasks whose title or description match every word are returned, best matches first. The ETag follows the project version; send it back in If-None-Match to get a 304 while nothing has changed.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Page of tasks retrieved"),
+                    @ApiResponse(responseCode = "304", description = "Project unchanged since the given ETag"),
+                    @ApiResponse(responseCode = "404", description = "Project not found")
+            }
+    )
+    public ResponseEntity<Page<TaskRes>> listByProject(@Parameter(description = "Project identifier")
+                                                       @RequestParam("projectId") UUID projectId,
+                                                       @Parameter(description = "Optional search text matched against title and description")
+                                                       @RequestParam(value = "q", required = false) String q,
+                                                       @ParameterObject @PageableDefault(size = 20) Pageable pageable,
+                                                       @RequestHeader HttpHeaders headers) {
+        return ProjectEtags.conditionalGet(projectService, projectId, headers,
+                () -> taskService.listInProjectVersioned(projectId, q, pageable));
+    }
+
+    @GetMapping(params = "paging=cursor")
+    @Operation(
+            summary = "List project tasks by cursor",
+            description = "Keyset-paginated tasks of a project ordered by endAt then id. Pages are fetched without a total count; follow nextCursor until it is null. Supports If-None-Match like the paged list.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Page retrieved"),
+                    @ApiResponse(responseCode = "304", description = "Project unchanged since the given ETag"),
+                    @ApiResponse(responseCode = "400", description = "Invalid cursor or size outside 1-100"),
                     @ApiResponse(responseCode = "404", description = "Project not found")
             }
     )
-    public Page<TaskRes> listByProject(@Parameter(description = "Project identifier")
-                                       @RequestParam("projectId") UUID projectId,
-                                       @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
-        return taskService.listInProject(projectId, pageable);
+    public ResponseEntity<CursorPageRes<TaskRes>> listByProjectCursor(@Parameter(description = "Project identifier")
+                                                                      @RequestParam("projectId") UUID projectId,
+                                                                      @Parameter(description = "Cursor returned as nextCursor by the previous page; omit for the first page")
+                                                                      @RequestParam(value = "cursor", required = false) String cursor,
+                                                                      @Parameter(description = "Page size (1-100)")
+                                                                      @RequestParam(value = "size", defaultValue = "20") int size,
+                                                                      @RequestHeader HttpHeaders headers) {
+        return ProjectEtags.conditionalGet(projectService, projectId, headers,
+                () -> taskService.listInProjectByCursorVersioned(projectId, cursor, size));
     }
 
     @PatchMapping("/{taskId}")
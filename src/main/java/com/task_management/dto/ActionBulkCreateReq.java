@@ -0,0 +1,22 @@
+package com.task_management.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Either an explicit list of actions, or a details template repeated once per day from {@code fromDay} to
+ * {@code toDay}. Days are 1-based within the task and must not go past its last day; an omitted bound defaults
+ * to the task's first or last day.
+ */
+public record ActionBulkCreateReq(
+        @NotNull UUID taskId,
+        @Size(max = 1_000) List<@Valid @NotNull ActionBulkItemReq> actions,
+        @Size(max = 10_000) String details,
+        Integer fromDay,
+        Integer toDay
+) {
+}
@@ -0,0 +1,11 @@
+package com.task_management.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record ActionBulkItemReq(
+        @NotBlank @Size(max = 10_000) String details,
+        @NotNull Integer day
+) {
+}
@@ -0,0 +1,7 @@
+package com.task_management.dto;
+
+public enum BulkOperation {
+    CREATE,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,9 @@
+package com.task_management.dto;
+
+public enum ChangeOperation {
+    CREATED,
+    UPDATED,
+    DELETED,
+    /** Many rows of one type changed in a single bulk request; the event carries no id, read the changes feed. */
+    BULK
+}
@@ -0,0 +1,14 @@
+package com.task_management.dto;
+
+import com.task_management.entity.ChangeEntityType;
+import java.time.Instant;
+import java.util.UUID;
+
+/** One entry of the change feed: the current state of a created or updated row, or just the id of a deleted one. */
+public record ChangeRes(
+        ChangeEntityType type,
+        UUID id,
+        boolean deleted,
+        Instant changedAt,
+        Object data     // TaskRes, TagRes, NoteRes or ActionRes; null for deletes
+) {}
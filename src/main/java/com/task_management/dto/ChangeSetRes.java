@@ -0,0 +1,13 @@
+package com.task_management.dto;
+
+import java.util.List;
+
+/**
+ * Shape of the streamed change feed. Pass {@code nextCursor} back as {@code since}; call again right away while
+ * {@code hasMore} is true, otherwise on the next sync.
+ */
+public record ChangeSetRes(
+        List<ChangeRes> changes,
+        String nextCursor,
+        boolean hasMore
+) {}
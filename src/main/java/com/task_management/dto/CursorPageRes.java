@@ -0,0 +1,10 @@
+package com.task_management.dto;
+
+import java.util.List;
+
+/** Keyset page; pass {@code nextCursor} back as {@code cursor} to continue, it is null on the last page */
+public record CursorPageRes<T>(
+        List<T> content,
+        int size,
+        String nextCursor
+) {}
@@ -0,0 +1,25 @@
+package com.task_management.dto;
+
+import com.task_management.entity.ImportJobStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** Asynchronous import state; the counts mirror {@link ProjectImportRes} and grow while the job runs. */
+public record ImportJobRes(
+        UUID id,
+        ImportJobStatus status,
+        UUID sourceProjectId,
+        String newProjectName,
+        UUID newProjectId,
+        int importedTasksCount,
+        int importedNotesCount,
+        int importedTagsCount,
+        int importedActionsCount,
+        String message,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant startedAt,
+        Instant finishedAt
+) {
+}
@@ -0,0 +1,17 @@
+package com.task_management.dto;
+
+import com.task_management.entity.ChangeEntityType;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A committed write under a project, as pushed to event stream subscribers; fetch the row itself if needed. A
+ * {@link ChangeOperation#BULK} event stands for a whole bulk request and has no {@code id}.
+ */
+public record ProjectEventRes(
+        UUID projectId,
+        ChangeEntityType type,
+        UUID id,
+        ChangeOperation operation,
+        Instant at
+) {}
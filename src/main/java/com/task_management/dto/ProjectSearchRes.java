@@ -0,0 +1,11 @@
+package com.task_management.dto;
+
+import java.util.List;
+
+/** One page of merged search hits; there is no total because only the requested window is ever fetched */
+public record ProjectSearchRes(
+        List<SearchHitRes> content,
+        int page,
+        int size,
+        boolean hasNext
+) {}
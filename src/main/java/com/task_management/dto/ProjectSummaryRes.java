@@ -0,0 +1,23 @@
+package com.task_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** Project columns plus aggregate counts, without the embedded task/tag arrays of {@link ProjectRes} */
+public record ProjectSummaryRes(
+        UUID id,
+        String name,
+        String description,
+        @JsonFormat(pattern = "dd-MM-yyyy") LocalDate startDate,
+        Instant createdAt,
+        Instant updatedAt,
+        long taskCount,
+        long activityCount,
+        long tagCount,
+        long noteCount,
+        Integer minStartDay,   // null when the project has no tasks
+        Integer maxEndDay
+) {}
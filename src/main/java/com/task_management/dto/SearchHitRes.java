@@ -0,0 +1,12 @@
+package com.task_management.dto;
+
+import java.util.UUID;
+
+public record SearchHitRes(
+        SearchHitType type,
+        UUID id,
+        UUID taskId,     // owning task for task notes and actions, the task itself for TASK hits
+        String title,
+        String snippet,
+        double score
+) {}
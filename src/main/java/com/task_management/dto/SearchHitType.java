@@ -0,0 +1,8 @@
+package com.task_management.dto;
+
+public enum SearchHitType {
+    TASK,
+    TAG,
+    NOTE,
+    ACTION
+}
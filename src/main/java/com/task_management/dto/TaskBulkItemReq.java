@@ -0,0 +1,25 @@
+package com.task_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One operation of a bulk request. CREATE uses the task fields like {@link TaskCreateReq}; UPDATE needs
+ * {@code id} and patches the non-null fields like {@link TaskUpdateReq}; DELETE only needs {@code id}.
+ */
+public record TaskBulkItemReq(
+        @NotNull BulkOperation op,
+        UUID id,
+        @Size(max = 160) String title,
+        @Size(max = 10_000) String description,
+        @JsonProperty("isActivity") Boolean activity,
+        Integer duration,
+        Instant startAt,
+        Instant endAt,
+        @Size(max = 32) String color
+) {
+}
@@ -0,0 +1,20 @@
+package com.task_management.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one bulk item, in request order. {@code status} is the HTTP status the single-task endpoint would
+ * have answered with; {@code task} is set for successful creates and updates, {@code error} for failures.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskBulkItemRes(
+        int index,
+        BulkOperation op,
+        UUID id,
+        int status,
+        String error,
+        TaskRes task
+) {
+}
@@ -0,0 +1,16 @@
+package com.task_management.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Create, update and delete tasks of one project in a single request; items are applied in order */
+public record TaskBulkReq(
+        @NotNull UUID projectId,
+        @NotEmpty @Size(max = 500) List<@Valid @NotNull TaskBulkItemReq> items
+) {
+}
@@ -0,0 +1,10 @@
+package com.task_management.dto;
+
+import java.util.List;
+
+public record TaskBulkRes(
+        List<TaskBulkItemRes> results,
+        int succeeded,
+        int failed
+) {
+}
@@ -0,0 +1,8 @@
+package com.task_management.dto;
+
+import java.util.UUID;
+
+public record TitleSuggestionRes(
+        UUID id,
+        String title
+) {}
@@ -3,6 +3,8 @@ package com.task_management.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
 
@@ -15,19 +17,20 @@ import java.util.UUID;
 @Table(
         name = "action",
         indexes = {
-                @Index(name = "idx_action_task", columnList = "task_id"),
-                @Index(name = "idx_action_day", columnList = "day")
+                @Index(name = "idx_action_task_day_id", columnList = "task_id, day, id"),
+                @Index(name = "idx_action_task_updated_at_id", columnList = "task_id, updated_at, id")
         }
 )
 public class Action {
 
     @Id
     @GeneratedValue
-    @UuidGenerator
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "uuid")
     private UUID id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @JoinColumn(name = "task_id", nullable = false,
             foreignKey = @ForeignKey(name = "fk_action_task"))
     private Task task;
@@ -0,0 +1,9 @@
+package com.task_management.entity;
+
+/** Kinds of project children that the change feed reports. */
+public enum ChangeEntityType {
+    TASK,
+    TAG,
+    NOTE,
+    ACTION
+}
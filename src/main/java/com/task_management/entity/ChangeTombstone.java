@@ -0,0 +1,38 @@
+package com.task_management.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Marks a deleted task, tag, note or action so delta sync can report the delete after the row is gone. Written
+ * and read over JDBC by ChangeFeedRepository; removed with the project or after {@code app.sync.tombstone-retention}.
+ */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+@Entity
+@Table(
+        name = "change_tombstone",
+        indexes = {
+                @Index(name = "idx_change_tombstone_project_deleted_at", columnList = "project_id, deleted_at, entity_id"),
+                @Index(name = "idx_change_tombstone_deleted_at", columnList = "deleted_at")
+        }
+)
+public class ChangeTombstone {
+
+    @Id
+    @Column(name = "entity_id", columnDefinition = "uuid")
+    private UUID entityId;
+
+    @Column(name = "project_id", nullable = false, columnDefinition = "uuid")
+    private UUID projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private ChangeEntityType entityType;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+}
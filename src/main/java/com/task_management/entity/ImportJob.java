@@ -0,0 +1,90 @@
+package com.task_management.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** Durable state of an asynchronous project import; workers on any node claim queued rows. */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+@Entity
+@Table(
+        name = "import_job",
+        indexes = {
+                @Index(name = "idx_import_job_status_created", columnList = "status, created_at")
+        }
+)
+public class ImportJob {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator
+    @Column(columnDefinition = "uuid")
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ImportJobStatus status;
+
+    @Column(name = "source_project_id", nullable = false, columnDefinition = "uuid")
+    private UUID sourceProjectId;
+
+    @Column(name = "new_project_name", nullable = false, length = 160)
+    private String newProjectName;
+
+    @Column(columnDefinition = "text")
+    private String description;
+
+    @Column(name = "import_tasks", nullable = false)
+    private boolean importTasks;
+
+    @Column(name = "import_notes", nullable = false)
+    private boolean importNotes;
+
+    @Column(name = "import_tags", nullable = false)
+    private boolean importTags;
+
+    @Column(name = "import_actions", nullable = false)
+    private boolean importActions;
+
+    @Column(name = "new_project_id", columnDefinition = "uuid")
+    private UUID newProjectId;
+
+    @Column(name = "imported_tasks_count", nullable = false)
+    private int importedTasksCount;
+
+    @Column(name = "imported_notes_count", nullable = false)
+    private int importedNotesCount;
+
+    @Column(name = "imported_tags_count", nullable = false)
+    private int importedTagsCount;
+
+    @Column(name = "imported_actions_count", nullable = false)
+    private int importedActionsCount;
+
+    /** success summary or failure reason */
+    @Column(columnDefinition = "text")
+    private String message;
+
+    @Column(name = "worker_id", length = 64)
+    private String workerId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+}
@@ -0,0 +1,8 @@
+package com.task_management.entity;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    DONE,
+    FAILED
+}
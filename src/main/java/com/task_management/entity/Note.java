@@ -3,6 +3,9 @@ package com.task_management.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.time.Instant;
@@ -14,25 +17,29 @@ import java.util.UUID;
 @Table(
         name = "note",
         indexes = {
-                @Index(name = "idx_note_project", columnList = "project_id"),
-                @Index(name = "idx_note_task", columnList = "task_id")
+                @Index(name = "idx_note_project_created_at_id", columnList = "project_id, created_at, id"),
+                @Index(name = "idx_note_task_created_at_id", columnList = "task_id, created_at, id"),
+                @Index(name = "idx_note_project_updated_at_id", columnList = "project_id, updated_at, id"),
+                @Index(name = "idx_note_task_updated_at_id", columnList = "task_id, updated_at, id")
         }
 )
 public class Note {
 
     @Id
     @GeneratedValue
-    @UuidGenerator
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "uuid")
     private UUID id;
 
     /** exactly one of project or task must be set (enforced below in @PrePersist/@PreUpdate) */
     @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @JoinColumn(name = "project_id",
             foreignKey = @ForeignKey(name = "fk_note_project"))
     private Project project;
 
     @ManyToOne(fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @JoinColumn(name = "task_id",
             foreignKey = @ForeignKey(name = "fk_note_task"))
     private Task task;
@@ -44,6 +51,10 @@ public class Note {
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
     /** guard: exactly one target (project XOR task) */
     @PrePersist @PreUpdate
     private void validateTarget() {
@@ -2,7 +2,9 @@ package com.task_management.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
 
@@ -15,12 +17,19 @@ import java.util.UUID;
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 @Entity
-@Table(name = "project")
+// Soft-deleted projects vanish from every read at once; ProjectPurgeWorker removes their rows later
+@SQLRestriction("deleted_at is null")
+@Table(
+        name = "project",
+        indexes = {
+                @Index(name = "idx_project_created_at_id", columnList = "created_at desc, id")
+        }
+)
 public class Project {
 
     @Id
     @GeneratedValue
-    @UuidGenerator
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "uuid")
     private UUID id;
 
@@ -41,6 +50,17 @@ public class Project {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    // Bumped in SQL by ProjectVersionRepository and only read through it; loaded copies of this entity never see
+    // those updates, so the field has no accessors
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false, insertable = false, updatable = false)
+    private long version;
+
     @Builder.Default
     @OneToMany(mappedBy = "project", fetch = FetchType.LAZY)
     private Set<Task> tasks = new LinkedHashSet<>();
@@ -3,6 +3,8 @@ package com.task_management.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
 
@@ -18,7 +20,8 @@ import java.util.UUID;
 @Table(
         name = "tag",
         indexes = {
-                @Index(name = "idx_tag_project", columnList = "project_id"),
+                @Index(name = "idx_tag_project_end_at_id", columnList = "project_id, end_at, id"),
+                @Index(name = "idx_tag_project_updated_at_id", columnList = "project_id, updated_at, id"),
                 @Index(name = "idx_tag_start_at", columnList = "start_at"),
                 @Index(name = "idx_tag_end_at", columnList = "end_at")
         }
@@ -27,11 +30,12 @@ public class Tag {
 
     @Id
     @GeneratedValue
-    @UuidGenerator
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "uuid")
     private UUID id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @JoinColumn(name = "project_id", nullable = false,
             foreignKey = @ForeignKey(name = "fk_tag_project"))
     private Project project;
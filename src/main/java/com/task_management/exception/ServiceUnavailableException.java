@@ -0,0 +1,5 @@
+package com.task_management.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String msg) { super(msg); }
+}
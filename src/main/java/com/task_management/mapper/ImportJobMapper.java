@@ -0,0 +1,10 @@
+package com.task_management.mapper;
+
+import com.task_management.dto.ImportJobRes;
+import com.task_management.entity.ImportJob;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ImportJobMapper {
+    ImportJobRes toRes(ImportJob entity);
+}
@@ -1,34 +1,71 @@
 package com.task_management.monitoring;
 
-import com.task_management.repository.ProjectRepository;
-import com.task_management.repository.TaskRepository;
-import lombok.RequiredArgsConstructor;
+import com.task_management.repository.TableStatisticsRepository;
+import com.task_management.repository.TableStatisticsRepository.Table;
+import java.time.Clock;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
- * Contributes domain specific information to the actuator health endpoint while
- * also ensuring the persistence layer can be reached.
+ * Contributes domain specific information to the actuator health endpoint. The counts come from a snapshot that a
+ * scheduled task refreshes every {@code app.health.counts-refresh-ms} from the catalog's row estimates (see
+ * {@link TableStatisticsRepository}), so a probe never touches the tables itself. Reachability of the database
+ * is reported separately by {@link DatabaseReadinessIndicator}.
  */
 @Component
-@RequiredArgsConstructor
 public class ApplicationHealthIndicator implements HealthIndicator {
 
-    private final ProjectRepository projectRepository;
-    private final TaskRepository taskRepository;
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationHealthIndicator.class);
+
+    private final TableStatisticsRepository tableStatistics;
+    private final Clock clock;
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public ApplicationHealthIndicator(TableStatisticsRepository tableStatistics) {
+        this(tableStatistics, Clock.systemUTC());
+    }
+
+    ApplicationHealthIndicator(TableStatisticsRepository tableStatistics, Clock clock) {
+        this.tableStatistics = tableStatistics;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${app.health.counts-refresh-ms:60000}")
+    public void refresh() {
+        try {
+            snapshot = new Snapshot(tableStatistics.estimateRows(Table.PROJECT),
+                    tableStatistics.estimateRows(Table.TASK), clock.instant(), null);
+        } catch (RuntimeException ex) {
+            logger.warn("Refreshing the health counts failed", ex);
+            Snapshot previous = snapshot;
+            snapshot = previous == null
+                    ? new Snapshot(0, 0, null, ex)
+                    : new Snapshot(previous.projects(), previous.tasks(), previous.refreshedAt(), ex);
+        }
+    }
 
     @Override
     public Health health() {
-        try {
-            long projectCount = projectRepository.count();
-            long taskCount = taskRepository.count();
-            return Health.up()
-                    .withDetail("projects.count", projectCount)
-                    .withDetail("tasks.count", taskCount)
-                    .build();
-        } catch (Exception exception) {
-            return Health.down(exception).build();
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Health.unknown().withDetail("counts", "not refreshed yet").build();
         }
+        Health.Builder builder = current.error() == null ? Health.up() : Health.down(current.error());
+        if (current.refreshedAt() != null) {
+            builder.withDetail("projects.count", current.projects())
+                    .withDetail("tasks.count", current.tasks())
+                    .withDetail("counts.refreshedAt", current.refreshedAt().toString());
+        }
+        return builder.build();
+    }
+
+    private record Snapshot(long projects, long tasks, Instant refreshedAt, Exception error) {
     }
 }
@@ -0,0 +1,89 @@
+package com.task_management.monitoring;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Queue depth, dropped events and flush latency of every {@link InstrumentedAsyncAppender} on the root logger,
+ * tagged by appender name. Appenders are looked up by name on each scrape because logback replaces them when it
+ * reloads its configuration; the counters then restart from zero, which {@code rate()} treats as a reset.
+ */
+@Component
+public class AsyncLoggingMetrics {
+
+    private final LoggerContext loggerContext;
+
+    @Autowired
+    public AsyncLoggingMetrics(MeterRegistry meterRegistry) {
+        this(meterRegistry, (LoggerContext) LoggerFactory.getILoggerFactory());
+    }
+
+    AsyncLoggingMetrics(MeterRegistry meterRegistry, LoggerContext loggerContext) {
+        this.loggerContext = loggerContext;
+        for (InstrumentedAsyncAppender appender : asyncAppenders()) {
+            String name = appender.getName();
+            Gauge.builder("task_management.logging.queue.depth", this,
+                            m -> m.read(name, InstrumentedAsyncAppender::getNumberOfElementsInQueue))
+                    .description("Log events waiting for the appender's writer thread")
+                    .tag("appender", name)
+                    .register(meterRegistry);
+            Gauge.builder("task_management.logging.queue.capacity", this,
+                            m -> m.read(name, InstrumentedAsyncAppender::getQueueSize))
+                    .description("Size of the appender's bounded queue")
+                    .tag("appender", name)
+                    .register(meterRegistry);
+            FunctionCounter.builder("task_management.logging.dropped", this,
+                            m -> m.read(name, InstrumentedAsyncAppender::getDroppedCount))
+                    .description("Events at or below the discardable level dropped because the queue was nearly full")
+                    .tag("appender", name)
+                    .register(meterRegistry);
+            FunctionTimer.builder("task_management.logging.flush", this,
+                            m -> (long) m.read(name, InstrumentedAsyncAppender::getFlushedCount),
+                            m -> m.read(name, InstrumentedAsyncAppender::getFlushNanosTotal),
+                            TimeUnit.NANOSECONDS)
+                    .description("Time from the logging call until the event was written downstream")
+                    .tag("appender", name)
+                    .register(meterRegistry);
+            TimeGauge.builder("task_management.logging.flush.max", this, TimeUnit.NANOSECONDS,
+                            m -> m.read(name, InstrumentedAsyncAppender::takeMaxFlushNanos))
+                    .description("Longest flush since the previous scrape")
+                    .tag("appender", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    private double read(String name, ToDoubleFunction<InstrumentedAsyncAppender> value) {
+        for (InstrumentedAsyncAppender appender : asyncAppenders()) {
+            if (name.equals(appender.getName())) {
+                return value.applyAsDouble(appender);
+            }
+        }
+        return 0;
+    }
+
+    private List<InstrumentedAsyncAppender> asyncAppenders() {
+        List<InstrumentedAsyncAppender> appenders = new ArrayList<>();
+        Iterator<Appender<ILoggingEvent>> it =
+                loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (it.hasNext()) {
+            if (it.next() instanceof InstrumentedAsyncAppender appender) {
+                appenders.add(appender);
+            }
+        }
+        return appenders;
+    }
+}
@@ -0,0 +1,84 @@
+package com.task_management.monitoring;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Readiness of the database as seen from the connection pool. A scheduled task borrows a connection every
+ * {@code app.health.db-check-interval-ms} and validates it with {@link Connection#isValid(int)}; probes only read
+ * the last result, so a burst of probes costs nothing. A result older than {@code app.health.max-staleness-ms}
+ * counts as DOWN, which covers a check that hangs on an exhausted pool. Included in the {@code readiness} group.
+ */
+@Component("databaseReadiness")
+public class DatabaseReadinessIndicator implements HealthIndicator {
+
+    private final DataSource dataSource;
+    private final int validationTimeoutSeconds;
+    private final Duration maxStaleness;
+    private final Clock clock;
+    private volatile Check lastCheck;
+
+    @Autowired
+    public DatabaseReadinessIndicator(DataSource dataSource,
+                                      @Value("${app.health.db-validation-timeout-seconds:2}") int validationTimeoutSeconds,
+                                      @Value("${app.health.max-staleness-ms:30000}") long maxStalenessMs) {
+        this(dataSource, validationTimeoutSeconds, Duration.ofMillis(maxStalenessMs), Clock.systemUTC());
+    }
+
+    DatabaseReadinessIndicator(DataSource dataSource, int validationTimeoutSeconds, Duration maxStaleness,
+                               Clock clock) {
+        this.dataSource = dataSource;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.maxStaleness = maxStaleness;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${app.health.db-check-interval-ms:5000}")
+    public void check() {
+        long start = System.nanoTime();
+        Exception error = null;
+        boolean valid;
+        try (Connection connection = dataSource.getConnection()) {
+            valid = connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException | RuntimeException ex) {
+            valid = false;
+            error = ex;
+        }
+        lastCheck = new Check(valid, clock.instant(), Duration.ofNanos(System.nanoTime() - start), error);
+    }
+
+    @Override
+    public Health health() {
+        Check current = lastCheck;
+        if (current == null) {
+            return Health.down().withDetail("reason", "not checked yet").build();
+        }
+        Duration age = Duration.between(current.checkedAt(), clock.instant());
+        Health.Builder builder;
+        if (age.compareTo(maxStaleness) > 0) {
+            builder = Health.down().withDetail("reason", "last check is older than " + maxStaleness.toMillis() + " ms");
+        } else if (!current.valid()) {
+            builder = current.error() == null
+                    ? Health.down().withDetail("reason", "connection failed validation")
+                    : Health.down(current.error());
+        } else {
+            builder = Health.up();
+        }
+        return builder.withDetail("checkedAt", current.checkedAt().toString())
+                .withDetail("validationMs", current.duration().toMillis())
+                .build();
+    }
+
+    private record Check(boolean valid, Instant checkedAt, Duration duration, Exception error) {
+    }
+}
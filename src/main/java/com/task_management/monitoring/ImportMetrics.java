@@ -0,0 +1,47 @@
+package com.task_management.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rows copied by project imports and the time each copy phase takes, per entity type. A slow import can then be
+ * pinned on the phase that grew (typically actions, which scale with task days) rather than on the endpoint as a
+ * whole; histogram buckets and SLO boundaries come from {@code management.metrics.distribution.*}.
+ */
+@Component
+public class ImportMetrics {
+
+    public enum Entity {
+        TASK, TAG, NOTE, ACTION
+    }
+
+    private final Map<Entity, Counter> rowsCopied = new EnumMap<>(Entity.class);
+    private final Map<Entity, Timer> phaseDuration = new EnumMap<>(Entity.class);
+
+    public ImportMetrics(MeterRegistry meterRegistry) {
+        for (Entity entity : Entity.values()) {
+            String tag = entity.name().toLowerCase(Locale.ROOT);
+            rowsCopied.put(entity, Counter.builder("task_management.import.rows")
+                    .description("Rows copied into imported projects")
+                    .tag("entity", tag)
+                    .register(meterRegistry));
+            phaseDuration.put(entity, Timer.builder("task_management.import.phase")
+                    .description("Time spent copying one entity type during a project import")
+                    .tag("entity", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    /** Times one copy phase and counts the rows it reports. */
+    public int timePhase(Entity entity, Supplier<Integer> copy) {
+        int rows = phaseDuration.get(entity).record(copy);
+        rowsCopied.get(entity).increment(rows);
+        return rows;
+    }
+}
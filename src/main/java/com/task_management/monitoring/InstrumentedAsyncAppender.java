@@ -0,0 +1,117 @@
+package com.task_management.monitoring;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback {@link AsyncAppender} that hands events to a bounded queue drained by its own writer thread, so request
+ * threads no longer wait on console or file I/O. Once fewer than {@code discardingThreshold} slots are left, events
+ * at or below {@code discardableLevel} (INFO by default) are dropped and counted; WARN and ERROR are never dropped
+ * and wait for room instead, which is why {@code neverBlock} is not supported.
+ *
+ * <p>Flush latency is the time from the logging call to the end of the downstream write. It is read by
+ * {@link AsyncLoggingMetrics} together with the queue depth and the dropped count.
+ */
+public class InstrumentedAsyncAppender extends AsyncAppender {
+
+    private Level discardableLevel = Level.INFO;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder flushNanos = new LongAdder();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    public void setDiscardableLevel(String level) {
+        Level parsed = Level.toLevel(level, null);
+        if (parsed == null || parsed.isGreaterOrEqual(Level.WARN)) {
+            addWarn("discardableLevel must be TRACE, DEBUG or INFO, keeping " + discardableLevel + ": " + level);
+            return;
+        }
+        this.discardableLevel = parsed;
+    }
+
+    public String getDiscardableLevel() {
+        return discardableLevel.levelStr;
+    }
+
+    @Override
+    public void start() {
+        if (isNeverBlock()) {
+            addWarn("neverBlock would drop WARN and ERROR events on a full queue; ignoring it");
+            setNeverBlock(false);
+        }
+        super.start();
+    }
+
+    /** Only consulted once the queue is below the discarding threshold. */
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        if (event.getLevel().toInt() > discardableLevel.toInt()) {
+            return false;
+        }
+        dropped.increment();
+        return true;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        super.addAppender(new TimedAppender(appender, this));
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getFlushedCount() {
+        return flushed.sum();
+    }
+
+    public double getFlushNanosTotal() {
+        return flushNanos.sum();
+    }
+
+    /** Longest flush since the previous call. */
+    public long takeMaxFlushNanos() {
+        return maxFlushNanos.getAndSet(0);
+    }
+
+    private void recordFlush(ILoggingEvent event) {
+        long nanos = Math.max(0, Duration.between(event.getInstant(), Instant.now()).toNanos());
+        flushed.increment();
+        flushNanos.add(nanos);
+        maxFlushNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /** Runs on the writer thread: forwards each event and times it from its creation. */
+    private static final class TimedAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+        private final Appender<ILoggingEvent> delegate;
+        private final InstrumentedAsyncAppender owner;
+
+        TimedAppender(Appender<ILoggingEvent> delegate, InstrumentedAsyncAppender owner) {
+            this.delegate = delegate;
+            this.owner = owner;
+            setName(delegate.getName());
+            setContext(delegate.getContext());
+            super.start();
+        }
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            delegate.doAppend(event);
+            owner.recordFlush(event);
+        }
+
+        @Override
+        public void stop() {
+            delegate.stop();
+            super.stop();
+        }
+    }
+}
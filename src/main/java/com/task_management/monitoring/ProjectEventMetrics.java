@@ -0,0 +1,55 @@
+package com.task_management.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Project event streams on this node. Overflow disconnects count subscribers that fell a whole queue behind and
+ * were told to resync; a steady rate of them means clients, or the network to them, cannot keep up.
+ */
+@Component
+public class ProjectEventMetrics {
+
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Counter eventsSent;
+    private final Counter overflowDisconnects;
+    private final Counter rejectedSubscriptions;
+
+    public ProjectEventMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("task_management.events.subscribers", subscribers, AtomicInteger::get)
+                .description("Open project event streams on this node")
+                .register(meterRegistry);
+        this.eventsSent = Counter.builder("task_management.events.sent")
+                .description("Events written to project event streams")
+                .register(meterRegistry);
+        this.overflowDisconnects = Counter.builder("task_management.events.overflow")
+                .description("Streams closed because their send queue filled up")
+                .register(meterRegistry);
+        this.rejectedSubscriptions = Counter.builder("task_management.events.rejected")
+                .description("Subscriptions refused at the per-node limit")
+                .register(meterRegistry);
+    }
+
+    public void subscribed() {
+        subscribers.incrementAndGet();
+    }
+
+    public void unsubscribed() {
+        subscribers.decrementAndGet();
+    }
+
+    public void incrementSent() {
+        eventsSent.increment();
+    }
+
+    public void incrementOverflow() {
+        overflowDisconnects.increment();
+    }
+
+    public void incrementRejected() {
+        rejectedSubscriptions.increment();
+    }
+}
@@ -0,0 +1,51 @@
+package com.task_management.monitoring;
+
+import com.task_management.repository.ProjectPurgeRepository.Table;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Progress of the background project purge. {@code rate()} over the rows counter gives rows purged per second
+ * per table; the chunk timer shows how long each bounded delete holds its locks.
+ */
+@Component
+public class PurgeMetrics {
+
+    private final Map<Table, Counter> rowsPurged = new EnumMap<>(Table.class);
+    private final Timer chunkDuration;
+    private final Counter projectsPurged;
+
+    public PurgeMetrics(MeterRegistry meterRegistry) {
+        for (Table table : Table.values()) {
+            rowsPurged.put(table, Counter.builder("task_management.purge.rows")
+                    .description("Rows removed by the background project purge")
+                    .tag("table", table.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        this.chunkDuration = Timer.builder("task_management.purge.chunk")
+                .description("Time spent in one bounded purge delete")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.projectsPurged = Counter.builder("task_management.purge.projects")
+                .description("Soft-deleted projects whose rows have been fully removed")
+                .register(meterRegistry);
+    }
+
+    public int timeChunk(Supplier<Integer> delete) {
+        return chunkDuration.record(delete);
+    }
+
+    public void recordRows(Table table, int rows) {
+        rowsPurged.get(table).increment(rows);
+    }
+
+    public void incrementProjectsPurged() {
+        projectsPurged.increment();
+    }
+}
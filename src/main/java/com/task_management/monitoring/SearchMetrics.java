@@ -0,0 +1,34 @@
+package com.task_management.monitoring;
+
+import com.task_management.dto.SearchHitType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-entity latency of the project search, so a slow source shows up on its own instead of inside the endpoint
+ * timing.
+ */
+@Component
+public class SearchMetrics {
+
+    private final Map<SearchHitType, Timer> latencies = new EnumMap<>(SearchHitType.class);
+
+    public SearchMetrics(MeterRegistry meterRegistry) {
+        for (SearchHitType type : SearchHitType.values()) {
+            latencies.put(type, Timer.builder("task_management.search.latency")
+                    .description("Time spent querying one entity type for a project search")
+                    .tag("type", type.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public <T> T time(SearchHitType type, Supplier<T> query) {
+        return latencies.get(type).record(query);
+    }
+}
@@ -0,0 +1,76 @@
+package com.task_management.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Times every public method of the {@code com.task_management.service} interfaces as
+ * {@code task_management.operation}, tagged with the entity ({@code TaskServiceImpl} gives {@code task}), the
+ * operation ({@code createBulk} gives {@code create_bulk}) and the exception class, or {@code none}. Runs outside
+ * the transaction advice so the timing includes the commit. Percentile histograms and SLO boundaries are set with
+ * {@code management.metrics.distribution.*}.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceOperationMetrics {
+
+    static final String METRIC = "task_management.operation";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+    public ServiceOperationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.task_management.service.*Service+.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> target = ClassUtils.getUserClass(joinPoint.getTarget());
+        try {
+            Object result = joinPoint.proceed();
+            successTimers.computeIfAbsent(method, m -> timer(target, m, NO_EXCEPTION))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            timer(target, method, ex.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    private Timer timer(Class<?> target, Method method, String exception) {
+        return Timer.builder(METRIC)
+                .description("Latency of service operations by entity and operation")
+                .tag("entity", entity(target))
+                .tag("operation", snakeCase(method.getName()))
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+
+    static String entity(Class<?> target) {
+        String name = target.getSimpleName();
+        int cut = name.indexOf("Service");
+        return snakeCase(cut > 0 ? name.substring(0, cut) : name);
+    }
+
+    static String snakeCase(String camelCase) {
+        return camelCase.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+}
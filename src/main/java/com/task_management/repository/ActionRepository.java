@@ -3,14 +3,35 @@ package com.task_management.repository;
 import com.task_management.entity.Action;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface ActionRepository extends JpaRepository<Action, UUID> {
-    Page<Action> findByTaskIdOrderByDayAsc(UUID taskId, Pageable pageable);
+    // Explicit query on the foreign key: the derived "TaskId" method joins task and loses the index
+    @Query(value = "select a from Action a where a.task.id = :taskId order by a.day asc",
+            countQuery = "select count(a) from Action a where a.task.id = :taskId")
+    Page<Action> findByTaskIdOrderByDayAsc(@Param("taskId") UUID taskId, Pageable pageable);
+
+    // Keyset pages on (day, id), served by idx_action_task_day_id; the caller asks for one extra row
+    @Query("""
+      select a from Action a
+      where a.task.id = :taskId
+      order by a.day asc, a.id asc
+      """)
+    List<Action> findFirstByTask(@Param("taskId") UUID taskId, Limit limit);
+
+    @Query("""
+      select a from Action a
+      where a.task.id = :taskId and (a.day, a.id) > (:day, :id)
+      order by a.day asc, a.id asc
+      """)
+    List<Action> findByTaskAfter(@Param("taskId") UUID taskId, @Param("day") int day, @Param("id") UUID id,
+                                 Limit limit);
     
     @Query("select count(a) from Action a where a.task.id = :taskId")
     long countByTaskId(@Param("taskId") UUID taskId);
@@ -27,4 +48,8 @@ public interface ActionRepository extends JpaRepository<Action, UUID> {
     
     @Query("select a from Action a join fetch a.task t where t.project.id = :projectId")
     List<Action> findByProjectId(@Param("projectId") UUID projectId);
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("delete from Action a where a.id = :id")
+    int deleteRowById(@Param("id") UUID id);
+}
@@ -0,0 +1,137 @@
+package com.task_management.repository;
+
+import com.task_management.entity.ChangeEntityType;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Change keys for delta sync and the tombstones behind them. Every source is read in {@code (updated_at, id)}
+ * order from its own index and cut at the page size before the sources are merged, so a page never sorts more
+ * than six page-sized slices whatever the size of the catch-up. Tombstones are recorded before the delete
+ * they describe, while the rows they are resolved from still exist; a task tombstones its notes and actions
+ * with it, since those go through its {@code ON DELETE CASCADE}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChangeFeedRepository {
+
+    public record ChangeKey(ChangeEntityType type, UUID id, Instant changedAt, boolean deleted) {}
+
+    // Each slice: rows after the cursor and at or before the upper bound, in cursor order, at most one page
+    private static final String SLICE = """
+            (SELECT '%s' AS entity_type, %s.id AS id, %s.updated_at AS changed_at, FALSE AS deleted
+             FROM %s
+             WHERE %s AND (%s.updated_at, %s.id) > (?, ?) AND %s.updated_at <= ?
+             ORDER BY %s.updated_at, %s.id LIMIT ?)
+            """;
+
+    private static final String CHANGES = "SELECT * FROM ("
+            + slice(ChangeEntityType.TASK, "t", "task t", "t.project_id = ?")
+            + " UNION ALL " + slice(ChangeEntityType.TAG, "g", "tag g", "g.project_id = ?")
+            + " UNION ALL " + slice(ChangeEntityType.NOTE, "n", "note n", "n.project_id = ?")
+            + " UNION ALL " + slice(ChangeEntityType.NOTE, "n", "note n JOIN task t ON t.id = n.task_id",
+                    "t.project_id = ?")
+            + " UNION ALL " + slice(ChangeEntityType.ACTION, "a", "action a JOIN task t ON t.id = a.task_id",
+                    "t.project_id = ?")
+            + """
+             UNION ALL
+            (SELECT d.entity_type, d.entity_id, d.deleted_at, TRUE
+             FROM change_tombstone d
+             WHERE d.project_id = ? AND (d.deleted_at, d.entity_id) > (?, ?) AND d.deleted_at <= ?
+             ORDER BY d.deleted_at, d.entity_id LIMIT ?)
+            ) c ORDER BY c.changed_at, c.id LIMIT ?
+            """;
+
+    // The parameters are typed explicitly: a bare placeholder in a UNION column has no type to infer on H2
+    private static final String TOMBSTONE_TASK = """
+            INSERT INTO change_tombstone (entity_id, project_id, entity_type, deleted_at)
+            SELECT t.id, t.project_id, 'TASK', CAST(? AS TIMESTAMP WITH TIME ZONE)
+            FROM task t WHERE t.id = ?
+            UNION ALL
+            SELECT a.id, t.project_id, 'ACTION', CAST(? AS TIMESTAMP WITH TIME ZONE)
+            FROM action a JOIN task t ON t.id = a.task_id WHERE t.id = ?
+            UNION ALL
+            SELECT n.id, t.project_id, 'NOTE', CAST(? AS TIMESTAMP WITH TIME ZONE)
+            FROM note n JOIN task t ON t.id = n.task_id WHERE t.id = ?
+            """;
+
+    private static final String TOMBSTONE_TAG = """
+            INSERT INTO change_tombstone (entity_id, project_id, entity_type, deleted_at)
+            SELECT id, project_id, 'TAG', ? FROM tag WHERE id = ?
+            """;
+
+    private static final String TOMBSTONE_NOTE = """
+            INSERT INTO change_tombstone (entity_id, project_id, entity_type, deleted_at)
+            SELECT n.id, coalesce(n.project_id, t.project_id), 'NOTE', ?
+            FROM note n LEFT JOIN task t ON t.id = n.task_id WHERE n.id = ?
+            """;
+
+    private static final String TOMBSTONE_ACTION = """
+            INSERT INTO change_tombstone (entity_id, project_id, entity_type, deleted_at)
+            SELECT a.id, t.project_id, 'ACTION', ? FROM action a JOIN task t ON t.id = a.task_id WHERE a.id = ?
+            """;
+
+    private static final String PURGE_EXPIRED = """
+            DELETE FROM change_tombstone WHERE entity_id IN (
+                SELECT entity_id FROM change_tombstone WHERE deleted_at < ? LIMIT ?)
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    private static String slice(ChangeEntityType type, String alias, String from, String owner) {
+        return SLICE.formatted(type.name(), alias, alias, from, owner, alias, alias, alias, alias, alias);
+    }
+
+    /** Up to {@code limit} changes with {@code (changedAt, id)} after the given position and at or before {@code upTo}. */
+    public List<ChangeKey> findChanges(UUID projectId, Instant afterAt, UUID afterId, Instant upTo, int limit) {
+        Timestamp after = Timestamp.from(afterAt);
+        Timestamp bound = Timestamp.from(upTo);
+        Object[] slice = {after, afterId, bound, limit};
+        Object[] args = new Object[6 * (slice.length + 1) + 1];
+        for (int i = 0; i < 6; i++) {
+            args[i * 5] = projectId;
+            System.arraycopy(slice, 0, args, i * 5 + 1, slice.length);
+        }
+        args[args.length - 1] = limit;
+        return jdbc.query(CHANGES, (rs, rowNum) -> new ChangeKey(
+                ChangeEntityType.valueOf(rs.getString("entity_type")),
+                rs.getObject("id", UUID.class),
+                rs.getTimestamp("changed_at").toInstant(),
+                rs.getBoolean("deleted")), args);
+    }
+
+    public void recordTaskDeletion(UUID taskId, Instant at) {
+        Timestamp deletedAt = Timestamp.from(at);
+        jdbc.update(TOMBSTONE_TASK, deletedAt, taskId, deletedAt, taskId, deletedAt, taskId);
+    }
+
+    public void recordTaskDeletions(Collection<UUID> taskIds, Instant at) {
+        Timestamp deletedAt = Timestamp.from(at);
+        jdbc.batchUpdate(TOMBSTONE_TASK, taskIds.stream()
+                .map(id -> new Object[]{deletedAt, id, deletedAt, id, deletedAt, id})
+                .toList());
+    }
+
+    public void recordTagDeletion(UUID tagId, Instant at) {
+        jdbc.update(TOMBSTONE_TAG, Timestamp.from(at), tagId);
+    }
+
+    public void recordNoteDeletion(UUID noteId, Instant at) {
+        jdbc.update(TOMBSTONE_NOTE, Timestamp.from(at), noteId);
+    }
+
+    public void recordActionDeletion(UUID actionId, Instant at) {
+        jdbc.update(TOMBSTONE_ACTION, Timestamp.from(at), actionId);
+    }
+
+    /** Removes at most {@code limit} tombstones older than {@code before}. */
+    public int purgeTombstones(Instant before, int limit) {
+        return jdbc.update(PURGE_EXPIRED, Timestamp.from(before), limit);
+    }
+}
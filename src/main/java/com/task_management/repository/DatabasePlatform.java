@@ -0,0 +1,30 @@
+package com.task_management.repository;
+
+import java.sql.DatabaseMetaData;
+import javax.sql.DataSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the database product once at startup so data access code can choose between
+ * PostgreSQL-specific SQL and a portable fallback (H2 is used in tests).
+ */
+@Component
+public class DatabasePlatform {
+
+    private final boolean postgres;
+
+    public DatabasePlatform(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            this.postgres = "PostgreSQL".equalsIgnoreCase(product);
+        } catch (MetaDataAccessException ex) {
+            throw new IllegalStateException("Unable to determine database platform", ex);
+        }
+    }
+
+    public boolean isPostgres() {
+        return postgres;
+    }
+}
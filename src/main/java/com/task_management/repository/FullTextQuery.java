@@ -0,0 +1,27 @@
+package com.task_management.repository;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Turns free text into a PostgreSQL {@code to_tsquery} expression. Every word becomes a prefix match and
+ * all words are required, so "plan rev" finds "Planning review"; operators typed by the user are dropped.
+ */
+public final class FullTextQuery {
+
+    private FullTextQuery() {
+    }
+
+    /** Returns the tsquery text, or {@code null} when the input contains no searchable words. */
+    public static String toPrefixQuery(String text) {
+        if (text == null) {
+            return null;
+        }
+        String query = Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .map(word -> word + ":*")
+                .collect(Collectors.joining(" & "));
+        return query.isEmpty() ? null : query;
+    }
+}
@@ -0,0 +1,73 @@
+package com.task_management.repository;
+
+import com.task_management.entity.ImportJob;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ImportJobRepository extends JpaRepository<ImportJob, UUID> {
+    // Row lock without waiting: concurrent workers on other nodes skip the job instead of blocking on it
+    @Query(value = """
+      select * from import_job
+      where status = 'QUEUED'
+      order by created_at
+      limit 1
+      for update skip locked
+      """, nativeQuery = true)
+    Optional<ImportJob> lockNextQueued();
+
+    @Modifying
+    @Query("""
+      update ImportJob j
+      set j.status = com.task_management.entity.ImportJobStatus.FAILED,
+          j.message = :message, j.finishedAt = :now, j.updatedAt = :now
+      where j.status = com.task_management.entity.ImportJobStatus.RUNNING and j.updatedAt < :cutoff
+      """)
+    int failStale(@Param("cutoff") Instant cutoff, @Param("now") Instant now, @Param("message") String message);
+
+    // Writes after the claim only apply while the job is still RUNNING, so a job failed as stale stays failed
+    @Modifying
+    @Query("""
+      update ImportJob j
+      set j.importedTasksCount = :tasks, j.importedNotesCount = :notes,
+          j.importedTagsCount = :tags, j.importedActionsCount = :actions, j.updatedAt = :now
+      where j.id = :id and j.status = com.task_management.entity.ImportJobStatus.RUNNING
+      """)
+    int updateProgressIfRunning(@Param("id") UUID id,
+                                @Param("tasks") int tasks,
+                                @Param("notes") int notes,
+                                @Param("tags") int tags,
+                                @Param("actions") int actions,
+                                @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+      update ImportJob j
+      set j.status = com.task_management.entity.ImportJobStatus.DONE, j.newProjectId = :newProjectId,
+          j.importedTasksCount = :tasks, j.importedNotesCount = :notes,
+          j.importedTagsCount = :tags, j.importedActionsCount = :actions,
+          j.message = :message, j.finishedAt = :now, j.updatedAt = :now
+      where j.id = :id and j.status = com.task_management.entity.ImportJobStatus.RUNNING
+      """)
+    int completeIfRunning(@Param("id") UUID id,
+                          @Param("newProjectId") UUID newProjectId,
+                          @Param("tasks") int tasks,
+                          @Param("notes") int notes,
+                          @Param("tags") int tags,
+                          @Param("actions") int actions,
+                          @Param("message") String message,
+                          @Param("now") Instant now);
+
+    @Modifying
+    @Query("""
+      update ImportJob j
+      set j.status = com.task_management.entity.ImportJobStatus.FAILED,
+          j.message = :message, j.finishedAt = :now, j.updatedAt = :now
+      where j.id = :id and j.status = com.task_management.entity.ImportJobStatus.RUNNING
+      """)
+    int failIfRunning(@Param("id") UUID id, @Param("message") String message, @Param("now") Instant now);
+}
@@ -1,25 +1,73 @@
 package com.task_management.repository;
 
 import com.task_management.entity.Note;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
 public interface NoteRepository extends JpaRepository<Note, UUID> {
-    // Notes attached to a project
-    Page<Note> findByProjectIdOrderByCreatedAtDesc(UUID projectId, Pageable pageable);
-    List<Note> findByProjectId(UUID projectId);
+    // Notes attached to a project. The owner filters are written against the foreign keys: derived
+    // "ProjectId"/"TaskId" methods outer-join the nullable owner and end up scanning the whole table.
+    @Query(value = "select n from Note n where n.project.id = :projectId order by n.createdAt desc",
+            countQuery = "select count(n) from Note n where n.project.id = :projectId")
+    Page<Note> findByProjectIdOrderByCreatedAtDesc(@Param("projectId") UUID projectId, Pageable pageable);
+
+    @Query("select n from Note n where n.project.id = :projectId")
+    List<Note> findByProjectId(@Param("projectId") UUID projectId);
+
     // Notes attached to a task
-    Page<Note> findByTaskIdOrderByCreatedAtDesc(UUID taskId, Pageable pageable);
+    @Query(value = "select n from Note n where n.task.id = :taskId order by n.createdAt desc",
+            countQuery = "select count(n) from Note n where n.task.id = :taskId")
+    Page<Note> findByTaskIdOrderByCreatedAtDesc(@Param("taskId") UUID taskId, Pageable pageable);
+
+    // Keyset pages on (created_at, id) descending, served by the (owner, created_at, id) indexes
+    @Query("""
+      select n from Note n
+      where n.project.id = :projectId
+      order by n.createdAt desc, n.id desc
+      """)
+    List<Note> findFirstByProject(@Param("projectId") UUID projectId, Limit limit);
+
+    @Query("""
+      select n from Note n
+      where n.project.id = :projectId and (n.createdAt, n.id) < (:createdAt, :id)
+      order by n.createdAt desc, n.id desc
+      """)
+    List<Note> findByProjectBefore(@Param("projectId") UUID projectId, @Param("createdAt") Instant createdAt,
+                                   @Param("id") UUID id, Limit limit);
+
+    @Query("""
+      select n from Note n
+      where n.task.id = :taskId
+      order by n.createdAt desc, n.id desc
+      """)
+    List<Note> findFirstByTask(@Param("taskId") UUID taskId, Limit limit);
+
+    @Query("""
+      select n from Note n
+      where n.task.id = :taskId and (n.createdAt, n.id) < (:createdAt, :id)
+      order by n.createdAt desc, n.id desc
+      """)
+    List<Note> findByTaskBefore(@Param("taskId") UUID taskId, @Param("createdAt") Instant createdAt,
+                                @Param("id") UUID id, Limit limit);
     
     // Find all task-specific notes for a project (for import functionality)
     @Query("select n from Note n join fetch n.task t where t.project.id = :projectId and n.task is not null")
     List<Note> findTaskNotesByProjectId(@Param("projectId") UUID projectId);
 
     // For cascade checks in service layer
-    long countByProjectId(UUID projectId);
-    long countByTaskId(UUID taskId);
+    @Query("select count(n) from Note n where n.project.id = :projectId")
+    long countByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("select count(n) from Note n where n.task.id = :taskId")
+    long countByTaskId(@Param("taskId") UUID taskId);
+
+    @Modifying
+    @Query("delete from Note n where n.id = :id")
+    int deleteRowById(@Param("id") UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.task_management.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Row-at-a-time reads of a whole project for export. Every section selects the same {@link #FIELDS}, with NULL
+ * where a field does not apply, so one writer serves all of them. The template carries
+ * {@code app.export.fetch-size}: inside a transaction that makes the PostgreSQL driver read through a server-side
+ * cursor, holding one fetch of rows in memory however large the project is. Rows come in no particular order; an
+ * ORDER BY would have the database sort the whole section before the first row goes out.
+ */
+@Repository
+public class ProjectExportRepository {
+
+    public enum Section {
+        PROJECT("""
+                SELECT p.id, NULL, NULL, p.name, NULL, p.description, NULL, NULL, NULL, NULL, NULL, NULL, NULL,
+                       NULL, NULL, NULL, p.start_date, p.created_at, p.updated_at
+                FROM project p WHERE p.id = ? AND p.deleted_at IS NULL
+                """),
+        TASK("""
+                SELECT t.id, t.project_id, NULL, NULL, t.title, t.description, NULL, NULL, t.is_activity, t.duration,
+                       t.start_at, t.end_at, t.start_day, t.end_day, NULL, t.color, NULL, t.created_at, t.updated_at
+                FROM task t WHERE t.project_id = ?
+                """),
+        TAG("""
+                SELECT g.id, g.project_id, NULL, NULL, g.title, g.description, NULL, NULL, g.is_activity, g.duration,
+                       g.start_at, g.end_at, g.start_day, g.end_day, NULL, g.color, NULL, g.created_at, g.updated_at
+                FROM tag g WHERE g.project_id = ?
+                """),
+        PROJECT_NOTE("""
+                SELECT n.id, n.project_id, NULL, NULL, NULL, NULL, n.body, NULL, NULL, NULL, NULL, NULL, NULL, NULL,
+                       NULL, NULL, NULL, n.created_at, n.updated_at
+                FROM note n WHERE n.project_id = ?
+                """),
+        TASK_NOTE("""
+                SELECT n.id, t.project_id, n.task_id, NULL, NULL, NULL, n.body, NULL, NULL, NULL, NULL, NULL, NULL,
+                       NULL, NULL, NULL, NULL, n.created_at, n.updated_at
+                FROM note n JOIN task t ON t.id = n.task_id WHERE t.project_id = ?
+                """),
+        ACTION("""
+                SELECT a.id, t.project_id, a.task_id, NULL, NULL, NULL, NULL, a.details, NULL, NULL, NULL, NULL, NULL,
+                       NULL, a.day, NULL, NULL, a.created_at, a.updated_at
+                FROM action a JOIN task t ON t.id = a.task_id WHERE t.project_id = ?
+                """);
+
+        private final String select;
+
+        Section(String select) {
+            this.select = select;
+        }
+    }
+
+    public static final List<String> FIELDS = List.of("id", "projectId", "taskId", "name", "title", "description",
+            "body", "details", "activity", "duration", "startAt", "endAt", "startDay", "endDay", "day", "color",
+            "startDate", "createdAt", "updatedAt");
+
+    private enum Kind { UUID, TEXT, BOOLEAN, INTEGER, INSTANT, DATE }
+
+    private static final List<Kind> KINDS = List.of(Kind.UUID, Kind.UUID, Kind.UUID, Kind.TEXT, Kind.TEXT, Kind.TEXT,
+            Kind.TEXT, Kind.TEXT, Kind.BOOLEAN, Kind.INTEGER, Kind.INSTANT, Kind.INSTANT, Kind.INTEGER, Kind.INTEGER,
+            Kind.INTEGER, Kind.TEXT, Kind.DATE, Kind.INSTANT, Kind.INSTANT);
+
+    @FunctionalInterface
+    public interface RowHandler {
+        /** {@code values} follow {@link #FIELDS} and hold UUID, String, Boolean, Integer, Instant or LocalDate. */
+        void row(Object[] values) throws IOException;
+    }
+
+    private final JdbcTemplate jdbc;
+
+    public ProjectExportRepository(DataSource dataSource, @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.jdbc.setFetchSize(fetchSize);
+    }
+
+    /** Streams the section's rows of one project to {@code handler}; call inside a transaction to use a cursor. */
+    public void forEachRow(Section section, UUID projectId, RowHandler handler) throws IOException {
+        Object[] values = new Object[FIELDS.size()];
+        try {
+            jdbc.query(section.select, rs -> {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = read(rs, i + 1, KINDS.get(i));
+                }
+                try {
+                    handler.row(values);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }, projectId);
+        } catch (UncheckedIOException ex) {
+            // Usually the client going away; surfaced as such rather than as a data access failure
+            throw ex.getCause();
+        }
+    }
+
+    private static Object read(ResultSet rs, int column, Kind kind) throws SQLException {
+        return switch (kind) {
+            case UUID -> rs.getObject(column, UUID.class);
+            case TEXT -> rs.getString(column);
+            case BOOLEAN -> rs.getObject(column, Boolean.class);
+            case INTEGER -> rs.getObject(column, Integer.class);
+            case INSTANT -> {
+                OffsetDateTime at = rs.getObject(column, OffsetDateTime.class);
+                yield at == null ? null : at.toInstant();
+            }
+            case DATE -> rs.getObject(column, LocalDate.class);
+        };
+    }
+}
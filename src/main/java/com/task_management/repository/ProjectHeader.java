@@ -0,0 +1,12 @@
+package com.task_management.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** The few project columns that child-entity writes validate against, without loading the project itself. */
+public record ProjectHeader(
+        UUID id,
+        String name,
+        LocalDate startDate
+) {
+}
@@ -0,0 +1,63 @@
+package com.task_management.repository;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Bounded deletes for soft-deleted projects. Every call removes at most {@code limit} rows of one table, so a
+ * purge never holds more row locks or writes more WAL at once than one chunk. Tables are listed children first:
+ * by the time the task rows go, nothing is left for their {@code ON DELETE CASCADE} to walk.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectPurgeRepository {
+
+    public enum Table {
+        ACTION("""
+                DELETE FROM action WHERE id IN (
+                    SELECT a.id FROM action a JOIN task t ON t.id = a.task_id
+                    WHERE t.project_id = (%s) LIMIT ?)
+                """),
+        TASK_NOTE("""
+                DELETE FROM note WHERE id IN (
+                    SELECT n.id FROM note n JOIN task t ON t.id = n.task_id
+                    WHERE t.project_id = (%s) LIMIT ?)
+                """),
+        TASK("DELETE FROM task WHERE id IN (SELECT id FROM task WHERE project_id = (%s) LIMIT ?)"),
+        TAG("DELETE FROM tag WHERE id IN (SELECT id FROM tag WHERE project_id = (%s) LIMIT ?)"),
+        PROJECT_NOTE("DELETE FROM note WHERE id IN (SELECT id FROM note WHERE project_id = (%s) LIMIT ?)"),
+        TOMBSTONE("""
+                DELETE FROM change_tombstone WHERE entity_id IN (
+                    SELECT entity_id FROM change_tombstone WHERE project_id = (%s) LIMIT ?)
+                """);
+
+        private final String deleteChunk;
+
+        Table(String deleteChunk) {
+            this.deleteChunk = deleteChunk.formatted(MARKED_PROJECT);
+        }
+    }
+
+    // Resolves to NULL unless the project is soft-deleted, so a chunk can never reach a live project's rows
+    private static final String MARKED_PROJECT = "SELECT id FROM project WHERE id = ? AND deleted_at IS NOT NULL";
+
+    private final JdbcTemplate jdbc;
+
+    /** Oldest deletions first; served by the partial index on deleted_at. */
+    public List<UUID> findPending(int limit) {
+        return jdbc.queryForList(
+                "SELECT id FROM project WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT ?", UUID.class, limit);
+    }
+
+    public int deleteChunk(Table table, UUID projectId, int limit) {
+        return jdbc.update(table.deleteChunk, projectId, limit);
+    }
+
+    /** Removes the project row itself once its children are gone; never touches a live project. */
+    public int deleteProject(UUID projectId) {
+        return jdbc.update("DELETE FROM project WHERE id = ? AND deleted_at IS NOT NULL", projectId);
+    }
+}
@@ -1,19 +1,73 @@
 package com.task_management.repository;
 
+import com.task_management.dto.ProjectSummaryRes;
 import com.task_management.entity.Project;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
-    @EntityGraph(attributePaths = {"tasks", "tags"})
-    Page<Project> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    String SUMMARY_SELECT = """
+      select new com.task_management.dto.ProjectSummaryRes(
+          p.id, p.name, p.description, p.startDate, p.createdAt, p.updatedAt,
+          (select count(t) from Task t where t.project = p),
+          (select count(t) from Task t where t.project = p and t.activity = true),
+          (select count(g) from Tag g where g.project = p),
+          (select count(n) from Note n left join n.task nt where n.project = p or nt.project = p),
+          (select min(t.startDay) from Task t where t.project = p),
+          (select max(t.endDay) from Task t where t.project = p))
+      from Project p
+      """;
+
+    // Paging happens on ids only; children are fetched afterwards for just that page
+    @Query(value = "select p.id from Project p order by p.createdAt desc",
+            countQuery = "select count(p) from Project p")
+    Page<UUID> findPageIds(Pageable pageable);
+
+    // One fetch join per collection so tasks x tags never multiply into a cartesian product
+    @Query("select distinct p from Project p left join fetch p.tasks where p.id in :ids")
+    List<Project> findAllWithTasksByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select distinct p from Project p left join fetch p.tags where p.id in :ids")
+    List<Project> findAllWithTagsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Task, tag and note writes only need the start date and the FK target: one narrow primary-key read instead of
+    // the project with all its tasks and tags
+    @Query("select new com.task_management.repository.ProjectHeader(p.id, p.name, p.startDate) "
+            + "from Project p where p.id = :id")
+    Optional<ProjectHeader> findHeaderById(@Param("id") UUID id);
 
     @EntityGraph(attributePaths = {"tasks", "tags"})
     java.util.Optional<Project> findById(UUID id);
 
+    // Summary view: every aggregate is a correlated subquery so the whole row comes back in one round trip.
+    // The activity count uses the same predicate as TaskRepository.countActivities.
+    @Query(SUMMARY_SELECT + " where p.id = :id")
+    Optional<ProjectSummaryRes> findSummaryById(@Param("id") UUID id);
+
+    @Query(value = SUMMARY_SELECT + " order by p.createdAt desc",
+            countQuery = "select count(p) from Project p")
+    Page<ProjectSummaryRes> findSummaries(Pageable pageable);
+
     boolean existsByNameIgnoreCase(String name);
+
+    // One statement, no entity load; children go through the ON DELETE CASCADE foreign keys
+    @Modifying
+    @Query("delete from Project p where p.id = :id")
+    int deleteRowById(@Param("id") UUID id);
+
+    // The entity restriction also applies here, so a project that is already marked is reported as missing
+    @Modifying
+    @Query("update Project p set p.deletedAt = :now where p.id = :id")
+    int markDeleted(@Param("id") UUID id, @Param("now") Instant now);
 }
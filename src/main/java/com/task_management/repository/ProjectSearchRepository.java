@@ -0,0 +1,155 @@
+package com.task_management.repository;
+
+import com.task_management.dto.SearchHitRes;
+import com.task_management.dto.SearchHitType;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Ranked, limited search over one entity type of a project. Every query returns hits ordered by score
+ * descending. On PostgreSQL scores come from {@code ts_rank}; elsewhere (H2 in tests) a LIKE match gets the
+ * fixed weight of the column it hit (title 1.0, body text 0.4). Scores only order hits within one type:
+ * {@code ts_rank} depends on the document it ranks, so a task score and a note score are not comparable.
+ *
+ * <p>Note and action bodies are matched through the GIN expression indexes on
+ * {@code to_tsvector('simple', ...)}, so the queries must keep that exact expression.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectSearchRepository {
+
+    static final int SNIPPET_LENGTH = 200;
+
+    private static final String PG_TASKS = """
+            SELECT t.id, t.id AS task_id, t.title, t.description AS snippet,
+                   ts_rank(t.search_vector, q.query) AS score
+            FROM task t, to_tsquery('simple', ?) q(query)
+            WHERE t.project_id = ? AND t.search_vector @@ q.query
+            ORDER BY score DESC, t.id
+            LIMIT ?
+            """;
+
+    private static final String PG_TAGS = """
+            SELECT g.id, NULL AS task_id, g.title, g.description AS snippet,
+                   ts_rank(g.search_vector, q.query) AS score
+            FROM tag g, to_tsquery('simple', ?) q(query)
+            WHERE g.project_id = ? AND g.search_vector @@ q.query
+            ORDER BY score DESC, g.id
+            LIMIT ?
+            """;
+
+    // Body text is weighted like a description ('B'). Project notes and task notes are separate branches so
+    // each one can combine its owner index with the body index instead of filtering an OR across the join.
+    private static final String PG_NOTES = """
+            SELECT hit.id, hit.task_id, hit.title, hit.snippet, hit.score
+            FROM (
+                SELECT n.id, n.task_id, NULL AS title, n.body AS snippet,
+                       ts_rank(setweight(to_tsvector('simple', n.body), 'B'), q.query) AS score
+                FROM note n, to_tsquery('simple', ?) q(query)
+                WHERE n.project_id = ? AND to_tsvector('simple', n.body) @@ q.query
+                UNION ALL
+                SELECT n.id, n.task_id, t.title, n.body AS snippet,
+                       ts_rank(setweight(to_tsvector('simple', n.body), 'B'), q.query) AS score
+                FROM note n
+                JOIN task t ON t.id = n.task_id,
+                     to_tsquery('simple', ?) q(query)
+                WHERE t.project_id = ? AND to_tsvector('simple', n.body) @@ q.query
+            ) hit
+            ORDER BY hit.score DESC, hit.id
+            LIMIT ?
+            """;
+
+    private static final String PG_ACTIONS = """
+            SELECT a.id, a.task_id, t.title, a.details AS snippet,
+                   ts_rank(setweight(to_tsvector('simple', a.details), 'B'), q.query) AS score
+            FROM action a
+            JOIN task t ON t.id = a.task_id,
+                 to_tsquery('simple', ?) q(query)
+            WHERE t.project_id = ? AND to_tsvector('simple', a.details) @@ q.query
+            ORDER BY score DESC, a.id
+            LIMIT ?
+            """;
+
+    private static final String LIKE_TASKS = """
+            SELECT t.id, t.id AS task_id, t.title, t.description AS snippet,
+                   CASE WHEN lower(t.title) LIKE ? THEN 1.0 ELSE 0.4 END AS score
+            FROM task t
+            WHERE t.project_id = ? AND (lower(t.title) LIKE ? OR lower(t.description) LIKE ?)
+            ORDER BY score DESC, t.id
+            LIMIT ?
+            """;
+
+    private static final String LIKE_TAGS = """
+            SELECT g.id, NULL AS task_id, g.title, g.description AS snippet,
+                   CASE WHEN lower(g.title) LIKE ? THEN 1.0 ELSE 0.4 END AS score
+            FROM tag g
+            WHERE g.project_id = ? AND (lower(g.title) LIKE ? OR lower(g.description) LIKE ?)
+            ORDER BY score DESC, g.id
+            LIMIT ?
+            """;
+
+    private static final String LIKE_NOTES = """
+            SELECT n.id, n.task_id, t.title, n.body AS snippet, 0.4 AS score
+            FROM note n
+            LEFT JOIN task t ON t.id = n.task_id
+            WHERE (n.project_id = ? OR t.project_id = ?) AND lower(n.body) LIKE ?
+            ORDER BY n.id
+            LIMIT ?
+            """;
+
+    private static final String LIKE_ACTIONS = """
+            SELECT a.id, a.task_id, t.title, a.details AS snippet, 0.4 AS score
+            FROM action a
+            JOIN task t ON t.id = a.task_id
+            WHERE t.project_id = ? AND lower(a.details) LIKE ?
+            ORDER BY a.id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbc;
+
+    /** Full-text variant; {@code tsQuery} is built with {@link FullTextQuery#toPrefixQuery(String)}. */
+    public List<SearchHitRes> searchFullText(SearchHitType type, UUID projectId, String tsQuery, int limit) {
+        RowMapper<SearchHitRes> mapper = hitMapper(type);
+        return switch (type) {
+            case TASK -> jdbc.query(PG_TASKS, mapper, tsQuery, projectId, limit);
+            case TAG -> jdbc.query(PG_TAGS, mapper, tsQuery, projectId, limit);
+            case NOTE -> jdbc.query(PG_NOTES, mapper, tsQuery, projectId, tsQuery, projectId, limit);
+            case ACTION -> jdbc.query(PG_ACTIONS, mapper, tsQuery, projectId, limit);
+        };
+    }
+
+    /** Portable substring variant used when the database has no full-text support. */
+    public List<SearchHitRes> searchLike(SearchHitType type, UUID projectId, String text, int limit) {
+        RowMapper<SearchHitRes> mapper = hitMapper(type);
+        String pattern = "%" + text.toLowerCase(Locale.ROOT) + "%";
+        return switch (type) {
+            case TASK -> jdbc.query(LIKE_TASKS, mapper, pattern, projectId, pattern, pattern, limit);
+            case TAG -> jdbc.query(LIKE_TAGS, mapper, pattern, projectId, pattern, pattern, limit);
+            case NOTE -> jdbc.query(LIKE_NOTES, mapper, projectId, projectId, pattern, limit);
+            case ACTION -> jdbc.query(LIKE_ACTIONS, mapper, projectId, pattern, limit);
+        };
+    }
+
+    private static RowMapper<SearchHitRes> hitMapper(SearchHitType type) {
+        return (rs, rowNum) -> new SearchHitRes(
+                type,
+                rs.getObject("id", UUID.class),
+                rs.getObject("task_id", UUID.class),
+                rs.getString("title"),
+                abbreviate(rs.getString("snippet")),
+                rs.getDouble("score"));
+    }
+
+    private static String abbreviate(String text) {
+        if (text == null || text.length() <= SNIPPET_LENGTH) {
+            return text;
+        }
+        return text.substring(0, SNIPPET_LENGTH - 1) + "…";
+    }
+}
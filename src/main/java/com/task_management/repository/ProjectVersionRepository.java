@@ -0,0 +1,68 @@
+package com.task_management.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * The change counter on {@code project.version}, which every task, tag, note and action write bumps inside its own
+ * transaction. Plain JDBC on purpose: the entity never exposes the column, and a JPQL update would auto-flush the
+ * caller's pending rows ahead of the bump.
+ *
+ * <p>Callers bump before their own rows reach the database, so every writer takes the project row lock first and
+ * concurrent writes to one project queue on it instead of deadlocking. The {@code bumpForX} variants resolve the
+ * project through the child row, which also makes them safe to call ahead of a delete, and return it; empty means
+ * the child does not exist.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectVersionRepository {
+
+    private static final String BUMP = "UPDATE project SET version = version + 1 WHERE id = ";
+
+    private final JdbcTemplate jdbc;
+    private final DatabasePlatform platform;
+
+    /** Primary key lookup of the counter; empty for unknown and soft-deleted projects. */
+    public Optional<Long> findVersion(UUID projectId) {
+        List<Long> versions = jdbc.queryForList(
+                "SELECT version FROM project WHERE id = ? AND deleted_at IS NULL", Long.class, projectId);
+        return versions.stream().findFirst();
+    }
+
+    public void bump(UUID projectId) {
+        jdbc.update(BUMP + "?", projectId);
+    }
+
+    public Optional<UUID> bumpForTask(UUID taskId) {
+        return bumpOwner("SELECT project_id FROM task WHERE id = ?", taskId);
+    }
+
+    public Optional<UUID> bumpForTag(UUID tagId) {
+        return bumpOwner("SELECT project_id FROM tag WHERE id = ?", tagId);
+    }
+
+    public Optional<UUID> bumpForAction(UUID actionId) {
+        return bumpOwner("SELECT t.project_id FROM action a JOIN task t ON t.id = a.task_id WHERE a.id = ?", actionId);
+    }
+
+    public Optional<UUID> bumpForNote(UUID noteId) {
+        return bumpOwner("""
+                SELECT coalesce(n.project_id, t.project_id)
+                FROM note n LEFT JOIN task t ON t.id = n.task_id WHERE n.id = ?""", noteId);
+    }
+
+    // PostgreSQL bumps and hands back the project in one statement; elsewhere the project is read first
+    private Optional<UUID> bumpOwner(String projectOf, UUID childId) {
+        if (platform.isPostgres()) {
+            return jdbc.queryForList(BUMP + "(" + projectOf + ") RETURNING id", UUID.class, childId)
+                    .stream().findFirst();
+        }
+        Optional<UUID> projectId = jdbc.queryForList(projectOf, UUID.class, childId).stream().findFirst();
+        projectId.ifPresent(this::bump);
+        return projectId;
+    }
+}
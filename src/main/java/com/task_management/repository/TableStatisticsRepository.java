@@ -0,0 +1,41 @@
+package com.task_management.repository;
+
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Row counts for monitoring. On PostgreSQL they are the planner's estimate from {@code pg_class.reltuples}, kept
+ * current by autovacuum and ANALYZE, so reading one costs an index lookup instead of a scan of the table. Estimates
+ * include soft-deleted projects that have not been purged yet. Other databases (H2 in tests) count exactly.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TableStatisticsRepository {
+
+    public enum Table {
+        PROJECT, TASK;
+
+        String sqlName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final String ESTIMATE = "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)";
+
+    private final JdbcTemplate jdbc;
+    private final DatabasePlatform platform;
+
+    public long estimateRows(Table table) {
+        if (platform.isPostgres()) {
+            Long estimate = jdbc.queryForObject(ESTIMATE, Long.class, table.sqlName());
+            // -1 until the table has been vacuumed or analyzed once, which only happens while it is still small
+            if (estimate != null && estimate >= 0) {
+                return estimate;
+            }
+        }
+        Long count = jdbc.queryForObject("SELECT count(*) FROM " + table.sqlName(), Long.class);
+        return count == null ? 0 : count;
+    }
+}
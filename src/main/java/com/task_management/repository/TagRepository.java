@@ -4,16 +4,38 @@ import com.task_management.entity.Tag;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface TagRepository extends JpaRepository<Tag, UUID> {
-    Page<Tag> findByProjectIdOrderByEndAtAsc(UUID projectId, Pageable pageable);
+    // Explicit queries on the foreign key: derived "ProjectId" methods join project and lose the index
+    @Query(value = "select g from Tag g where g.project.id = :projectId order by g.endAt asc",
+            countQuery = "select count(g) from Tag g where g.project.id = :projectId")
+    Page<Tag> findByProjectIdOrderByEndAtAsc(@Param("projectId") UUID projectId, Pageable pageable);
 
-    List<Tag> findByProjectId(UUID projectId);
+    // Keyset pages on (end_at, id), served by idx_tag_project_end_at_id; the caller asks for one extra row
+    @Query("""
+      select g from Tag g
+      where g.project.id = :projectId
+      order by g.endAt asc, g.id asc
+      """)
+    List<Tag> findFirstByProject(@Param("projectId") UUID projectId, Limit limit);
+
+    @Query("""
+      select g from Tag g
+      where g.project.id = :projectId and (g.endAt, g.id) > (:endAt, :id)
+      order by g.endAt asc, g.id asc
+      """)
+    List<Tag> findByProjectAfter(@Param("projectId") UUID projectId, @Param("endAt") Instant endAt,
+                                @Param("id") UUID id, Limit limit);
+
+    @Query("select g from Tag g where g.project.id = :projectId")
+    List<Tag> findByProjectId(@Param("projectId") UUID projectId);
 
     Page<Tag> findByEndAtBetweenOrderByEndAtAsc(Instant start, Instant end, Pageable pageable);
 
@@ -25,5 +47,22 @@ public interface TagRepository extends JpaRepository<Tag, UUID> {
       """)
     Page<Tag> searchInProject(@Param("projectId") UUID projectId, @Param("q") String q, Pageable pageable);
 
+    // PostgreSQL only: uses the generated search_vector column and its GIN index (changeset 012).
+    // Pass an unsorted Pageable, the ranking is the order.
+    @Query(value = """
+      select g.* from tag g
+      where g.project_id = :projectId and g.search_vector @@ to_tsquery('simple', :tsQuery)
+      order by ts_rank(g.search_vector, to_tsquery('simple', :tsQuery)) desc, g.end_at asc, g.id
+      """, countQuery = """
+      select count(*) from tag g
+      where g.project_id = :projectId and g.search_vector @@ to_tsquery('simple', :tsQuery)
+      """, nativeQuery = true)
+    Page<Tag> fullTextSearchInProject(@Param("projectId") UUID projectId, @Param("tsQuery") String tsQuery,
+                                      Pageable pageable);
+
     boolean existsByIdAndProjectId(UUID tagId, UUID projectId);
+
+    @Modifying
+    @Query("delete from Tag t where t.id = :id")
+    int deleteRowById(@Param("id") UUID id);
 }
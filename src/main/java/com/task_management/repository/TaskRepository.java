@@ -2,16 +2,38 @@ package com.task_management.repository;
 
 import com.task_management.entity.Task;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
 public interface TaskRepository extends JpaRepository<Task, UUID> {
-    Page<Task> findByProjectIdOrderByEndAtAsc(UUID projectId, Pageable pageable);
-    List<Task> findByProjectId(UUID projectId);
+    // Explicit queries on the foreign key: derived "ProjectId" methods join project and lose the index
+    @Query(value = "select t from Task t where t.project.id = :projectId order by t.endAt asc",
+            countQuery = "select count(t) from Task t where t.project.id = :projectId")
+    Page<Task> findByProjectIdOrderByEndAtAsc(@Param("projectId") UUID projectId, Pageable pageable);
+
+    // Keyset pages on (end_at, id), served by idx_task_project_end_at_id; the caller asks for one extra row
+    @Query("""
+      select t from Task t
+      where t.project.id = :projectId
+      order by t.endAt asc, t.id asc
+      """)
+    List<Task> findFirstByProject(@Param("projectId") UUID projectId, Limit limit);
+
+    @Query("""
+      select t from Task t
+      where t.project.id = :projectId and (t.endAt, t.id) > (:endAt, :id)
+      order by t.endAt asc, t.id asc
+      """)
+    List<Task> findByProjectAfter(@Param("projectId") UUID projectId, @Param("endAt") Instant endAt,
+                                 @Param("id") UUID id, Limit limit);
+    @Query("select t from Task t where t.project.id = :projectId")
+    List<Task> findByProjectId(@Param("projectId") UUID projectId);
     Page<Task> findByEndAtBetweenOrderByEndAtAsc(Instant start, Instant end, Pageable pageable);
     @Query("""
       select t from Task t
@@ -21,8 +43,28 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
       """)
     Page<Task> searchInProject(@Param("projectId") UUID projectId, @Param("q") String q, Pageable pageable);
 
+    // PostgreSQL only: uses the generated search_vector column and its GIN index (changeset 012).
+    // Pass an unsorted Pageable, the ranking is the order.
+    @Query(value = """
+      select t.* from task t
+      where t.project_id = :projectId and t.search_vector @@ to_tsquery('simple', :tsQuery)
+      order by ts_rank(t.search_vector, to_tsquery('simple', :tsQuery)) desc, t.end_at asc, t.id
+      """, countQuery = """
+      select count(*) from task t
+      where t.project_id = :projectId and t.search_vector @@ to_tsquery('simple', :tsQuery)
+      """, nativeQuery = true)
+    Page<Task> fullTextSearchInProject(@Param("projectId") UUID projectId, @Param("tsQuery") String tsQuery,
+                                       Pageable pageable);
+
     @Query("select count(t) from Task t where t.project.id = :projectId and t.activity = true")
     long countActivities(@Param("projectId") UUID projectId);
 
     boolean existsByIdAndProjectId(UUID taskId, UUID projectId);
+
+    @Query("select t from Task t where t.project.id = :projectId and t.id in :ids")
+    List<Task> findAllInProject(@Param("projectId") UUID projectId, @Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("delete from Task t where t.id = :id")
+    int deleteRowById(@Param("id") UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.task_management.repository;
+
+import com.task_management.dto.TitleSuggestionRes;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Title lookups for autocomplete. On PostgreSQL prefix and fuzzy matches use the pg_trgm GIN indexes on
+ * task.title and tag.title (changeset 013); other databases fall back to LIKE.
+ */
+@Repository
+public class TitleSuggestionRepository {
+
+    public enum Source {
+        TASK("task"),
+        TAG("tag");
+
+        private final String table;
+
+        Source(String table) {
+            this.table = table;
+        }
+    }
+
+    // Resolves to NULL for a soft-deleted project, so its titles disappear before the purge gets to them
+    private static final String LIVE_PROJECT =
+            "project_id = (SELECT id FROM project WHERE id = ? AND deleted_at IS NULL)";
+
+    private static final RowMapper<TitleSuggestionRes> MAPPER = (rs, rowNum) ->
+            new TitleSuggestionRes(rs.getObject("id", UUID.class), rs.getString("title"));
+
+    private final JdbcTemplate jdbc;
+    private final boolean postgres;
+
+    public TitleSuggestionRepository(JdbcTemplate jdbc, DatabasePlatform platform) {
+        this.jdbc = jdbc;
+        this.postgres = platform.isPostgres();
+    }
+
+    /** Up to {@code maxRows} titles of the project, unordered; used to build the in-memory index. */
+    public List<TitleSuggestionRes> findTitles(Source source, UUID projectId, int maxRows) {
+        return jdbc.query("SELECT id, title FROM " + source.table + " WHERE " + LIVE_PROJECT + " LIMIT ?",
+                MAPPER, projectId, maxRows);
+    }
+
+    public List<TitleSuggestionRes> findByPrefix(Source source, UUID projectId, String prefix, int limit) {
+        String match = postgres ? "title ILIKE ?" : "lower(title) LIKE ?";
+        return jdbc.query("SELECT id, title FROM " + source.table
+                        + " WHERE " + LIVE_PROJECT + " AND " + match + " ORDER BY lower(title) LIMIT ?",
+                MAPPER, projectId, escapeLike(prefix.toLowerCase(Locale.ROOT)) + "%", limit);
+    }
+
+    /**
+     * Typo-tolerant matches. On PostgreSQL {@code <%} compares the text with the most similar word run in
+     * the title, so "desgn" still finds "Design review"; elsewhere this is a plain substring match.
+     */
+    public List<TitleSuggestionRes> findSimilar(Source source, UUID projectId, String text, int limit) {
+        if (postgres) {
+            return jdbc.query("SELECT id, title FROM " + source.table
+                            + " WHERE " + LIVE_PROJECT + " AND ? <% title"
+                            + " ORDER BY word_similarity(?, title) DESC, lower(title) LIMIT ?",
+                    MAPPER, projectId, text, text, limit);
+        }
+        return jdbc.query("SELECT id, title FROM " + source.table
+                        + " WHERE " + LIVE_PROJECT + " AND lower(title) LIKE ? ORDER BY lower(title) LIMIT ?",
+                MAPPER, projectId, "%" + escapeLike(text.toLowerCase(Locale.ROOT)) + "%", limit);
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
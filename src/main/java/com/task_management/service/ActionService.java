@@ -1,16 +1,21 @@
 package com.task_management.service;
 
+import com.task_management.dto.ActionBulkCreateReq;
 import com.task_management.dto.ActionCreateReq;
 import com.task_management.dto.ActionRes;
 import com.task_management.dto.ActionUpdateReq;
+import com.task_management.dto.CursorPageRes;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import java.util.List;
 import java.util.UUID;
 
 public interface ActionService {
     ActionRes create(ActionCreateReq req);
+    List<ActionRes> createBulk(ActionBulkCreateReq req);
     ActionRes get(UUID id);
     Page<ActionRes> listInTask(UUID taskId, Pageable pageable);
+    CursorPageRes<ActionRes> listInTaskByCursor(UUID taskId, String cursor, int size);
     ActionRes update(UUID id, ActionUpdateReq req);
     void delete(UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.task_management.service;
+
+import com.task_management.repository.ChangeFeedRepository.ChangeKey;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+
+public interface ChangeSyncService {
+    /** Keys of one page of changes after the cursor; validates everything before a response is committed. */
+    ChangeBatch findChanges(UUID projectId, String since, int limit);
+    /** Loads the rows behind the keys in small chunks and streams the page as JSON. */
+    void writeChanges(ChangeBatch batch, OutputStream out) throws IOException;
+
+    // Worker side
+    int purgeExpiredTombstones(int limit);
+
+    record ChangeBatch(List<ChangeKey> keys, String nextCursor, boolean hasMore) {}
+}
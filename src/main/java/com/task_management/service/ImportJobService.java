@@ -0,0 +1,24 @@
+package com.task_management.service;
+
+import com.task_management.dto.ImportJobRes;
+import com.task_management.dto.ProjectImportReq;
+import com.task_management.dto.ProjectImportRes;
+import com.task_management.entity.ImportJob;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ImportJobService {
+    ImportJobRes submit(ProjectImportReq req);
+    ImportJobRes get(UUID jobId);
+    SseEmitter subscribe(UUID jobId);
+
+    // Worker side: progress commits in its own transaction so it is visible while the import runs.
+    // Updates after the claim only apply to a RUNNING job and return false once it has been failed as stale.
+    Optional<ImportJob> claimNext(String workerId);
+    boolean recordProgress(UUID jobId, int tasks, int notes, int tags, int actions);
+    boolean complete(UUID jobId, ProjectImportRes res);
+    void fail(UUID jobId, String message);
+    int failStale();
+}
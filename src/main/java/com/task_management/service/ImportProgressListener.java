@@ -0,0 +1,9 @@
+package com.task_management.service;
+
+/** Receives running per-entity totals while a project import is copying rows. */
+@FunctionalInterface
+public interface ImportProgressListener {
+    ImportProgressListener NONE = (tasks, notes, tags, actions) -> { };
+
+    void onProgress(int tasks, int notes, int tags, int actions);
+}
@@ -10,6 +10,8 @@ public interface NoteService {
     NoteRes create(NoteCreateReq req);
     Page<NoteRes> listForProject(UUID projectId, Pageable pageable);
     Page<NoteRes> listForTask(UUID taskId, Pageable pageable);
+    CursorPageRes<NoteRes> listForProjectByCursor(UUID projectId, String cursor, int size);
+    CursorPageRes<NoteRes> listForTaskByCursor(UUID taskId, String cursor, int size);
     NoteRes update(UUID noteId, NoteUpdateReq req);
     void delete(UUID noteId);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.task_management.service;
+
+import com.task_management.dto.ProjectEventRes;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ProjectEventService {
+    SseEmitter subscribe(UUID projectId);
+
+    // Delivery side: committed events from this node or, on PostgreSQL, from any node through the listener
+    void dispatch(List<ProjectEventRes> events);
+    // Events may have been missed (listener reconnected); every subscriber is told to catch up over /changes
+    void requestResync();
+}
@@ -0,0 +1,31 @@
+package com.task_management.service;
+
+import com.task_management.dto.ExportFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+public interface ProjectExportService {
+    /**
+     * Claims one of this node's export slots, failing with not found or, when every slot is taken, unavailable
+     * before a response is committed. Close the slot once the export has been written.
+     */
+    ExportSlot reserveExport(UUID projectId);
+    /**
+     * Streams the project and everything in it, row by row, from one consistent snapshot. A project deleted since
+     * it was reserved fails with not found before {@code output} is opened.
+     */
+    void writeExport(UUID projectId, ExportFormat format, ExportOutput output) throws IOException;
+
+    /** A claimed export slot; closing it more than once has no further effect. */
+    interface ExportSlot extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /** Opens the stream the export is written to, once the export is known to go ahead. */
+    @FunctionalInterface
+    interface ExportOutput {
+        OutputStream open() throws IOException;
+    }
+}
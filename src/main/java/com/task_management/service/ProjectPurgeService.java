@@ -0,0 +1,14 @@
+package com.task_management.service;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ProjectPurgeService {
+    /** Hides the project from every read right away; its rows are removed later by the purge worker. */
+    void markDeleted(UUID projectId);
+
+    // Worker side: each call runs in its own short transaction
+    List<UUID> findPending(int limit);
+    /** Deletes up to {@code chunkSize} rows of the project; returns 0 once the project row itself is gone. */
+    int purgeChunk(UUID projectId, int chunkSize);
+}
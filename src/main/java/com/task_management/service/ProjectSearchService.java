@@ -0,0 +1,10 @@
+package com.task_management.service;
+
+import com.task_management.dto.ProjectSearchRes;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+public interface ProjectSearchService {
+    ProjectSearchRes search(UUID projectId, String q, Pageable pageable);
+}
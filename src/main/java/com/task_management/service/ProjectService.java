@@ -4,6 +4,7 @@ import com.task_management.dto.ProjectCreateReq;
 import com.task_management.dto.ProjectImportReq;
 import com.task_management.dto.ProjectImportRes;
 import com.task_management.dto.ProjectRes;
+import com.task_management.dto.ProjectSummaryRes;
 import com.task_management.dto.ProjectUpdateReq;
 
 import org.springframework.data.domain.Page;
@@ -13,8 +14,14 @@ import java.util.UUID;
 public interface ProjectService {
     ProjectRes create(ProjectCreateReq req);
     ProjectImportRes importProject(ProjectImportReq req);
+    ProjectImportRes importProject(ProjectImportReq req, ImportProgressListener listener);
     ProjectRes get(UUID id);
+    long getVersion(UUID id);
+    ProjectSummaryRes getSummary(UUID id);
+    Versioned<ProjectRes> getVersioned(UUID id);
+    Versioned<ProjectSummaryRes> getSummaryVersioned(UUID id);
     Page<ProjectRes> list(Pageable pageable);
+    Page<ProjectSummaryRes> listSummaries(Pageable pageable);
     ProjectRes update(UUID id, ProjectUpdateReq req);
     void delete(UUID id);
 }
@@ -1,5 +1,6 @@
 package com.task_management.service;
 
+import com.task_management.dto.CursorPageRes;
 import com.task_management.dto.TagCreateReq;
 import com.task_management.dto.TagRes;
 import com.task_management.dto.TagUpdateReq;
@@ -15,6 +16,10 @@ public interface TagService {
 
     Page<TagRes> listInProject(UUID projectId, Pageable pageable);
 
+    CursorPageRes<TagRes> listInProjectByCursor(UUID projectId, String cursor, int size);
+
+    Page<TagRes> searchInProject(UUID projectId, String q, Pageable pageable);
+
     TagRes update(UUID id, TagUpdateReq req);
 
     void delete(UUID id);
@@ -1,5 +1,8 @@
 package com.task_management.service;
 
+import com.task_management.dto.CursorPageRes;
+import com.task_management.dto.TaskBulkReq;
+import com.task_management.dto.TaskBulkRes;
 import com.task_management.dto.TaskCreateReq;
 import com.task_management.dto.TaskRes;
 import com.task_management.dto.TaskUpdateReq;
@@ -11,6 +14,12 @@ public interface TaskService {
     TaskRes create(TaskCreateReq req);
     TaskRes get(UUID id);
     Page<TaskRes> listInProject(UUID projectId, Pageable pageable);
+    CursorPageRes<TaskRes> listInProjectByCursor(UUID projectId, String cursor, int size);
+    Page<TaskRes> searchInProject(UUID projectId, String q, Pageable pageable);
+    /** The list or search page together with the project version it was read at, for the ETag. */
+    Versioned<Page<TaskRes>> listInProjectVersioned(UUID projectId, String q, Pageable pageable);
+    Versioned<CursorPageRes<TaskRes>> listInProjectByCursorVersioned(UUID projectId, String cursor, int size);
     TaskRes update(UUID id, TaskUpdateReq req);
     void delete(UUID id);
+    TaskBulkRes bulk(TaskBulkReq req);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.task_management.service;
+
+import com.task_management.dto.TitleSuggestionRes;
+import com.task_management.repository.TitleSuggestionRepository.Source;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TitleAutocompleteService {
+    List<TitleSuggestionRes> suggest(Source source, UUID projectId, String q, int limit);
+
+    /** Drops cached titles of the project once the current transaction (if any) commits. */
+    void invalidate(Source source, UUID projectId);
+}
@@ -0,0 +1,7 @@
+package com.task_management.service;
+
+/**
+ * A read paired with the {@code project.version} it was taken at. Both come from the same snapshot, so the version
+ * is safe to hand out as the ETag of the body.
+ */
+public record Versioned<T>(T body, long version) {}
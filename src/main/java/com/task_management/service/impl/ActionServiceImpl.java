@@ -1,56 +1,121 @@
 package com.task_management.service.impl;
 
+import com.task_management.dto.ActionBulkCreateReq;
 import com.task_management.dto.ActionCreateReq;
 import com.task_management.dto.ActionRes;
 import com.task_management.dto.ActionUpdateReq;
+import com.task_management.dto.ChangeOperation;
+import com.task_management.dto.CursorPageRes;
 import com.task_management.entity.Action;
+import com.task_management.entity.ChangeEntityType;
+import com.task_management.entity.Task;
 import com.task_management.exception.BadRequestException;
 import com.task_management.exception.NotFoundException;
 import com.task_management.mapper.ActionMapper;
 import com.task_management.repository.ActionRepository;
+import com.task_management.repository.ChangeFeedRepository;
+import com.task_management.repository.ProjectVersionRepository;
 import com.task_management.repository.TaskRepository;
 import com.task_management.service.ActionService;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Service @RequiredArgsConstructor @Transactional
 public class ActionServiceImpl implements ActionService {
+    private static final String CURSOR_KIND = "action";
+    static final int MAX_BULK_ACTIONS = 1_000;
+
     private final ActionRepository actions;
     private final TaskRepository tasks;
+    private final ProjectVersionRepository versions;
+    private final ChangeFeedRepository changeFeed;
     private final ActionMapper mapper;
+    private final ProjectEventPublisher events;
 
     @Override
     public ActionRes create(ActionCreateReq req) {
         var task = tasks.findById(req.taskId())
                 .orElseThrow(() -> new NotFoundException("Task not found"));
 
+        var savedAction = actions.save(newAction(task, req.details(), req.day()));
+        versions.bump(task.getProject().getId());
+        events.publish(task.getProject().getId(), ChangeEntityType.ACTION, savedAction.getId(),
+                ChangeOperation.CREATED);
+        return mapper.toRes(savedAction);
+    }
+
+    @Override
+    public List<ActionRes> createBulk(ActionBulkCreateReq req) {
+        var task = tasks.findById(req.taskId())
+                .orElseThrow(() -> new NotFoundException("Task not found"));
+
+        boolean explicit = req.actions() != null && !req.actions().isEmpty();
+        if (explicit == (req.details() != null)) {
+            throw new BadRequestException("Provide either actions or a details template");
+        }
+        List<Action> rows = new ArrayList<>();
+        if (explicit) {
+            for (var item : req.actions()) {
+                rows.add(newAction(task, item.details(), item.day()));
+            }
+        } else {
+            int taskDays = task.getEndDay() - task.getStartDay() + 1;
+            int fromDay = req.fromDay() != null ? req.fromDay() : 1;
+            int toDay = req.toDay() != null ? req.toDay() : taskDays;
+            if (toDay < fromDay) {
+                throw new BadRequestException("toDay cannot be before fromDay");
+            }
+            if (fromDay < 1 || toDay > taskDays) {
+                throw new BadRequestException("Days must be between 1 and " + taskDays + ", the length of the task");
+            }
+            if (toDay - fromDay >= MAX_BULK_ACTIONS) {
+                throw new BadRequestException("A bulk request can create at most " + MAX_BULK_ACTIONS + " actions");
+            }
+            for (int day = fromDay; day <= toDay; day++) {
+                rows.add(newAction(task, req.details(), day));
+            }
+        }
+
+        versions.bump(task.getProject().getId());
+        // Ids come from the UUID generator at persist time, so the inserts flush as JDBC batches
+        actions.saveAll(rows);
+        actions.flush();
+        events.publishBulk(task.getProject().getId(), ChangeEntityType.ACTION);
+        return rows.stream().map(mapper::toRes).toList();
+    }
+
+    private static Action newAction(Task task, String details, Integer day) {
         var action = new Action();
         action.setTask(task);
-        action.setDetails(req.details().trim());
+        action.setDetails(details.trim());
         if (action.getDetails().isBlank()) {
             throw new BadRequestException("Action details cannot be blank");
         }
-        action.setDay(req.day());
-        if (req.day() < 1) {
+        action.setDay(day);
+        if (day < 1) {
             throw new BadRequestException("Day must be at least 1");
         }
-
-        var savedAction = actions.save(action);
-        return mapper.toRes(savedAction);
+        return action;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ActionRes get(UUID id) {
         return mapper.toRes(actions.findById(id)
                 .orElseThrow(() -> new NotFoundException("Action not found")));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ActionRes> listInTask(UUID taskId, Pageable pageable) {
         if (!tasks.existsById(taskId)) {
             throw new NotFoundException("Task not found");
@@ -58,6 +123,25 @@ public class ActionServiceImpl implements ActionService {
         return actions.findByTaskIdOrderByDayAsc(taskId, pageable).map(mapper::toRes);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageRes<ActionRes> listInTaskByCursor(UUID taskId, String cursor, int size) {
+        KeysetCursors.checkSize(size);
+        if (!tasks.existsById(taskId)) {
+            throw new NotFoundException("Task not found");
+        }
+        var limit = Limit.of(size + 1);
+        List<Action> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = actions.findFirstByTask(taskId, limit);
+        } else {
+            var position = KeysetCursors.decodeInt(CURSOR_KIND, cursor);
+            rows = actions.findByTaskAfter(taskId, position.key(), position.id(), limit);
+        }
+        return KeysetCursors.page(rows, size, mapper::toRes,
+                a -> KeysetCursors.encode(CURSOR_KIND, a.getDay(), a.getId()));
+    }
+
     @Override
     public ActionRes update(UUID id, ActionUpdateReq req) {
         var action = actions.findById(id)
@@ -79,14 +163,18 @@ public class ActionServiceImpl implements ActionService {
         }
 
         var updatedAction = actions.save(action);
+        versions.bumpForAction(id).ifPresent(projectId ->
+                events.publish(projectId, ChangeEntityType.ACTION, id, ChangeOperation.UPDATED));
         return mapper.toRes(updatedAction);
     }
 
     @Override
     public void delete(UUID id) {
-        if (!actions.existsById(id)) {
+        var projectId = versions.bumpForAction(id);
+        changeFeed.recordActionDeletion(id, Instant.now());
+        if (actions.deleteRowById(id) == 0) {
             throw new NotFoundException("Action not found");
         }
-        actions.deleteById(id);
+        projectId.ifPresent(p -> events.publish(p, ChangeEntityType.ACTION, id, ChangeOperation.DELETED));
     }
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.task_management.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task_management.dto.ChangeRes;
+import com.task_management.entity.ChangeEntityType;
+import com.task_management.exception.BadRequestException;
+import com.task_management.exception.NotFoundException;
+import com.task_management.mapper.ActionMapper;
+import com.task_management.mapper.NoteMapper;
+import com.task_management.mapper.TagMapper;
+import com.task_management.mapper.TaskMapper;
+import com.task_management.repository.ActionRepository;
+import com.task_management.repository.ChangeFeedRepository;
+import com.task_management.repository.ChangeFeedRepository.ChangeKey;
+import com.task_management.repository.NoteRepository;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.TagRepository;
+import com.task_management.repository.TaskRepository;
+import com.task_management.service.ChangeSyncService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Delta sync over {@code updated_at} and the tombstone table. Pages are keyset-ordered on {@code (changedAt, id)}
+ * and never reach closer to now than {@code app.sync.settle-ms}: a row's timestamp is taken at flush, before its
+ * transaction commits, so a cursor right at the present could step over a row that becomes visible a moment later.
+ * Once caught up, the cursor points at that upper bound and the next call resumes there.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ChangeSyncServiceImpl implements ChangeSyncService {
+
+    private static final String CURSOR_KIND = "changes";
+    static final int MAX_LIMIT = 1_000;
+    private static final int LOAD_CHUNK = 100;
+    private static final UUID FIRST_ID = new UUID(0, 0);
+    private static final UUID LAST_ID = new UUID(-1, -1);
+
+    private final ChangeFeedRepository changes;
+    private final ProjectRepository projects;
+    private final TaskRepository tasks;
+    private final TagRepository tags;
+    private final NoteRepository notes;
+    private final ActionRepository actions;
+    private final TaskMapper taskMapper;
+    private final TagMapper tagMapper;
+    private final NoteMapper noteMapper;
+    private final ActionMapper actionMapper;
+    private final ObjectMapper objectMapper;
+    private final Duration settle;
+    private final Duration tombstoneRetention;
+
+    public ChangeSyncServiceImpl(ChangeFeedRepository changes, ProjectRepository projects, TaskRepository tasks,
+                                 TagRepository tags, NoteRepository notes, ActionRepository actions,
+                                 TaskMapper taskMapper, TagMapper tagMapper, NoteMapper noteMapper,
+                                 ActionMapper actionMapper, ObjectMapper objectMapper,
+                                 @Value("${app.sync.settle-ms:5000}") long settleMs,
+                                 @Value("${app.sync.tombstone-retention-days:30}") int tombstoneRetentionDays) {
+        this.changes = changes;
+        this.projects = projects;
+        this.tasks = tasks;
+        this.tags = tags;
+        this.notes = notes;
+        this.actions = actions;
+        this.taskMapper = taskMapper;
+        this.tagMapper = tagMapper;
+        this.noteMapper = noteMapper;
+        this.actionMapper = actionMapper;
+        this.objectMapper = objectMapper;
+        this.settle = Duration.ofMillis(settleMs);
+        this.tombstoneRetention = Duration.ofDays(tombstoneRetentionDays);
+    }
+
+    @Override
+    public ChangeBatch findChanges(UUID projectId, String since, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        boolean initial = since == null || since.isBlank();
+        var from = initial
+                ? new KeysetCursors.Position<>(Instant.EPOCH, FIRST_ID)
+                : KeysetCursors.decodeInstant(CURSOR_KIND, since);
+        if (!projects.existsById(projectId)) throw new NotFoundException("Project not found");
+
+        Instant now = Instant.now();
+        // Deletes older than the retention are gone, so such a client has to download the project again
+        if (!initial && from.key().isBefore(now.minus(tombstoneRetention))) {
+            throw new BadRequestException("Cursor is older than the change history; download the project again");
+        }
+        Instant upTo = now.minus(settle);
+        if (!upTo.isAfter(from.key())) {
+            return new ChangeBatch(List.of(), KeysetCursors.encode(CURSOR_KIND, from.key(), from.id()), false);
+        }
+
+        List<ChangeKey> rows = changes.findChanges(projectId, from.key(), from.id(), upTo, limit + 1);
+        boolean more = rows.size() > limit;
+        List<ChangeKey> page = more ? rows.subList(0, limit) : rows;
+        ChangeKey last = more ? page.get(page.size() - 1) : null;
+        String next = more
+                ? KeysetCursors.encode(CURSOR_KIND, last.changedAt(), last.id())
+                : KeysetCursors.encode(CURSOR_KIND, upTo, LAST_ID);
+        return new ChangeBatch(List.copyOf(page), next, more);
+    }
+
+    @Override
+    public void writeChanges(ChangeBatch batch, OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("changes");
+            List<ChangeKey> keys = batch.keys();
+            for (int start = 0; start < keys.size(); start += LOAD_CHUNK) {
+                List<ChangeKey> chunk = keys.subList(start, Math.min(start + LOAD_CHUNK, keys.size()));
+                Map<UUID, Object> rows = load(chunk);
+                for (ChangeKey key : chunk) {
+                    Object data = key.deleted() ? null : rows.get(key.id());
+                    // Deleted since the page was read: its tombstone comes with a later page
+                    if (key.deleted() || data != null) {
+                        json.writeObject(new ChangeRes(key.type(), key.id(), key.deleted(), key.changedAt(), data));
+                    }
+                }
+                json.flush();
+            }
+            json.writeEndArray();
+            json.writeStringField("nextCursor", batch.nextCursor());
+            json.writeBooleanField("hasMore", batch.hasMore());
+            json.writeEndObject();
+        }
+    }
+
+    private Map<UUID, Object> load(List<ChangeKey> chunk) {
+        Map<ChangeEntityType, List<UUID>> ids = new EnumMap<>(ChangeEntityType.class);
+        for (ChangeKey key : chunk) {
+            if (!key.deleted()) ids.computeIfAbsent(key.type(), type -> new ArrayList<>()).add(key.id());
+        }
+        Map<UUID, Object> rows = new HashMap<>();
+        ids.forEach((type, typeIds) -> {
+            switch (type) {
+                case TASK -> tasks.findAllById(typeIds).forEach(t -> rows.put(t.getId(), taskMapper.toRes(t)));
+                case TAG -> tags.findAllById(typeIds).forEach(g -> rows.put(g.getId(), tagMapper.toRes(g)));
+                case NOTE -> notes.findAllById(typeIds).forEach(n -> rows.put(n.getId(), noteMapper.toRes(n)));
+                case ACTION -> actions.findAllById(typeIds).forEach(a -> rows.put(a.getId(), actionMapper.toRes(a)));
+            }
+        });
+        return rows;
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpiredTombstones(int limit) {
+        return changes.purgeTombstones(Instant.now().minus(tombstoneRetention), limit);
+    }
+}
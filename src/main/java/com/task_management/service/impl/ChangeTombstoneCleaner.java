@@ -0,0 +1,73 @@
+package com.task_management.service.impl;
+
+import com.task_management.service.ChangeSyncService;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Removes tombstones older than {@code app.sync.tombstone-retention-days} in bounded chunks, one transaction each.
+ * Cursors from before that point are rejected, so nothing a client can still ask for is lost. The chunks run on a
+ * thread of their own, so a long backlog never holds up the shared scheduler (health checks, job polls).
+ */
+@Component
+@ConditionalOnProperty(name = "app.sync.tombstone-cleanup-enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeTombstoneCleaner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeTombstoneCleaner.class);
+    static final int CHUNK_SIZE = 5_000;
+
+    private final ChangeSyncService changeSyncService;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "change-tombstone-cleaner"));
+
+    public ChangeTombstoneCleaner(ChangeSyncService changeSyncService) {
+        this.changeSyncService = changeSyncService;
+    }
+
+    @Scheduled(fixedDelayString = "${app.sync.tombstone-cleanup-interval-ms:3600000}")
+    public void poll() {
+        // A cleanup can outlive the interval; never start a second one next to it
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    cleanUp();
+                } catch (RuntimeException ex) {
+                    logger.warn("Tombstone cleanup failed, retrying on the next poll", ex);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException ex) {
+            running.set(false);
+            throw ex;
+        }
+    }
+
+    void cleanUp() {
+        long removed = 0;
+        int chunk;
+        do {
+            chunk = changeSyncService.purgeExpiredTombstones(CHUNK_SIZE);
+            removed += chunk;
+        } while (chunk == CHUNK_SIZE);
+        if (removed > 0) {
+            logger.info("Removed {} expired change tombstones", removed);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,161 @@
+package com.task_management.service.impl;
+
+import com.task_management.dto.ImportJobRes;
+import com.task_management.dto.ProjectImportReq;
+import com.task_management.dto.ProjectImportRes;
+import com.task_management.entity.ImportJob;
+import com.task_management.entity.ImportJobStatus;
+import com.task_management.exception.BadRequestException;
+import com.task_management.exception.NotFoundException;
+import com.task_management.mapper.ImportJobMapper;
+import com.task_management.repository.ImportJobRepository;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.service.ImportJobService;
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service @Transactional
+public class ImportJobServiceImpl implements ImportJobService {
+    static final String STALE_MESSAGE = "Import worker stopped reporting progress";
+
+    private final ImportJobRepository jobs;
+    private final ProjectRepository projects;
+    private final ImportJobMapper mapper;
+    private final long streamIntervalMs;
+    private final long streamTimeoutMs;
+    private final Duration staleAfter;
+    // Streams poll the job row rather than the local worker, so they work whichever node runs the job
+    private final ScheduledExecutorService streamScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "import-job-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ImportJobServiceImpl(ImportJobRepository jobs,
+                                ProjectRepository projects,
+                                ImportJobMapper mapper,
+                                @Value("${app.import.jobs.stream-interval-ms:1000}") long streamIntervalMs,
+                                @Value("${app.import.jobs.stream-timeout-ms:1800000}") long streamTimeoutMs,
+                                @Value("${app.import.jobs.stale-after-ms:900000}") long staleAfterMs) {
+        this.jobs = jobs;
+        this.projects = projects;
+        this.mapper = mapper;
+        this.streamIntervalMs = streamIntervalMs;
+        this.streamTimeoutMs = streamTimeoutMs;
+        this.staleAfter = Duration.ofMillis(staleAfterMs);
+    }
+
+    @Override
+    public ImportJobRes submit(ProjectImportReq req) {
+        // Fail fast on the checks the worker would otherwise only hit later
+        if (!projects.existsById(req.sourceProjectId())) {
+            throw new NotFoundException("Source project not found");
+        }
+        if (projects.existsByNameIgnoreCase(req.newProjectName())) {
+            throw new BadRequestException("Target project name already exists");
+        }
+        var job = ImportJob.builder()
+                .status(ImportJobStatus.QUEUED)
+                .sourceProjectId(req.sourceProjectId())
+                .newProjectName(req.newProjectName())
+                .description(req.description())
+                .importTasks(req.importTasks())
+                .importNotes(req.importNotes())
+                .importTags(req.importTags())
+                .importActions(req.importActions())
+                .build();
+        return mapper.toRes(jobs.save(job));
+    }
+
+    @Override
+    public ImportJobRes get(UUID jobId) {
+        return mapper.toRes(jobs.findById(jobId)
+                .orElseThrow(() -> new NotFoundException("Import job not found")));
+    }
+
+    @Override
+    public SseEmitter subscribe(UUID jobId) {
+        get(jobId);
+        var emitter = new SseEmitter(streamTimeoutMs);
+        var lastSent = new AtomicReference<ImportJobRes>();
+        ScheduledFuture<?> poll = streamScheduler.scheduleWithFixedDelay(
+                () -> push(jobId, emitter, lastSent), 0, streamIntervalMs, TimeUnit.MILLISECONDS);
+        emitter.onCompletion(() -> poll.cancel(false));
+        emitter.onTimeout(() -> poll.cancel(false));
+        emitter.onError(ex -> poll.cancel(false));
+        return emitter;
+    }
+
+    private void push(UUID jobId, SseEmitter emitter, AtomicReference<ImportJobRes> lastSent) {
+        try {
+            var current = jobs.findById(jobId).map(mapper::toRes).orElse(null);
+            if (current == null) {
+                emitter.complete();
+                return;
+            }
+            if (!current.equals(lastSent.get())) {
+                lastSent.set(current);
+                emitter.send(SseEmitter.event().name("progress").data(current));
+            }
+            if (current.status() == ImportJobStatus.DONE || current.status() == ImportJobStatus.FAILED) {
+                emitter.complete();
+            }
+        } catch (IOException | RuntimeException ex) {
+            emitter.completeWithError(ex);
+        }
+    }
+
+    @Override
+    public Optional<ImportJob> claimNext(String workerId) {
+        return jobs.lockNextQueued().map(job -> {
+            job.setStatus(ImportJobStatus.RUNNING);
+            job.setWorkerId(workerId);
+            job.setStartedAt(Instant.now());
+            return jobs.save(job);
+        });
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public boolean recordProgress(UUID jobId, int tasks, int notes, int tags, int actions) {
+        return jobs.updateProgressIfRunning(jobId, tasks, notes, tags, actions, Instant.now()) > 0;
+    }
+
+    @Override
+    public boolean complete(UUID jobId, ProjectImportRes res) {
+        return jobs.completeIfRunning(jobId, res.newProjectId(),
+                res.importedTasksCount(), res.importedNotesCount(),
+                res.importedTagsCount(), res.importedActionsCount(),
+                res.message(), Instant.now()) > 0;
+    }
+
+    @Override
+    public void fail(UUID jobId, String message) {
+        jobs.failIfRunning(jobId, message, Instant.now());
+    }
+
+    @Override
+    public int failStale() {
+        var now = Instant.now();
+        return jobs.failStale(now.minus(staleAfter), now, STALE_MESSAGE);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        streamScheduler.shutdownNow();
+    }
+}
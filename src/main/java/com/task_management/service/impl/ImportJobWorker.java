@@ -0,0 +1,127 @@
+package com.task_management.service.impl;
+
+import com.task_management.dto.ProjectImportReq;
+import com.task_management.entity.ImportJob;
+import com.task_management.service.ImportJobService;
+import com.task_management.service.ProjectService;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Polls the import_job table and runs queued imports on a bounded local pool. Jobs are claimed with
+ * {@code FOR UPDATE SKIP LOCKED}, so every node can run a worker without two of them taking the same job.
+ *
+ * <p>A job that stops reporting progress is failed by the next poll on any node. Its worker may still be
+ * running, so every progress update and the final completion are conditional on the job still being
+ * {@code RUNNING}; the import and the completion commit together, and a job found failed rolls its copy back.
+ */
+@Component
+@ConditionalOnProperty(name = "app.import.jobs.worker-enabled", havingValue = "true", matchIfMissing = true)
+public class ImportJobWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportJobWorker.class);
+    private static final int MAX_WORKER_ID_LENGTH = 64;
+
+    private final ImportJobService jobService;
+    private final ProjectService projectService;
+    private final TransactionTemplate transaction;
+    private final Semaphore capacity;
+    private final ExecutorService executor;
+    private final String workerId;
+
+    public ImportJobWorker(ImportJobService jobService,
+                           ProjectService projectService,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.import.jobs.concurrency:2}") int concurrency) {
+        this.jobService = jobService;
+        this.projectService = projectService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.capacity = new Semaphore(concurrency);
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> new Thread(runnable, "import-job-worker"));
+        String runtimeName = ManagementFactory.getRuntimeMXBean().getName();
+        this.workerId = runtimeName.length() > MAX_WORKER_ID_LENGTH
+                ? runtimeName.substring(0, MAX_WORKER_ID_LENGTH)
+                : runtimeName;
+    }
+
+    @Scheduled(fixedDelayString = "${app.import.jobs.poll-interval-ms:2000}")
+    public void poll() {
+        int stale = jobService.failStale();
+        if (stale > 0) {
+            logger.warn("Marked {} stale import job(s) as failed", stale);
+        }
+        while (capacity.tryAcquire()) {
+            Optional<ImportJob> claimed;
+            try {
+                claimed = jobService.claimNext(workerId);
+            } catch (RuntimeException ex) {
+                capacity.release();
+                throw ex;
+            }
+            if (claimed.isEmpty()) {
+                capacity.release();
+                return;
+            }
+            ImportJob job = claimed.get();
+            executor.execute(() -> {
+                try {
+                    run(job);
+                } finally {
+                    capacity.release();
+                }
+            });
+        }
+    }
+
+    void run(ImportJob job) {
+        var req = new ProjectImportReq(
+                job.getSourceProjectId(),
+                job.getNewProjectName(),
+                job.getDescription(),
+                job.isImportTasks(),
+                job.isImportNotes(),
+                job.isImportTags(),
+                job.isImportActions());
+        try {
+            transaction.executeWithoutResult(status -> {
+                var res = projectService.importProject(req, (tasks, notes, tags, actions) -> {
+                    if (!jobService.recordProgress(job.getId(), tasks, notes, tags, actions)) {
+                        throw new JobNoLongerRunningException();
+                    }
+                });
+                if (!jobService.complete(job.getId(), res)) {
+                    throw new JobNoLongerRunningException();
+                }
+            });
+        } catch (JobNoLongerRunningException ex) {
+            logger.warn("Import job {} was failed while still running; its import has been rolled back", job.getId());
+        } catch (RuntimeException ex) {
+            logger.warn("Import job {} failed", job.getId(), ex);
+            jobService.fail(job.getId(), ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /** Aborts an import whose job row is no longer {@code RUNNING}. */
+    private static final class JobNoLongerRunningException extends RuntimeException {
+        JobNoLongerRunningException() {
+            super(null, null, false, false);
+        }
+    }
+}
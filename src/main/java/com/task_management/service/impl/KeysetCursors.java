@@ -0,0 +1,75 @@
+package com.task_management.service.impl;
+
+import com.task_management.dto.CursorPageRes;
+import com.task_management.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Opaque cursors for keyset pagination. A cursor carries the sort key and id of the last row of a page,
+ * tagged with the list it belongs to so a task cursor cannot be replayed against notes.
+ */
+final class KeysetCursors {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private KeysetCursors() {
+    }
+
+    record Position<K>(K key, UUID id) {}
+
+    static String encode(String kind, Object key, UUID id) {
+        String raw = kind + "|" + key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Position<Instant> decodeInstant(String kind, String cursor) {
+        String[] parts = decode(kind, cursor);
+        try {
+            return new Position<>(Instant.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    static Position<Integer> decodeInt(String kind, String cursor) {
+        String[] parts = decode(kind, cursor);
+        try {
+            return new Position<>(Integer.valueOf(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    static void checkSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    /** Builds the page from {@code size + 1} fetched rows; the extra row only signals that more exist. */
+    static <E, R> CursorPageRes<R> page(List<E> rows, int size, Function<E, R> mapper, Function<E, String> cursorOf) {
+        boolean more = rows.size() > size;
+        List<E> content = more ? rows.subList(0, size) : rows;
+        String next = more ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPageRes<>(content.stream().map(mapper).toList(), size, next);
+    }
+
+    private static String[] decode(String kind, String cursor) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        String[] parts = raw.split("\\|", -1);
+        if (parts.length != 3 || !parts[0].equals(kind)) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        return parts;
+    }
+}
@@ -1,31 +1,45 @@
 package com.task_management.service.impl;
 
 
+import com.task_management.dto.ChangeOperation;
+import com.task_management.dto.CursorPageRes;
 import com.task_management.dto.NoteCreateReq;
 import com.task_management.dto.NoteRes;
 import com.task_management.dto.NoteUpdateReq;
+import com.task_management.entity.ChangeEntityType;
 import com.task_management.entity.Note;
 import com.task_management.mapper.NoteMapper;
+import com.task_management.repository.ChangeFeedRepository;
 import com.task_management.repository.NoteRepository;
 import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.ProjectVersionRepository;
 import com.task_management.repository.TaskRepository;
 import com.task_management.service.NoteService;
 import com.task_management.exception.BadRequestException;
 import com.task_management.exception.NotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @Service @RequiredArgsConstructor @Transactional
 public class NoteServiceImpl implements NoteService {
+    private static final String PROJECT_CURSOR_KIND = "project-note";
+    private static final String TASK_CURSOR_KIND = "task-note";
+
     private final NoteRepository notes;
     private final ProjectRepository projects;
+    private final ProjectVersionRepository versions;
+    private final ChangeFeedRepository changeFeed;
     private final TaskRepository tasks;
     private final NoteMapper mapper;
+    private final ProjectEventPublisher events;
 
     @Override
     public NoteRes create(NoteCreateReq req) {
@@ -34,29 +48,72 @@ public class NoteServiceImpl implements NoteService {
         if (hasProject == hasTask) throw new BadRequestException("Provide either projectId or taskId");
 
         var n = new Note();
+        UUID projectId;
         if (hasProject) {
-            var p = projects.findById(req.projectId()).orElseThrow(() -> new NotFoundException("Project not found"));
-            n.setProject(p);
+            var p = projects.findHeaderById(req.projectId())
+                    .orElseThrow(() -> new NotFoundException("Project not found"));
+            n.setProject(projects.getReferenceById(p.id()));
+            projectId = p.id();
         } else {
             var t = tasks.findById(req.taskId()).orElseThrow(() -> new NotFoundException("Task not found"));
             n.setTask(t);
+            projectId = t.getProject().getId();
         }
+        versions.bump(projectId);
         n.setBody(req.body());
-        return mapper.toRes(notes.save(n));
+        var saved = notes.save(n);
+        events.publish(projectId, ChangeEntityType.NOTE, saved.getId(), ChangeOperation.CREATED);
+        return mapper.toRes(saved);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<NoteRes> listForProject(UUID projectId, Pageable pageable) {
         if (!projects.existsById(projectId)) throw new NotFoundException("Project not found");
         return notes.findByProjectIdOrderByCreatedAtDesc(projectId, pageable).map(mapper::toRes);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<NoteRes> listForTask(UUID taskId, Pageable pageable) {
         if (!tasks.existsById(taskId)) throw new NotFoundException("Task not found");
         return notes.findByTaskIdOrderByCreatedAtDesc(taskId, pageable).map(mapper::toRes);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageRes<NoteRes> listForProjectByCursor(UUID projectId, String cursor, int size) {
+        KeysetCursors.checkSize(size);
+        if (!projects.existsById(projectId)) throw new NotFoundException("Project not found");
+        var limit = Limit.of(size + 1);
+        List<Note> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = notes.findFirstByProject(projectId, limit);
+        } else {
+            var position = KeysetCursors.decodeInstant(PROJECT_CURSOR_KIND, cursor);
+            rows = notes.findByProjectBefore(projectId, position.key(), position.id(), limit);
+        }
+        return KeysetCursors.page(rows, size, mapper::toRes,
+                n -> KeysetCursors.encode(PROJECT_CURSOR_KIND, n.getCreatedAt(), n.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageRes<NoteRes> listForTaskByCursor(UUID taskId, String cursor, int size) {
+        KeysetCursors.checkSize(size);
+        if (!tasks.existsById(taskId)) throw new NotFoundException("Task not found");
+        var limit = Limit.of(size + 1);
+        List<Note> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = notes.findFirstByTask(taskId, limit);
+        } else {
+            var position = KeysetCursors.decodeInstant(TASK_CURSOR_KIND, cursor);
+            rows = notes.findByTaskBefore(taskId, position.key(), position.id(), limit);
+        }
+        return KeysetCursors.page(rows, size, mapper::toRes,
+                n -> KeysetCursors.encode(TASK_CURSOR_KIND, n.getCreatedAt(), n.getId()));
+    }
+
     @Override
     public NoteRes update(UUID noteId, NoteUpdateReq req) {
         var note = notes.findById(noteId).orElseThrow(() -> new NotFoundException("Note not found"));
@@ -64,13 +121,18 @@ public class NoteServiceImpl implements NoteService {
         if (req.body() != null) {
             note.setBody(req.body());
         }
-        
+        // Resolved in SQL; going through note.getTask() would load the task just for its project id
+        versions.bumpForNote(noteId).ifPresent(projectId ->
+                events.publish(projectId, ChangeEntityType.NOTE, noteId, ChangeOperation.UPDATED));
+
         return mapper.toRes(notes.save(note));
     }
 
     @Override
     public void delete(UUID noteId) {
-        if (!notes.existsById(noteId)) throw new NotFoundException("Note not found");
-        notes.deleteById(noteId);
+        var projectId = versions.bumpForNote(noteId);
+        changeFeed.recordNoteDeletion(noteId, Instant.now());
+        if (notes.deleteRowById(noteId) == 0) throw new NotFoundException("Note not found");
+        projectId.ifPresent(p -> events.publish(p, ChangeEntityType.NOTE, noteId, ChangeOperation.DELETED));
     }
 }
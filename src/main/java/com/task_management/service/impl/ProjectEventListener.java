@@ -0,0 +1,136 @@
+package com.task_management.service.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task_management.dto.ProjectEventRes;
+import com.task_management.repository.DatabasePlatform;
+import com.task_management.service.ProjectEventService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * The single {@code LISTEN} connection of this node, multiplexed to every local event stream. It is opened
+ * outside the pool from the pool's own connection details, since it is held for the life of the node, and served
+ * by one virtual thread that parks while waiting for notifications. After a lost connection it reconnects every
+ * {@code app.events.reconnect-delay-ms} and tells all streams to resync, since notifications sent in between are
+ * gone. PostgreSQL only.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.listener-enabled", havingValue = "true", matchIfMissing = true)
+public class ProjectEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectEventListener.class);
+    private static final int POLL_TIMEOUT_MS = 1_000;
+    private static final long VALIDATE_AFTER_IDLE_MS = 30_000;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final TypeReference<List<ProjectEventRes>> EVENTS = new TypeReference<>() {};
+
+    private final DatabasePlatform platform;
+    private final JdbcConnectionDetails connectionDetails;
+    private final ProjectEventService events;
+    private final ObjectMapper objectMapper;
+    private final long reconnectDelayMs;
+    private volatile boolean running;
+    private Thread thread;
+
+    public ProjectEventListener(DatabasePlatform platform,
+                                JdbcConnectionDetails connectionDetails,
+                                ProjectEventService events,
+                                ObjectMapper objectMapper,
+                                @Value("${app.events.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+        this.platform = platform;
+        this.connectionDetails = connectionDetails;
+        this.events = events;
+        this.objectMapper = objectMapper;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!platform.isPostgres()) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofVirtual().name("project-event-listener").start(this::run);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            thread.join(POLL_TIMEOUT_MS * 2L);
+        }
+    }
+
+    private void run() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(connectionDetails.getJdbcUrl(),
+                    connectionDetails.getUsername(), connectionDetails.getPassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + ProjectEventPublisher.CHANNEL);
+                }
+                if (reconnecting) {
+                    events.requestResync();
+                    logger.info("Project event listener reconnected");
+                }
+                listen(connection);
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Project event listener lost its connection, reconnecting in {} ms", reconnectDelayMs, ex);
+                reconnecting = true;
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen(Connection connection) throws SQLException {
+        PGConnection listener = connection.unwrap(PGConnection.class);
+        long lastHeard = System.currentTimeMillis();
+        while (running) {
+            PGNotification[] notifications = listener.getNotifications(POLL_TIMEOUT_MS);
+            long now = System.currentTimeMillis();
+            if (notifications != null && notifications.length > 0) {
+                lastHeard = now;
+                for (PGNotification notification : notifications) {
+                    dispatch(notification.getParameter());
+                }
+            } else if (now - lastHeard > VALIDATE_AFTER_IDLE_MS) {
+                // A silently dropped connection only shows up when something is sent over it
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Listener connection failed validation");
+                }
+                lastHeard = now;
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            events.dispatch(objectMapper.readValue(payload, EVENTS));
+        } catch (IOException | RuntimeException ex) {
+            logger.warn("Dropping unreadable project event notification", ex);
+        }
+    }
+}
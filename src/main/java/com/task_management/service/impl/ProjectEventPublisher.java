@@ -0,0 +1,120 @@
+package com.task_management.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task_management.dto.ChangeOperation;
+import com.task_management.dto.ProjectEventRes;
+import com.task_management.entity.ChangeEntityType;
+import com.task_management.repository.DatabasePlatform;
+import com.task_management.service.ProjectEventService;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Collects the events of a write transaction and releases them only once it commits. On PostgreSQL they leave as
+ * {@code NOTIFY} from inside the transaction, which the server delivers on commit and discards on rollback, and
+ * the {@link ProjectEventListener} of every node, this one included, hands them to its subscribers. Elsewhere
+ * there is no cross-node channel and events go straight to this node's subscribers after commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectEventPublisher {
+
+    static final String CHANNEL = "project_events";
+    // NOTIFY payloads are capped at 8000 bytes; events are sent as JSON arrays kept below this
+    static final int MAX_PAYLOAD_LENGTH = 7_500;
+
+    private final JdbcTemplate jdbc;
+    private final DatabasePlatform platform;
+    private final ProjectEventService events;
+    private final ObjectMapper objectMapper;
+
+    public void publish(UUID projectId, ChangeEntityType type, UUID id, ChangeOperation operation) {
+        var event = new ProjectEventRes(projectId, type, id, operation, Instant.now());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending().add(event);
+        } else {
+            release(List.of(event));
+        }
+    }
+
+    /**
+     * One event for a whole bulk request instead of one per row, which at the bulk limits would overflow every
+     * subscriber's queue. Subscribers catch up on the rows themselves over the changes feed.
+     */
+    public void publishBulk(UUID projectId, ChangeEntityType type) {
+        publish(projectId, type, null, ChangeOperation.BULK);
+    }
+
+    // Kept on the synchronization rather than as a bound resource, so a suspended outer transaction keeps its own
+    private List<ProjectEventRes> pending() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingEvents pending) {
+                return pending.collected;
+            }
+        }
+        var pending = new PendingEvents();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending.collected;
+    }
+
+    private void release(List<ProjectEventRes> released) {
+        if (platform.isPostgres()) {
+            notifyListeners(released);
+        } else {
+            events.dispatch(released);
+        }
+    }
+
+    private void notifyListeners(List<ProjectEventRes> released) {
+        StringBuilder payload = new StringBuilder();
+        for (ProjectEventRes event : released) {
+            String json = toJson(event);
+            if (!payload.isEmpty() && payload.length() + json.length() + 2 > MAX_PAYLOAD_LENGTH) {
+                send(payload);
+                payload.setLength(0);
+            }
+            payload.append(payload.isEmpty() ? '[' : ',').append(json);
+        }
+        if (!payload.isEmpty()) {
+            send(payload);
+        }
+    }
+
+    private void send(StringBuilder payload) {
+        jdbc.queryForList("SELECT pg_notify(?, ?)", CHANNEL, payload.append(']').toString());
+    }
+
+    private String toJson(ProjectEventRes event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize project event", ex);
+        }
+    }
+
+    private final class PendingEvents implements TransactionSynchronization {
+        private final List<ProjectEventRes> collected = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (platform.isPostgres()) {
+                notifyListeners(collected);
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            if (!platform.isPostgres()) {
+                events.dispatch(collected);
+            }
+        }
+    }
+}
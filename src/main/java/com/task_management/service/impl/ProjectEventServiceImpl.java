@@ -0,0 +1,224 @@
+package com.task_management.service.impl;
+
+import com.task_management.dto.ProjectEventRes;
+import com.task_management.exception.NotFoundException;
+import com.task_management.exception.ServiceUnavailableException;
+import com.task_management.monitoring.ProjectEventMetrics;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.service.ProjectEventService;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans committed project events out to the event streams open on this node. Streams are async requests, so an
+ * idle one holds no thread at all; writes to a stream run on a virtual thread of their own, so a slow client
+ * blocks nobody but itself. Each stream buffers at most {@code app.events.queue-capacity} events. One that falls
+ * further behind is sent a {@code resync} event and closed: the client reconnects and catches up over the
+ * {@code /changes} feed instead of the node buffering without bound.
+ */
+@Service
+public class ProjectEventServiceImpl implements ProjectEventService {
+
+    private final ProjectRepository projects;
+    private final ProjectEventMetrics metrics;
+    private final int maxSubscribers;
+    private final int queueCapacity;
+    private final long streamTimeoutMs;
+    private final Executor senders;
+    private final Map<UUID, Set<Subscriber>> byProject = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    @Autowired
+    public ProjectEventServiceImpl(ProjectRepository projects,
+                                   ProjectEventMetrics metrics,
+                                   @Value("${app.events.max-subscribers:2000}") int maxSubscribers,
+                                   @Value("${app.events.queue-capacity:256}") int queueCapacity,
+                                   @Value("${app.events.stream-timeout-ms:1800000}") long streamTimeoutMs) {
+        this(projects, metrics, maxSubscribers, queueCapacity, streamTimeoutMs,
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("project-events-", 0).factory()));
+    }
+
+    ProjectEventServiceImpl(ProjectRepository projects, ProjectEventMetrics metrics, int maxSubscribers,
+                            int queueCapacity, long streamTimeoutMs, Executor senders) {
+        this.projects = projects;
+        this.metrics = metrics;
+        this.maxSubscribers = maxSubscribers;
+        this.queueCapacity = queueCapacity;
+        this.streamTimeoutMs = streamTimeoutMs;
+        this.senders = senders;
+    }
+
+    @Override
+    public SseEmitter subscribe(UUID projectId) {
+        if (!projects.existsById(projectId)) {
+            throw new NotFoundException("Project not found");
+        }
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            metrics.incrementRejected();
+            throw new ServiceUnavailableException("Too many event streams on this node, retry later");
+        }
+        var emitter = new SseEmitter(streamTimeoutMs);
+        var subscriber = new Subscriber(projectId, emitter);
+        byProject.compute(projectId, (id, current) -> {
+            Set<Subscriber> set = current != null ? current : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        metrics.subscribed();
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(ex -> remove(subscriber));
+        return emitter;
+    }
+
+    @Override
+    public void dispatch(List<ProjectEventRes> events) {
+        for (ProjectEventRes event : events) {
+            Set<Subscriber> set = byProject.get(event.projectId());
+            if (set != null) {
+                set.forEach(subscriber -> subscriber.offer(event));
+            }
+        }
+    }
+
+    @Override
+    public void requestResync() {
+        byProject.values().forEach(set -> set.forEach(Subscriber::resync));
+    }
+
+    // Keeps proxies from timing out idle streams and surfaces clients that went away without closing
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        byProject.values().forEach(set -> set.forEach(Subscriber::heartbeat));
+    }
+
+    int subscriberCount() {
+        return subscribers.get();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        byProject.computeIfPresent(subscriber.projectId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        subscribers.decrementAndGet();
+        metrics.unsubscribed();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        byProject.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        if (senders instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private enum Resync {
+        OVERFLOW("overflow"),
+        MISSED_EVENTS("missed-events");
+
+        private final String reason;
+
+        Resync(String reason) {
+            this.reason = reason;
+        }
+    }
+
+    private final class Subscriber {
+        private final UUID projectId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<ProjectEventRes> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicReference<Resync> resync = new AtomicReference<>();
+        private volatile boolean heartbeatDue;
+
+        private Subscriber(UUID projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+        }
+
+        void offer(ProjectEventRes event) {
+            if (!queue.offer(event) && resync.getAndSet(Resync.OVERFLOW) != Resync.OVERFLOW) {
+                metrics.incrementOverflow();
+            }
+            schedule();
+        }
+
+        void resync() {
+            resync.compareAndSet(null, Resync.MISSED_EVENTS);
+            schedule();
+        }
+
+        void heartbeat() {
+            heartbeatDue = true;
+            schedule();
+        }
+
+        // At most one sender per stream, so events go out in order without holding a lock across the write
+        private void schedule() {
+            if (!closed.get() && sending.compareAndSet(false, true)) {
+                senders.execute(this::send);
+            }
+        }
+
+        private void send() {
+            try {
+                do {
+                    Resync pending = resync.get();
+                    if (pending == Resync.OVERFLOW) {
+                        queue.clear();
+                        emitter.send(SseEmitter.event().name("resync").data(pending.reason));
+                        emitter.complete();
+                        remove(this);
+                        return;
+                    }
+                    if (pending != null && resync.compareAndSet(pending, null)) {
+                        emitter.send(SseEmitter.event().name("resync").data(pending.reason));
+                    }
+                    ProjectEventRes event;
+                    while (resync.get() != Resync.OVERFLOW && (event = queue.poll()) != null) {
+                        emitter.send(SseEmitter.event().name("change").data(event, MediaType.APPLICATION_JSON));
+                        metrics.incrementSent();
+                    }
+                    if (heartbeatDue) {
+                        heartbeatDue = false;
+                        emitter.send(SseEmitter.event().comment("keepalive"));
+                    }
+                    sending.set(false);
+                    // Work that arrived after the last check but before the flag was cleared is picked up here
+                } while (hasWork() && sending.compareAndSet(false, true));
+            } catch (IOException | RuntimeException ex) {
+                emitter.completeWithError(ex);
+                remove(this);
+            }
+        }
+
+        private boolean hasWork() {
+            return !closed.get() && (!queue.isEmpty() || resync.get() != null || heartbeatDue);
+        }
+    }
+}
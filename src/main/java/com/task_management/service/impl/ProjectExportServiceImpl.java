@@ -0,0 +1,152 @@
+package com.task_management.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvFactory;
+import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.task_management.dto.ExportFormat;
+import com.task_management.exception.NotFoundException;
+import com.task_management.exception.ServiceUnavailableException;
+import com.task_management.repository.ProjectExportRepository;
+import com.task_management.repository.ProjectExportRepository.Section;
+import com.task_management.repository.ProjectVersionRepository;
+import com.task_management.service.ProjectExportService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Whole-project export. Every section is read through a cursor and each row goes straight to a Jackson streaming
+ * generator, so nothing but the current fetch is held whatever the size of the project. All sections come from
+ * one repeatable-read transaction: an export taken while the project is being edited is still a consistent
+ * snapshot, with no note pointing at a task the export does not contain.
+ *
+ * <p>That transaction, and the pooled connection under it, stay open for as long as the client takes to download
+ * the export. Two limits bound this: {@code spring.mvc.async.request-timeout} cancels an export that runs longer,
+ * which rolls the snapshot back, and at most {@code app.export.max-concurrent} exports run at once on a node, so
+ * the rest of the pool stays free for other requests.
+ */
+@Service
+public class ProjectExportServiceImpl implements ProjectExportService {
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+            .addColumn("type")
+            .addColumns(ProjectExportRepository.FIELDS, CsvSchema.ColumnType.STRING)
+            .setUseHeader(true)
+            .build();
+
+    private final ProjectExportRepository exports;
+    private final ProjectVersionRepository versions;
+    private final ObjectMapper objectMapper;
+    private final Semaphore slots;
+    // Quote only values that need it; by default every value longer than a few characters is quoted
+    private final CsvFactory csvFactory = CsvFactory.builder()
+            .enable(CsvGenerator.Feature.STRICT_CHECK_FOR_QUOTING)
+            .build();
+
+    public ProjectExportServiceImpl(ProjectExportRepository exports,
+                                    ProjectVersionRepository versions,
+                                    ObjectMapper objectMapper,
+                                    @Value("${app.export.max-concurrent:3}") int maxConcurrent) {
+        this.exports = exports;
+        this.versions = versions;
+        this.objectMapper = objectMapper;
+        this.slots = new Semaphore(maxConcurrent);
+    }
+
+    // Not transactional: a node at its limit turns the request away without touching the pool
+    @Override
+    public ExportSlot reserveExport(UUID projectId) {
+        if (!slots.tryAcquire()) {
+            throw new ServiceUnavailableException("Too many exports running on this node, retry later");
+        }
+        ExportSlot slot = new Slot();
+        try {
+            checkExists(projectId);
+        } catch (RuntimeException ex) {
+            slot.close();
+            throw ex;
+        }
+        return slot;
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void writeExport(UUID projectId, ExportFormat format, ExportOutput output) throws IOException {
+        // First read of the snapshot: the project row itself carries the soft delete the other sections do not
+        checkExists(projectId);
+        try (JsonGenerator generator = createGenerator(format, output.open())) {
+            for (Section section : Section.values()) {
+                String type = typeOf(section);
+                exports.forEachRow(section, projectId, values -> writeRow(generator, type, values));
+                generator.flush();
+            }
+        }
+    }
+
+    private void checkExists(UUID projectId) {
+        if (versions.findVersion(projectId).isEmpty()) throw new NotFoundException("Project not found");
+    }
+
+    private JsonGenerator createGenerator(ExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> objectMapper.createGenerator(out).setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            case CSV -> {
+                CsvGenerator csv = csvFactory.createGenerator(out);
+                csv.setSchema(CSV_SCHEMA);
+                yield csv;
+            }
+        };
+    }
+
+    private static String typeOf(Section section) {
+        return switch (section) {
+            case PROJECT_NOTE, TASK_NOTE -> "note";
+            default -> section.name().toLowerCase(Locale.ROOT);
+        };
+    }
+
+    private static void writeRow(JsonGenerator generator, String type, Object[] values) throws IOException {
+        List<String> fields = ProjectExportRepository.FIELDS;
+        generator.writeStartObject();
+        generator.writeStringField("type", type);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) continue;
+            generator.writeFieldName(fields.get(i));
+            switch (value) {
+                case Boolean b -> generator.writeBoolean(b);
+                case Integer n -> generator.writeNumber(n);
+                case String s -> generator.writeString(s);
+                case UUID id -> generator.writeString(id.toString());
+                case Instant at -> generator.writeString(at.toString());
+                case LocalDate day -> generator.writeString(day.toString());
+                default -> throw new IllegalStateException("Unexpected export value " + value.getClass());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private final class Slot implements ExportSlot {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                slots.release();
+            }
+        }
+    }
+}
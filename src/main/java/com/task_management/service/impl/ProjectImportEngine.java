@@ -0,0 +1,282 @@
+package com.task_management.service.impl;
+
+import com.task_management.dto.ProjectImportReq;
+import com.task_management.entity.UuidV7Generator;
+import com.task_management.monitoring.ImportMetrics;
+import com.task_management.monitoring.ImportMetrics.Entity;
+import com.task_management.repository.DatabasePlatform;
+import com.task_management.service.ImportProgressListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Copies the tasks, tags, notes and actions of one project into another without going through the
+ * persistence context. On PostgreSQL every entity type is one {@code INSERT ... SELECT}, with task ids
+ * remapped through a transaction-scoped temporary table; other databases (H2 in tests) read the source
+ * rows once and write them with JDBC batches and pre-generated ids.
+ *
+ * <p>Must run inside the caller's transaction, after the target project row has been flushed.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectImportEngine {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String CREATE_TASK_MAP = """
+            CREATE TEMP TABLE IF NOT EXISTS import_task_map (
+                old_id UUID PRIMARY KEY,
+                new_id UUID NOT NULL
+            ) ON COMMIT DROP
+            """;
+
+    private static final String FILL_TASK_MAP = """
+            INSERT INTO import_task_map (old_id, new_id)
+            SELECT id, uuid_generate_v7() FROM task WHERE project_id = ?
+            """;
+
+    private static final String COPY_TASKS = """
+            INSERT INTO task (id, project_id, title, description, is_activity, duration,
+                              start_at, end_at, start_day, end_day, color, created_at, updated_at)
+            SELECT m.new_id, ?, t.title, t.description, t.is_activity, t.duration,
+                   t.start_at, t.end_at, t.start_day, t.end_day, t.color, now(), now()
+            FROM task t
+            JOIN import_task_map m ON m.old_id = t.id
+            """;
+
+    private static final String COPY_TAGS = """
+            INSERT INTO tag (id, project_id, title, description, is_activity, duration,
+                             start_at, end_at, start_day, end_day, color, created_at, updated_at)
+            SELECT uuid_generate_v7(), ?, g.title, g.description, g.is_activity, g.duration,
+                   g.start_at, g.end_at, g.start_day, g.end_day, g.color, now(), now()
+            FROM tag g
+            WHERE g.project_id = ?
+            """;
+
+    private static final String COPY_PROJECT_NOTES = """
+            INSERT INTO note (id, project_id, body, created_at, updated_at)
+            SELECT uuid_generate_v7(), ?, n.body, now(), now()
+            FROM note n
+            WHERE n.project_id = ?
+            """;
+
+    private static final String COPY_TASK_NOTES = """
+            INSERT INTO note (id, task_id, body, created_at, updated_at)
+            SELECT uuid_generate_v7(), m.new_id, n.body, now(), now()
+            FROM note n
+            JOIN import_task_map m ON m.old_id = n.task_id
+            """;
+
+    private static final String COPY_ACTIONS = """
+            INSERT INTO action (id, task_id, details, day, created_at, updated_at)
+            SELECT uuid_generate_v7(), m.new_id, a.details, a.day, now(), now()
+            FROM action a
+            JOIN import_task_map m ON m.old_id = a.task_id
+            """;
+
+    private static final String SELECT_TASKS = """
+            SELECT id, title, description, is_activity, duration, start_at, end_at, start_day, end_day, color
+            FROM task WHERE project_id = ?
+            """;
+
+    private static final String INSERT_TASK = """
+            INSERT INTO task (id, project_id, title, description, is_activity, duration,
+                              start_at, end_at, start_day, end_day, color, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            """;
+
+    private static final String SELECT_TAGS = """
+            SELECT title, description, is_activity, duration, start_at, end_at, start_day, end_day, color
+            FROM tag WHERE project_id = ?
+            """;
+
+    private static final String INSERT_TAG = """
+            INSERT INTO tag (id, project_id, title, description, is_activity, duration,
+                             start_at, end_at, start_day, end_day, color, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            """;
+
+    private static final String SELECT_PROJECT_NOTES = "SELECT body FROM note WHERE project_id = ?";
+
+    private static final String INSERT_PROJECT_NOTE = """
+            INSERT INTO note (id, project_id, body, created_at, updated_at)
+            VALUES (?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            """;
+
+    private static final String SELECT_TASK_NOTES = """
+            SELECT n.task_id, n.body
+            FROM note n JOIN task t ON t.id = n.task_id
+            WHERE t.project_id = ?
+            """;
+
+    private static final String INSERT_TASK_NOTE = """
+            INSERT INTO note (id, task_id, body, created_at, updated_at)
+            VALUES (?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            """;
+
+    private static final String SELECT_ACTIONS = """
+            SELECT a.task_id, a.details, a.day
+            FROM action a JOIN task t ON t.id = a.task_id
+            WHERE t.project_id = ?
+            """;
+
+    private static final String INSERT_ACTION = """
+            INSERT INTO action (id, task_id, details, day, created_at, updated_at)
+            VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final DatabasePlatform platform;
+    private final ImportMetrics metrics;
+
+    public record ImportCounts(int tasks, int notes, int tags, int actions) {
+    }
+
+    public ImportCounts copy(UUID sourceProjectId, UUID targetProjectId, ProjectImportReq req,
+                             ImportProgressListener listener) {
+        return platform.isPostgres()
+                ? copySetBased(sourceProjectId, targetProjectId, req, listener)
+                : copyBatched(sourceProjectId, targetProjectId, req, listener);
+    }
+
+    private ImportCounts copySetBased(UUID source, UUID target, ProjectImportReq req, ImportProgressListener listener) {
+        int taskCount = 0;
+        int noteCount = 0;
+        int tagCount = 0;
+        int actionCount = 0;
+
+        if (req.importTasks()) {
+            taskCount = metrics.timePhase(Entity.TASK, () -> {
+                jdbc.execute(CREATE_TASK_MAP);
+                jdbc.update("DELETE FROM import_task_map");
+                jdbc.update(FILL_TASK_MAP, source);
+                return jdbc.update(COPY_TASKS, target);
+            });
+            listener.onProgress(taskCount, noteCount, tagCount, actionCount);
+        }
+        if (req.importTags()) {
+            tagCount = metrics.timePhase(Entity.TAG, () -> jdbc.update(COPY_TAGS, target, source));
+            listener.onProgress(taskCount, noteCount, tagCount, actionCount);
+        }
+        if (req.importNotes()) {
+            boolean withTaskNotes = taskCount > 0;
+            noteCount = metrics.timePhase(Entity.NOTE, () -> {
+                int copied = jdbc.update(COPY_PROJECT_NOTES, target, source);
+                // Task notes follow their task, so they are only copied alongside the tasks
+                if (withTaskNotes) {
+                    copied += jdbc.update(COPY_TASK_NOTES);
+                }
+                return copied;
+            });
+            listener.onProgress(taskCount, noteCount, tagCount, actionCount);
+        }
+        if (req.importActions() && taskCount > 0) {
+            actionCount = metrics.timePhase(Entity.ACTION, () -> jdbc.update(COPY_ACTIONS));
+            listener.onProgress(taskCount, noteCount, tagCount, actionCount);
+        }
+        return new ImportCounts(taskCount, noteCount, tagCount, actionCount);
+    }
+
+    private ImportCounts copyBatched(UUID source, UUID target, ProjectImportReq req, ImportProgressListener listener) {
+        Map<Object, UUID> oldTaskIdToNewId = new HashMap<>();
+        int noteCount = 0;
+        int tagCount = 0;
+        int actionCount = 0;
+
+        if (req.importTasks()) {
+            metrics.timePhase(Entity.TASK, () -> {
+                List<Object[]> rows = new ArrayList<>();
+                jdbc.query(SELECT_TASKS, rs -> {
+                    UUID newId = UuidV7Generator.next();
+                    oldTaskIdToNewId.put(rs.getObject("id"), newId);
+                    rows.add(new Object[] {
+                            newId, target, rs.getObject("title"), rs.getObject("description"),
+                            rs.getObject("is_activity"), rs.getObject("duration"), rs.getObject("start_at"),
+                            rs.getObject("end_at"), rs.getObject("start_day"), rs.getObject("end_day"),
+                            rs.getObject("color")
+                    });
+                }, source);
+                return batchInsert(INSERT_TASK, rows);
+            });
+            listener.onProgress(oldTaskIdToNewId.size(), noteCount, tagCount, actionCount);
+        }
+        if (req.importTags()) {
+            tagCount = metrics.timePhase(Entity.TAG, () -> {
+                List<Object[]> rows = new ArrayList<>();
+                jdbc.query(SELECT_TAGS, rs -> {
+                    rows.add(new Object[] {
+                            UuidV7Generator.next(), target, rs.getObject("title"), rs.getObject("description"),
+                            rs.getObject("is_activity"), rs.getObject("duration"), rs.getObject("start_at"),
+                            rs.getObject("end_at"), rs.getObject("start_day"), rs.getObject("end_day"),
+                            rs.getObject("color")
+                    });
+                }, source);
+                return batchInsert(INSERT_TAG, rows);
+            });
+            listener.onProgress(oldTaskIdToNewId.size(), noteCount, tagCount, actionCount);
+        }
+        if (req.importNotes()) {
+            noteCount = metrics.timePhase(Entity.NOTE, () -> {
+                List<Object[]> projectNotes = new ArrayList<>();
+                jdbc.query(SELECT_PROJECT_NOTES,
+                        rs -> { projectNotes.add(new Object[] {UuidV7Generator.next(), target, rs.getObject("body")}); },
+                        source);
+                int copied = batchInsert(INSERT_PROJECT_NOTE, projectNotes);
+
+                if (!oldTaskIdToNewId.isEmpty()) {
+                    copied += batchInsert(INSERT_TASK_NOTE,
+                            remapTaskRows(SELECT_TASK_NOTES, source, oldTaskIdToNewId, "body"));
+                }
+                return copied;
+            });
+            listener.onProgress(oldTaskIdToNewId.size(), noteCount, tagCount, actionCount);
+        }
+        if (req.importActions() && !oldTaskIdToNewId.isEmpty()) {
+            actionCount = metrics.timePhase(Entity.ACTION, () -> batchInsert(INSERT_ACTION,
+                    remapTaskRows(SELECT_ACTIONS, source, oldTaskIdToNewId, "details", "day")));
+            listener.onProgress(oldTaskIdToNewId.size(), noteCount, tagCount, actionCount);
+        }
+        return new ImportCounts(oldTaskIdToNewId.size(), noteCount, tagCount, actionCount);
+    }
+
+    /** Reads task-owned rows and swaps their task_id for the id of the copied task. */
+    private List<Object[]> remapTaskRows(String sql, UUID source, Map<Object, UUID> taskIds, String... columns) {
+        List<Object[]> rows = new ArrayList<>();
+        jdbc.query(sql, rs -> {
+            UUID newTaskId = taskIds.get(rs.getObject("task_id"));
+            if (newTaskId == null) {
+                return;
+            }
+            Object[] row = new Object[columns.length + 2];
+            row[0] = UuidV7Generator.next();
+            row[1] = newTaskId;
+            for (int i = 0; i < columns.length; i++) {
+                row[i + 2] = rs.getObject(columns[i]);
+            }
+            rows.add(row);
+        }, source);
+        return rows;
+    }
+
+    private int batchInsert(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        jdbc.batchUpdate(sql, rows, BATCH_SIZE, (ps, row) -> {
+            for (int i = 0; i < row.length; i++) {
+                StatementCreatorUtils.setParameterValue(ps, i + 1, SqlTypeValue.TYPE_UNKNOWN, row[i]);
+            }
+        });
+        // Drivers may report SUCCESS_NO_INFO per statement, so count the rows we sent
+        return rows.size();
+    }
+}
@@ -0,0 +1,52 @@
+package com.task_management.service.impl;
+
+import com.task_management.exception.NotFoundException;
+import com.task_management.monitoring.PurgeMetrics;
+import com.task_management.repository.ProjectPurgeRepository;
+import com.task_management.repository.ProjectPurgeRepository.Table;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.TitleSuggestionRepository.Source;
+import com.task_management.service.ProjectPurgeService;
+import com.task_management.service.TitleAutocompleteService;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service @RequiredArgsConstructor @Transactional
+public class ProjectPurgeServiceImpl implements ProjectPurgeService {
+    private final ProjectRepository projects;
+    private final ProjectPurgeRepository purge;
+    private final TitleAutocompleteService autocomplete;
+    private final PurgeMetrics metrics;
+
+    @Override
+    public void markDeleted(UUID projectId) {
+        if (projects.markDeleted(projectId, Instant.now()) == 0) throw new NotFoundException("Project not found");
+        autocomplete.invalidate(Source.TASK, projectId);
+        autocomplete.invalidate(Source.TAG, projectId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> findPending(int limit) {
+        return purge.findPending(limit);
+    }
+
+    @Override
+    public int purgeChunk(UUID projectId, int chunkSize) {
+        for (Table table : Table.values()) {
+            int rows = metrics.timeChunk(() -> purge.deleteChunk(table, projectId, chunkSize));
+            if (rows > 0) {
+                metrics.recordRows(table, rows);
+                return rows;
+            }
+        }
+        if (purge.deleteProject(projectId) > 0) {
+            metrics.incrementProjectsPurged();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,109 @@
+package com.task_management.service.impl;
+
+import com.task_management.service.ProjectPurgeService;
+import jakarta.annotation.PreDestroy;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Removes the rows of soft-deleted projects in bounded chunks on a single background thread. Each chunk is its
+ * own transaction, and the worker sleeps between chunks so the purge stays under
+ * {@code app.projects.purge.max-rows-per-second}. Two nodes purging the same project only split the chunks
+ * between them.
+ */
+@Component
+@ConditionalOnProperty(name = "app.projects.purge.worker-enabled", havingValue = "true", matchIfMissing = true)
+public class ProjectPurgeWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectPurgeWorker.class);
+    private static final int PROJECTS_PER_POLL = 10;
+
+    private final ProjectPurgeService purgeService;
+    private final int chunkSize;
+    private final int maxRowsPerSecond;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "project-purge-worker"));
+
+    public ProjectPurgeWorker(ProjectPurgeService purgeService,
+                              @Value("${app.projects.purge.chunk-size:1000}") int chunkSize,
+                              @Value("${app.projects.purge.max-rows-per-second:5000}") int maxRowsPerSecond) {
+        this.purgeService = purgeService;
+        this.chunkSize = chunkSize;
+        this.maxRowsPerSecond = maxRowsPerSecond;
+    }
+
+    @Scheduled(fixedDelayString = "${app.projects.purge.poll-interval-ms:10000}")
+    public void poll() {
+        // A drain can outlive many polls; never start a second one next to it
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    drain();
+                } finally {
+                    draining.set(false);
+                }
+            });
+        } catch (RuntimeException ex) {
+            draining.set(false);
+            throw ex;
+        }
+    }
+
+    void drain() {
+        for (UUID projectId : purgeService.findPending(PROJECTS_PER_POLL)) {
+            try {
+                purge(projectId);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                logger.warn("Purge of project {} failed, retrying on the next poll", projectId, ex);
+            }
+        }
+    }
+
+    private void purge(UUID projectId) throws InterruptedException {
+        long rows = 0;
+        while (true) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            long start = System.nanoTime();
+            int purged = purgeService.purgeChunk(projectId, chunkSize);
+            if (purged == 0) {
+                logger.info("Purged project {} ({} rows)", projectId, rows);
+                return;
+            }
+            rows += purged;
+            throttle(purged, System.nanoTime() - start);
+        }
+    }
+
+    private void throttle(int rows, long elapsedNanos) throws InterruptedException {
+        if (maxRowsPerSecond <= 0) {
+            return;
+        }
+        long budgetNanos = TimeUnit.SECONDS.toNanos(rows) / maxRowsPerSecond;
+        if (budgetNanos > elapsedNanos) {
+            TimeUnit.NANOSECONDS.sleep(budgetNanos - elapsedNanos);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
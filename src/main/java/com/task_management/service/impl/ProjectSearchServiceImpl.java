@@ -0,0 +1,156 @@
+package com.task_management.service.impl;
+
+import com.task_management.dto.ProjectSearchRes;
+import com.task_management.dto.SearchHitRes;
+import com.task_management.dto.SearchHitType;
+import com.task_management.exception.BadRequestException;
+import com.task_management.exception.NotFoundException;
+import com.task_management.monitoring.SearchMetrics;
+import com.task_management.repository.DatabasePlatform;
+import com.task_management.repository.FullTextQuery;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.ProjectSearchRepository;
+import com.task_management.service.ProjectSearchService;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Searches tasks, tags, notes and actions of a project in parallel and interleaves the ranked per-type lists.
+ * Each source returns at most {@code offset + size + 1} hits, so a page never needs more than that
+ * window; the extra hit tells whether another page exists.
+ *
+ * <p>Scores are only comparable within one type, so the lists are merged by rank rather than by score: the
+ * best hit of every type comes first, then every second-best hit, and so on (reciprocal rank fusion, which
+ * for disjoint lists reduces to this round-robin).
+ *
+ * <p>Deliberately not transactional: every source query runs on its own pooled connection, and holding
+ * one more for the caller would only waste it. At most {@code app.search.max-parallel-queries} source
+ * queries run at once across all requests, so searches cannot take over the connection pool.
+ */
+@Service
+public class ProjectSearchServiceImpl implements ProjectSearchService {
+
+    static final int MAX_WINDOW = 1000;
+
+    private static final Comparator<Cursor> BY_RANK = Comparator
+            .comparingInt(Cursor::position)
+            .thenComparing(cursor -> cursor.current().type());
+
+    private final ProjectRepository projects;
+    private final ProjectSearchRepository searchRepository;
+    private final DatabasePlatform platform;
+    private final SearchMetrics metrics;
+    private final Semaphore queryPermits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ProjectSearchServiceImpl(ProjectRepository projects,
+                                    ProjectSearchRepository searchRepository,
+                                    DatabasePlatform platform,
+                                    SearchMetrics metrics,
+                                    @Value("${app.search.max-parallel-queries:4}") int maxParallelQueries) {
+        this.projects = projects;
+        this.searchRepository = searchRepository;
+        this.platform = platform;
+        this.metrics = metrics;
+        this.queryPermits = new Semaphore(maxParallelQueries);
+    }
+
+    @Override
+    public ProjectSearchRes search(UUID projectId, String q, Pageable pageable) {
+        if (q == null || q.isBlank()) throw new BadRequestException("Search text is required");
+        long offset = pageable.getOffset();
+        int size = pageable.getPageSize();
+        if (offset + size > MAX_WINDOW) {
+            throw new BadRequestException("Search results are limited to the first " + MAX_WINDOW + " hits");
+        }
+        if (!projects.existsById(projectId)) throw new NotFoundException("Project not found");
+
+        int limit = (int) offset + size + 1;
+        List<List<SearchHitRes>> perType = fetchAll(projectId, q.trim(), limit);
+        List<SearchHitRes> window = merge(perType, offset + size + 1);
+
+        int from = (int) Math.min(offset, window.size());
+        int to = (int) Math.min(offset + size, window.size());
+        return new ProjectSearchRes(
+                List.copyOf(window.subList(from, to)),
+                pageable.getPageNumber(),
+                size,
+                window.size() > offset + size);
+    }
+
+    private List<List<SearchHitRes>> fetchAll(UUID projectId, String text, int limit) {
+        boolean fullText = platform.isPostgres();
+        String tsQuery = fullText ? FullTextQuery.toPrefixQuery(text) : null;
+        if (fullText && tsQuery == null) {
+            return List.of();
+        }
+        List<CompletableFuture<List<SearchHitRes>>> futures = new ArrayList<>();
+        for (SearchHitType type : SearchHitType.values()) {
+            futures.add(CompletableFuture.supplyAsync(() -> withQueryPermit(() -> metrics.time(type, () -> fullText
+                    ? searchRepository.searchFullText(type, projectId, tsQuery, limit)
+                    : searchRepository.searchLike(type, projectId, text, limit))), executor));
+        }
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException ex) {
+            futures.forEach(future -> future.cancel(true));
+            if (ex.getCause() instanceof RuntimeException cause) throw cause;
+            throw ex;
+        }
+    }
+
+    private List<SearchHitRes> withQueryPermit(Supplier<List<SearchHitRes>> query) {
+        try {
+            queryPermits.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to run a search query", ex);
+        }
+        try {
+            return query.get();
+        } finally {
+            queryPermits.release();
+        }
+    }
+
+    /** Interleaves lists already sorted by rank, best hit of each type first; stops after {@code count} hits. */
+    static List<SearchHitRes> merge(List<List<SearchHitRes>> sortedLists, long count) {
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(Math.max(1, sortedLists.size()), BY_RANK);
+        for (List<SearchHitRes> hits : sortedLists) {
+            if (!hits.isEmpty()) heap.add(new Cursor(hits, 0));
+        }
+        List<SearchHitRes> merged = new ArrayList<>();
+        while (!heap.isEmpty() && merged.size() < count) {
+            Cursor head = heap.poll();
+            merged.add(head.current());
+            if (head.position() + 1 < head.hits().size()) {
+                heap.add(new Cursor(head.hits(), head.position() + 1));
+            }
+        }
+        return merged;
+    }
+
+    private record Cursor(List<SearchHitRes> hits, int position) {
+        SearchHitRes current() {
+            return hits.get(position);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
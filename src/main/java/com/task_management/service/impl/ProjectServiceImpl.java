@@ -5,28 +5,25 @@ import com.task_management.dto.ProjectCreateReq;
 import com.task_management.dto.ProjectImportReq;
 import com.task_management.dto.ProjectImportRes;
 import com.task_management.dto.ProjectRes;
+import com.task_management.dto.ProjectSummaryRes;
 import com.task_management.dto.ProjectUpdateReq;
-import com.task_management.entity.Action;
-import com.task_management.entity.Note;
 import com.task_management.entity.Project;
-import com.task_management.entity.Tag;
-import com.task_management.entity.Task;
 import com.task_management.exception.BadRequestException;
 import com.task_management.exception.NotFoundException;
 import com.task_management.mapper.ProjectMapper;
-import com.task_management.repository.ActionRepository;
-import com.task_management.repository.NoteRepository;
 import com.task_management.repository.ProjectRepository;
-import com.task_management.repository.TagRepository;
-import com.task_management.repository.TaskRepository;
+import com.task_management.repository.ProjectVersionRepository;
+import com.task_management.service.ImportProgressListener;
 import com.task_management.service.ProjectService;
-import jakarta.transaction.Transactional;
+import com.task_management.service.Versioned;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,11 +32,9 @@ import java.util.UUID;
 @Service @RequiredArgsConstructor @Transactional
 public class ProjectServiceImpl implements ProjectService {
     private final ProjectRepository projects;
-    private final TaskRepository tasks;
-    private final NoteRepository notes;
-    private final TagRepository tags;
-    private final ActionRepository actions;
+    private final ProjectVersionRepository versions;
     private final ProjectMapper mapper;
+    private final ProjectImportEngine importEngine;
 
     @Override
     public ProjectRes create(ProjectCreateReq req) {
@@ -50,32 +45,85 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ProjectRes get(UUID id) {
         return mapper.toRes(projects.findById(id)
                 .orElseThrow(() -> new NotFoundException("Project not found")));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public long getVersion(UUID id) {
+        return versions.findVersion(id).orElseThrow(() -> new NotFoundException("Project not found"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectSummaryRes getSummary(UUID id) {
+        return projects.findSummaryById(id)
+                .orElseThrow(() -> new NotFoundException("Project not found"));
+    }
+
+    // Repeatable read pins the snapshot at the version lookup, so the body loaded after it cannot be newer
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Versioned<ProjectRes> getVersioned(UUID id) {
+        long version = getVersion(id);
+        return new Versioned<>(get(id), version);
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Versioned<ProjectSummaryRes> getSummaryVersioned(UUID id) {
+        long version = getVersion(id);
+        return new Versioned<>(getSummary(id), version);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjectSummaryRes> listSummaries(Pageable pageable) {
+        return projects.findSummaries(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<ProjectRes> list(Pageable pageable) {
-        return projects.findAllByOrderByCreatedAtDesc(pageable).map(mapper::toRes);
+        Page<UUID> ids = projects.findPageIds(pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+        // Both fetches hit the same persistence context, so the second one only fills in tags
+        Map<UUID, Project> byId = new HashMap<>();
+        projects.findAllWithTasksByIdIn(ids.getContent()).forEach(p -> byId.put(p.getId(), p));
+        projects.findAllWithTagsByIdIn(ids.getContent()).forEach(p -> byId.putIfAbsent(p.getId(), p));
+        return ids.map(id -> mapper.toRes(byId.get(id)));
     }
 
     @Override
     public ProjectRes update(UUID id, ProjectUpdateReq req) {
-        var p = projects.findById(id).orElseThrow(() -> new NotFoundException("Project not found"));
-        if (req.name() != null && !p.getName().equalsIgnoreCase(req.name())
+        var header = projects.findHeaderById(id).orElseThrow(() -> new NotFoundException("Project not found"));
+        if (req.name() != null && !header.name().equalsIgnoreCase(req.name())
                 && projects.existsByNameIgnoreCase(req.name()))
             throw new BadRequestException("Project name already exists");
+        // The reference loads the bare row; the response then pulls tasks and
+        // tags in one query each instead of the cartesian join behind findById's entity graph
+        var p = projects.getReferenceById(header.id());
         mapper.update(p, req);
+        versions.bump(header.id());
         return mapper.toRes(projects.save(p));
     }
 
     @Override
     public ProjectImportRes importProject(ProjectImportReq req) {
+        return importProject(req, ImportProgressListener.NONE);
+    }
+
+    @Override
+    public ProjectImportRes importProject(ProjectImportReq req, ImportProgressListener listener) {
         // Validate source project exists
-        Project sourceProject = projects.findById(req.sourceProjectId())
+        var source = projects.findHeaderById(req.sourceProjectId())
                 .orElseThrow(() -> new NotFoundException("Source project not found"));
-        
+
         // Check if new project name already exists
         if (projects.existsByNameIgnoreCase(req.newProjectName())) {
             throw new BadRequestException("Target project name already exists");
@@ -84,112 +132,20 @@ public class ProjectServiceImpl implements ProjectService {
         // Create new project
         Project newProject = Project.builder()
                 .name(req.newProjectName())
-                .description(req.description() != null ? req.description() : sourceProject.getDescription())
-                .startDate(sourceProject.getStartDate())
+                .description(req.description() != null
+                        ? req.description()
+                        : projects.getReferenceById(source.id()).getDescription())
+                .startDate(source.startDate())
                 .build();
         
-        newProject = projects.save(newProject);
-
-        int importedTasksCount = 0;
-        int importedNotesCount = 0;
-        int importedTagsCount = 0;
-        int importedActionsCount = 0;
-        
-        // Map to track old task ID to new task ID for action import
-        Map<UUID, Task> oldTaskIdToNewTask = new HashMap<>();
-
-        // Import tasks if requested
-        if (req.importTasks()) {
-            List<Task> sourceTasks = tasks.findByProjectId(req.sourceProjectId());
-            for (Task sourceTask : sourceTasks) {
-                Task newTask = Task.builder()
-                        .project(newProject)
-                        .title(sourceTask.getTitle())
-                        .description(sourceTask.getDescription())
-                        .activity(sourceTask.isActivity())
-                        .duration(sourceTask.getDuration())
-                        .startAt(sourceTask.getStartAt())
-                        .endAt(sourceTask.getEndAt())
-                        .startDay(sourceTask.getStartDay())
-                        .endDay(sourceTask.getEndDay())
-                        .color(sourceTask.getColor())
-                        .build();
-                newTask = tasks.save(newTask);
-                oldTaskIdToNewTask.put(sourceTask.getId(), newTask);
-                importedTasksCount++;
-            }
-        }
-
-        // Import tags if requested
-        if (req.importTags()) {
-            List<Tag> sourceTags = tags.findByProjectId(req.sourceProjectId());
-            for (Tag sourceTag : sourceTags) {
-                Tag newTag = Tag.builder()
-                        .project(newProject)
-                        .title(sourceTag.getTitle())
-                        .description(sourceTag.getDescription())
-                        .activity(sourceTag.isActivity())
-                        .duration(sourceTag.getDuration())
-                        .startAt(sourceTag.getStartAt())
-                        .endAt(sourceTag.getEndAt())
-                        .startDay(sourceTag.getStartDay())
-                        .endDay(sourceTag.getEndDay())
-                        .color(sourceTag.getColor())
-                        .build();
-                tags.save(newTag);
-                importedTagsCount++;
-            }
-        }
+        // The engine writes through JDBC, so the new project row must be visible to it first
+        newProject = projects.saveAndFlush(newProject);
 
-        // Import notes if requested
-        if (req.importNotes()) {
-            // Import project-level notes
-            List<Note> sourceProjectNotes = notes.findByProjectId(req.sourceProjectId());
-            for (Note sourceNote : sourceProjectNotes) {
-                Note newNote = Note.builder()
-                        .project(newProject)
-                        .body(sourceNote.getBody())
-                        .build();
-                notes.save(newNote);
-                importedNotesCount++;
-            }
-            
-            // Import task-specific notes (only if tasks were also imported)
-            if (req.importTasks() && !oldTaskIdToNewTask.isEmpty()) {
-                List<Note> sourceTaskNotes = notes.findTaskNotesByProjectId(req.sourceProjectId());
-                for (Note sourceNote : sourceTaskNotes) {
-                    UUID oldTaskId = sourceNote.getTask().getId();
-                    Task newTask = oldTaskIdToNewTask.get(oldTaskId);
-                    if (newTask != null) {
-                        Note newNote = Note.builder()
-                                .task(newTask)
-                                .body(sourceNote.getBody())
-                                .build();
-                        notes.save(newNote);
-                        importedNotesCount++;
-                    }
-                }
-            }
-        }
-
-        // Import actions if requested (only if tasks were also imported)
-        if (req.importActions() && req.importTasks() && !oldTaskIdToNewTask.isEmpty()) {
-            List<Action> sourceActions = actions.findByProjectId(req.sourceProjectId());
-            for (Action sourceAction : sourceActions) {
-                // Ensure task is loaded to avoid lazy loading issues
-                UUID oldTaskId = sourceAction.getTask().getId();
-                Task newTask = oldTaskIdToNewTask.get(oldTaskId);
-                if (newTask != null) {
-                    Action newAction = Action.builder()
-                            .task(newTask)
-                            .details(sourceAction.getDetails())
-                            .day(sourceAction.getDay())
-                            .build();
-                    actions.save(newAction);
-                    importedActionsCount++;
-                }
-            }
-        }
+        var counts = importEngine.copy(req.sourceProjectId(), newProject.getId(), req, listener);
+        int importedTasksCount = counts.tasks();
+        int importedNotesCount = counts.notes();
+        int importedTagsCount = counts.tags();
+        int importedActionsCount = counts.actions();
 
         return new ProjectImportRes(
                 newProject.getId(),
@@ -205,7 +161,6 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     public void delete(UUID id) {
-        if (!projects.existsById(id)) throw new NotFoundException("Project not found");
-        projects.deleteById(id);
+        if (projects.deleteRowById(id) == 0) throw new NotFoundException("Project not found");
     }
 }
@@ -1,43 +1,64 @@
 package com.task_management.service.impl;
 
+import com.task_management.dto.ChangeOperation;
+import com.task_management.dto.CursorPageRes;
 import com.task_management.dto.TagCreateReq;
 import com.task_management.dto.TagRes;
 import com.task_management.dto.TagUpdateReq;
+import com.task_management.entity.ChangeEntityType;
 import com.task_management.entity.Tag;
 import com.task_management.exception.BadRequestException;
 import com.task_management.exception.NotFoundException;
 import com.task_management.mapper.TagMapper;
+import com.task_management.repository.ChangeFeedRepository;
+import com.task_management.repository.DatabasePlatform;
+import com.task_management.repository.FullTextQuery;
 import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.ProjectVersionRepository;
 import com.task_management.repository.TagRepository;
+import com.task_management.repository.TitleSuggestionRepository.Source;
 import com.task_management.service.TagService;
-import jakarta.transaction.Transactional;
+import com.task_management.service.TitleAutocompleteService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class TagServiceImpl implements TagService {
+    private static final String CURSOR_KIND = "tag";
+
 
     private final TagRepository tags;
     private final ProjectRepository projects;
+    private final ProjectVersionRepository versions;
+    private final ChangeFeedRepository changeFeed;
     private final TagMapper mapper;
+    private final DatabasePlatform platform;
+    private final TitleAutocompleteService autocomplete;
+    private final ProjectEventPublisher events;
 
     @Override
     public TagRes create(TagCreateReq req) {
-        var project = projects.findById(req.projectId())
+        var header = projects.findHeaderById(req.projectId())
                 .orElseThrow(() -> new NotFoundException("Project not found"));
 
         if (req.startAt() == null) throw new BadRequestException("startAt is required");
         if (req.endAt() == null) throw new BadRequestException("endAt is required");
 
         var tag = new Tag();
-        tag.setProject(project);
+        tag.setProject(projects.getReferenceById(header.id()));
         tag.setTitle(req.title().trim());
         if (tag.getTitle().isBlank()) throw new BadRequestException("Tag title required");
         tag.setDescription(req.description());
@@ -47,24 +68,61 @@ public class TagServiceImpl implements TagService {
         tag.setEndAt(req.endAt());
         tag.setColor(normalizeColor(req.color()));
 
-        applyScheduleDays(tag);
+        applyScheduleDays(tag, header.startDate());
 
-        return mapper.toRes(tags.save(tag));
+        var saved = tags.save(tag);
+        versions.bump(header.id());
+        autocomplete.invalidate(Source.TAG, header.id());
+        events.publish(header.id(), ChangeEntityType.TAG, saved.getId(), ChangeOperation.CREATED);
+        return mapper.toRes(saved);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TagRes get(java.util.UUID id) {
         return mapper.toRes(tags.findById(id)
                 .orElseThrow(() -> new NotFoundException("Tag not found")));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<TagRes> listInProject(java.util.UUID projectId, Pageable pageable) {
         if (!projects.existsById(projectId)) throw new NotFoundException("Project not found");
         return tags.findByProjectIdOrderByEndAtAsc(projectId, pageable)
                 .map(mapper::toRes);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageRes<TagRes> listInProjectByCursor(java.util.UUID projectId, String cursor, int size) {
+        KeysetCursors.checkSize(size);
+        if (!projects.existsById(projectId)) throw new NotFoundException("Project not found");
+        var limit = Limit.of(size + 1);
+        List<Tag> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = tags.findFirstByProject(projectId, limit);
+        } else {
+            var position = KeysetCursors.decodeInstant(CURSOR_KIND, cursor);
+            rows = tags.findByProjectAfter(projectId, position.key(), position.id(), limit);
+        }
+        return KeysetCursors.page(rows, size, mapper::toRes,
+                t -> KeysetCursors.encode(CURSOR_KIND, t.getEndAt(), t.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TagRes> searchInProject(java.util.UUID projectId, String q, Pageable pageable) {
+        if (q == null || q.isBlank()) return listInProject(projectId, pageable);
+        if (!projects.existsById(projectId)) throw new NotFoundException("Project not found");
+        String tsQuery = FullTextQuery.toPrefixQuery(q);
+        if (platform.isPostgres() && tsQuery != null) {
+            var unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+            return tags.fullTextSearchInProject(projectId, tsQuery, unsorted).map(mapper::toRes);
+        }
+        // Portable fallback (H2 in tests): substring match without an index
+        return tags.searchInProject(projectId, q.trim(), pageable).map(mapper::toRes);
+    }
+
     @Override
     public TagRes update(java.util.UUID id, TagUpdateReq req) {
         var tag = tags.findById(id).orElseThrow(() -> new NotFoundException("Tag not found"));
@@ -86,24 +144,31 @@ public class TagServiceImpl implements TagService {
         if (tag.getEndAt() == null) throw new BadRequestException("endAt is required");
         if (tag.getDuration() == null) throw new BadRequestException("duration is required");
 
-        applyScheduleDays(tag);
+        var header = projects.findHeaderById(tag.getProject().getId())
+                .orElseThrow(() -> new NotFoundException("Project not found"));
+        applyScheduleDays(tag, header.startDate());
 
-        return mapper.toRes(tags.save(tag));
+        var saved = tags.save(tag);
+        versions.bump(header.id());
+        if (req.title() != null) autocomplete.invalidate(Source.TAG, tag.getProject().getId());
+        events.publish(header.id(), ChangeEntityType.TAG, id, ChangeOperation.UPDATED);
+        return mapper.toRes(saved);
     }
 
     @Override
     public void delete(java.util.UUID id) {
-        if (!tags.existsById(id)) throw new NotFoundException("Tag not found");
-        tags.deleteById(id);
+        var projectId = versions.bumpForTag(id).orElseThrow(() -> new NotFoundException("Tag not found"));
+        changeFeed.recordTagDeletion(id, Instant.now());
+        if (tags.deleteRowById(id) == 0) throw new NotFoundException("Tag not found");
+        autocomplete.invalidate(Source.TAG, projectId);
+        events.publish(projectId, ChangeEntityType.TAG, id, ChangeOperation.DELETED);
     }
 
-    private void applyScheduleDays(Tag tag) {
-        var project = tag.getProject();
-        if (project == null || project.getStartDate() == null) {
+    private void applyScheduleDays(Tag tag, LocalDate projectStart) {
+        if (projectStart == null) {
             throw new BadRequestException("Project start date is required");
         }
 
-        var projectStart = project.getStartDate();
         var projectStartInstant = projectStart.atStartOfDay(ZoneOffset.UTC).toInstant();
 
         long startDay = Duration.between(projectStartInstant, tag.getStartAt()).toDays();
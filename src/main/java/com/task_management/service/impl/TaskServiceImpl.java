@@ -1,104 +1,315 @@
 package com.task_management.service.impl;
 
+import com.task_management.dto.ChangeOperation;
+import com.task_management.dto.CursorPageRes;
+import com.task_management.dto.TaskBulkItemRes;
+import com.task_management.dto.TaskBulkReq;
+import com.task_management.dto.TaskBulkRes;
 import com.task_management.dto.TaskCreateReq;
 import com.task_management.dto.TaskRes;
 import com.task_management.dto.TaskUpdateReq;
+import com.task_management.entity.ChangeEntityType;
+import com.task_management.entity.Project;
 import com.task_management.entity.Task;
 import com.task_management.exception.BadRequestException;
 import com.task_management.exception.NotFoundException;
 import com.task_management.mapper.TaskMapper;
 import com.task_management.monitoring.TaskMetrics;
+import com.task_management.repository.ChangeFeedRepository;
+import com.task_management.repository.DatabasePlatform;
+import com.task_management.repository.FullTextQuery;
+import com.task_management.repository.ProjectHeader;
 import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.ProjectVersionRepository;
 import com.task_management.repository.TaskRepository;
+import com.task_management.repository.TitleSuggestionRepository.Source;
 import com.task_management.service.TaskService;
-import jakarta.transaction.Transactional;
+import com.task_management.service.TitleAutocompleteService;
+import com.task_management.service.Versioned;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service @RequiredArgsConstructor @Transactional
 public class TaskServiceImpl implements TaskService {
+    private static final String CURSOR_KIND = "task";
     private final TaskRepository tasks;
     private final ProjectRepository projects;
+    private final ProjectVersionRepository versions;
+    private final ChangeFeedRepository changeFeed;
     private final TaskMapper mapper;
+    private final DatabasePlatform platform;
+    private final TitleAutocompleteService autocomplete;
     private final TaskMetrics metrics;
+    private final ProjectEventPublisher events;
 
     @Override
     public TaskRes create(TaskCreateReq req) {
-        var project = projects.findById(req.projectId())
-                .orElseThrow(() -> new NotFoundException("Project not found"));
-        if (req.startAt() == null) throw new BadRequestException("startAt is required");
-        if (req.endAt() == null) throw new BadRequestException("endAt is required");
-
-        var t = new Task();
-        t.setProject(project);
-        t.setTitle(req.title().trim());
-        if (t.getTitle().isBlank()) throw new BadRequestException("Task title required");
-        t.setDescription(req.description());
-        t.setActivity(req.activity());
-        t.setDuration(req.duration());
-        t.setStartAt(req.startAt());
-        t.setEndAt(req.endAt());
-        t.setColor(normalizeColor(req.color()));
-        applyScheduleDays(t);
-
-        var savedTask = tasks.save(t);
+        var header = projectHeader(req.projectId());
+        var savedTask = tasks.save(newTask(projects.getReferenceById(header.id()), header.startDate(), req));
+        versions.bump(header.id());
+        autocomplete.invalidate(Source.TASK, header.id());
         metrics.incrementCreated();
+        events.publish(header.id(), ChangeEntityType.TASK, savedTask.getId(), ChangeOperation.CREATED);
         return mapper.toRes(savedTask);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TaskRes get(java.util.UUID id) {
         return mapper.toRes(tasks.findById(id).orElseThrow(() -> new NotFoundException("Task not found")));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<TaskRes> listInProject(java.util.UUID projectId, Pageable pageable) {
         if (!projects.existsById(projectId)) throw new NotFoundException("Project not found");
         return tasks.findByProjectIdOrderByEndAtAsc(projectId, pageable).map(mapper::toRes);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageRes<TaskRes> listInProjectByCursor(java.util.UUID projectId, String cursor, int size) {
+        KeysetCursors.checkSize(size);
+        if (!projects.existsById(projectId)) throw new NotFoundException("Project not found");
+        var limit = Limit.of(size + 1);
+        List<Task> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = tasks.findFirstByProject(projectId, limit);
+        } else {
+            var position = KeysetCursors.decodeInstant(CURSOR_KIND, cursor);
+            rows = tasks.findByProjectAfter(projectId, position.key(), position.id(), limit);
+        }
+        return KeysetCursors.page(rows, size, mapper::toRes,
+                t -> KeysetCursors.encode(CURSOR_KIND, t.getEndAt(), t.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskRes> searchInProject(java.util.UUID projectId, String q, Pageable pageable) {
+        if (q == null || q.isBlank()) return listInProject(projectId, pageable);
+        if (!projects.existsById(projectId)) throw new NotFoundException("Project not found");
+        String tsQuery = FullTextQuery.toPrefixQuery(q);
+        if (platform.isPostgres() && tsQuery != null) {
+            var unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+            return tasks.fullTextSearchInProject(projectId, tsQuery, unsorted).map(mapper::toRes);
+        }
+        // Portable fallback (H2 in tests): substring match without an index
+        return tasks.searchInProject(projectId, q.trim(), pageable).map(mapper::toRes);
+    }
+
+    // Repeatable read pins the snapshot at the version lookup, so the page read after it cannot be newer
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Versioned<Page<TaskRes>> listInProjectVersioned(java.util.UUID projectId, String q, Pageable pageable) {
+        long version = projectVersion(projectId);
+        return new Versioned<>(searchInProject(projectId, q, pageable), version);
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Versioned<CursorPageRes<TaskRes>> listInProjectByCursorVersioned(java.util.UUID projectId, String cursor,
+                                                                           int size) {
+        long version = projectVersion(projectId);
+        return new Versioned<>(listInProjectByCursor(projectId, cursor, size), version);
+    }
+
+    private long projectVersion(java.util.UUID projectId) {
+        return versions.findVersion(projectId).orElseThrow(() -> new NotFoundException("Project not found"));
+    }
+
     @Override
     public TaskRes update(java.util.UUID id, TaskUpdateReq req) {
         var t = tasks.findById(id).orElseThrow(() -> new NotFoundException("Task not found"));
-        if (req.title() != null) {
-            String v = req.title().trim();
-            if (v.isBlank()) throw new BadRequestException("Task title cannot be blank");
-            t.setTitle(v);
-        }
-        if (req.description() != null) t.setDescription(req.description());
-        if (req.activity() != null) t.setActivity(req.activity());
-        if (req.duration() != null) t.setDuration(req.duration());
-        if (req.startAt() != null) t.setStartAt(req.startAt());
-        if (req.endAt() != null) t.setEndAt(req.endAt());
-        if (req.color() != null) t.setColor(normalizeColor(req.color()));
-        if (t.getStartAt() == null) throw new BadRequestException("startAt is required");
-        if (t.getEndAt() == null) throw new BadRequestException("endAt is required");
-        if (t.getDuration() == null) throw new BadRequestException("duration is required");
-        applyScheduleDays(t);
+        applyUpdate(t, projectHeader(t.getProject().getId()).startDate(), req);
         var updatedTask = tasks.save(t);
+        versions.bump(t.getProject().getId());
+        if (req.title() != null) autocomplete.invalidate(Source.TASK, t.getProject().getId());
         metrics.incrementUpdated();
+        events.publish(t.getProject().getId(), ChangeEntityType.TASK, id, ChangeOperation.UPDATED);
         return mapper.toRes(updatedTask);
     }
 
     @Override
     public void delete(java.util.UUID id) {
-        if (!tasks.existsById(id)) throw new NotFoundException("Task not found");
-        tasks.deleteById(id);
+        var projectId = versions.bumpForTask(id).orElseThrow(() -> new NotFoundException("Task not found"));
+        changeFeed.recordTaskDeletion(id, Instant.now());
+        if (tasks.deleteRowById(id) == 0) throw new NotFoundException("Task not found");
+        autocomplete.invalidate(Source.TASK, projectId);
         metrics.incrementDeleted();
+        // Its notes and actions go with it; subscribers treat the task's delete as theirs
+        events.publish(projectId, ChangeEntityType.TASK, id, ChangeOperation.DELETED);
     }
 
-    private void applyScheduleDays(Task task) {
-        var project = task.getProject();
-        if (project == null || project.getStartDate() == null) {
+    @Override
+    public TaskBulkRes bulk(TaskBulkReq req) {
+        var header = projectHeader(req.projectId());
+        var project = projects.getReferenceById(header.id());
+        // One select for every task the request touches; ids from other projects simply do not come back
+        Set<java.util.UUID> ids = new HashSet<>();
+        req.items().forEach(item -> { if (item.id() != null) ids.add(item.id()); });
+        Map<java.util.UUID, Task> existing = new HashMap<>();
+        if (!ids.isEmpty()) {
+            tasks.findAllInProject(project.getId(), ids).forEach(t -> existing.put(t.getId(), t));
+        }
+
+        int size = req.items().size();
+        Task[] written = new Task[size];
+        int[] statuses = new int[size];
+        String[] errors = new String[size];
+        List<Task> created = new ArrayList<>();
+        List<java.util.UUID> deleted = new ArrayList<>();
+        boolean titlesChanged = false;
+        for (int i = 0; i < size; i++) {
+            var item = req.items().get(i);
+            try {
+                switch (item.op()) {
+                    case CREATE -> {
+                        written[i] = newTask(project, header.startDate(), new TaskCreateReq(project.getId(), item.title(),
+                                item.description(), Boolean.TRUE.equals(item.activity()), item.duration(),
+                                item.startAt(), item.endAt(), item.color()));
+                        created.add(written[i]);
+                        statuses[i] = 201;
+                        titlesChanged = true;
+                    }
+                    case UPDATE -> {
+                        var t = existingTask(existing, item.id());
+                        applyUpdate(t, header.startDate(), new TaskUpdateReq(item.title(), item.description(), item.activity(),
+                                item.duration(), item.startAt(), item.endAt(), item.color()));
+                        written[i] = t;
+                        statuses[i] = 200;
+                        titlesChanged |= item.title() != null;
+                    }
+                    case DELETE -> {
+                        existingTask(existing, item.id());
+                        existing.remove(item.id());
+                        deleted.add(item.id());
+                        statuses[i] = 204;
+                        titlesChanged = true;
+                    }
+                }
+            } catch (BadRequestException ex) {
+                statuses[i] = 400;
+                errors[i] = ex.getMessage();
+            } catch (NotFoundException ex) {
+                statuses[i] = 404;
+                errors[i] = ex.getMessage();
+            }
+        }
+
+        // Taken before any row is written, like every other write path, so writers queue on the project row
+        if (Arrays.stream(statuses).anyMatch(status -> status < 400)) versions.bump(project.getId());
+        // Inserts and updates go out in ordered JDBC batches at flush, the deletes as one statement
+        tasks.saveAll(created);
+        if (!deleted.isEmpty()) {
+            changeFeed.recordTaskDeletions(deleted, Instant.now());
+            tasks.deleteAllByIdInBatch(deleted);
+        }
+        tasks.flush();
+        if (titlesChanged) autocomplete.invalidate(Source.TASK, project.getId());
+
+        List<TaskBulkItemRes> results = new ArrayList<>(size);
+        int failed = 0;
+        for (int i = 0; i < size; i++) {
+            var item = req.items().get(i);
+            var id = written[i] != null ? written[i].getId() : item.id();
+            results.add(new TaskBulkItemRes(i, item.op(), id, statuses[i], errors[i],
+                    written[i] != null ? mapper.toRes(written[i]) : null));
+            switch (statuses[i]) {
+                case 201 -> metrics.incrementCreated();
+                case 200 -> metrics.incrementUpdated();
+                case 204 -> metrics.incrementDeleted();
+                default -> failed++;
+            }
+        }
+        if (failed < size) events.publishBulk(project.getId(), ChangeEntityType.TASK);
+        return new TaskBulkRes(results, size - failed, failed);
+    }
+
+    private static Task existingTask(Map<java.util.UUID, Task> existing, java.util.UUID id) {
+        if (id == null) throw new BadRequestException("id is required");
+        var t = existing.get(id);
+        if (t == null) throw new NotFoundException("Task not found");
+        return t;
+    }
+
+    private ProjectHeader projectHeader(java.util.UUID projectId) {
+        return projects.findHeaderById(projectId)
+                .orElseThrow(() -> new NotFoundException("Project not found"));
+    }
+
+    private Task newTask(Project project, LocalDate projectStart, TaskCreateReq req) {
+        if (req.startAt() == null) throw new BadRequestException("startAt is required");
+        if (req.endAt() == null) throw new BadRequestException("endAt is required");
+        if (req.duration() == null) throw new BadRequestException("duration is required");
+
+        var t = new Task();
+        t.setProject(project);
+        t.setTitle(req.title() == null ? "" : req.title().trim());
+        if (t.getTitle().isBlank()) throw new BadRequestException("Task title required");
+        t.setDescription(req.description());
+        t.setActivity(req.activity());
+        t.setDuration(req.duration());
+        t.setStartAt(req.startAt());
+        t.setEndAt(req.endAt());
+        t.setColor(normalizeColor(req.color()));
+        var days = scheduleDays(projectStart, t.getStartAt(), t.getEndAt());
+        t.setStartDay(days.startDay());
+        t.setEndDay(days.endDay());
+        return t;
+    }
+
+    // Validates the whole patch before touching the entity, so a rejected bulk item leaves nothing dirty to flush
+    private void applyUpdate(Task t, LocalDate projectStart, TaskUpdateReq req) {
+        var title = t.getTitle();
+        if (req.title() != null) {
+            title = req.title().trim();
+            if (title.isBlank()) throw new BadRequestException("Task title cannot be blank");
+        }
+        var startAt = req.startAt() != null ? req.startAt() : t.getStartAt();
+        var endAt = req.endAt() != null ? req.endAt() : t.getEndAt();
+        var duration = req.duration() != null ? req.duration() : t.getDuration();
+        if (startAt == null) throw new BadRequestException("startAt is required");
+        if (endAt == null) throw new BadRequestException("endAt is required");
+        if (duration == null) throw new BadRequestException("duration is required");
+        var days = scheduleDays(projectStart, startAt, endAt);
+
+        t.setTitle(title);
+        if (req.description() != null) t.setDescription(req.description());
+        if (req.activity() != null) t.setActivity(req.activity());
+        t.setDuration(duration);
+        t.setStartAt(startAt);
+        t.setEndAt(endAt);
+        if (req.color() != null) t.setColor(normalizeColor(req.color()));
+        t.setStartDay(days.startDay());
+        t.setEndDay(days.endDay());
+    }
+
+    private record ScheduleDays(int startDay, int endDay) {
+    }
+
+    private ScheduleDays scheduleDays(LocalDate projectStart, Instant startAt, Instant endAt) {
+        if (projectStart == null) {
             throw new BadRequestException("Project start date is required");
         }
-        var projectStart = project.getStartDate();
-        var startDate = task.getStartAt().atZone(ZoneOffset.UTC).toLocalDate();
-        var endDate = task.getEndAt().atZone(ZoneOffset.UTC).toLocalDate();
+        var startDate = startAt.atZone(ZoneOffset.UTC).toLocalDate();
+        var endDate = endAt.atZone(ZoneOffset.UTC).toLocalDate();
 
         int startDay = Math.toIntExact(ChronoUnit.DAYS.between(projectStart, startDate));
         if (startDay < 0) {
@@ -108,9 +319,7 @@ public class TaskServiceImpl implements TaskService {
         if (endDay < startDay) {
             throw new BadRequestException("endAt cannot be before startAt");
         }
-
-        task.setStartDay(startDay);
-        task.setEndDay(endDay);
+        return new ScheduleDays(startDay, endDay);
     }
 
     private String normalizeColor(String color) {
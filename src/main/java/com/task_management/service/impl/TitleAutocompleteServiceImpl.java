@@ -0,0 +1,190 @@
+package com.task_management.service.impl;
+
+import com.task_management.dto.TitleSuggestionRes;
+import com.task_management.exception.BadRequestException;
+import com.task_management.exception.NotFoundException;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.TitleSuggestionRepository;
+import com.task_management.repository.TitleSuggestionRepository.Source;
+import com.task_management.service.TitleAutocompleteService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keystroke autocomplete for task and tag titles. Each project's titles are held for a short time as a
+ * sorted array, so prefix lookups are a binary search; the final answer for every prefix typed is kept
+ * with it, so repeated prefixes (backspacing, several users) never reach the database. Fuzzy matches are
+ * only queried when the prefix alone does not fill the list. Writes drop the project's entry after commit;
+ * other instances see the change once their entry expires.
+ *
+ * <p>Not transactional on purpose: a cache hit must not take a pooled connection.
+ */
+@Service
+public class TitleAutocompleteServiceImpl implements TitleAutocompleteService {
+
+    static final int MAX_LIMIT = 25;
+    private static final int MAX_ANSWERS_PER_PROJECT = 256;
+
+    private final TitleSuggestionRepository titles;
+    private final ProjectRepository projects;
+    private final long ttlNanos;
+    private final int maxIndexedTitles;
+    private final int maxProjects;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TitleAutocompleteServiceImpl(TitleSuggestionRepository titles,
+                                        ProjectRepository projects,
+                                        @Value("${app.autocomplete.cache-ttl-ms:30000}") long ttlMs,
+                                        @Value("${app.autocomplete.max-indexed-titles:5000}") int maxIndexedTitles,
+                                        @Value("${app.autocomplete.max-projects:500}") int maxProjects) {
+        this.titles = titles;
+        this.projects = projects;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.maxIndexedTitles = maxIndexedTitles;
+        this.maxProjects = maxProjects;
+    }
+
+    private record Key(Source source, UUID projectId) {}
+
+    private static final class Entry {
+        private final long expiresAt;
+        private final String[] lowerTitles;              // sorted; null when the project has too many titles
+        private final TitleSuggestionRes[] suggestions;  // same order as lowerTitles
+        private final Map<String, List<TitleSuggestionRes>> answers = new ConcurrentHashMap<>();
+
+        private Entry(long expiresAt, String[] lowerTitles, TitleSuggestionRes[] suggestions) {
+            this.expiresAt = expiresAt;
+            this.lowerTitles = lowerTitles;
+            this.suggestions = suggestions;
+        }
+
+        private boolean expired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    @Override
+    public List<TitleSuggestionRes> suggest(Source source, UUID projectId, String q, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        String text = q == null ? "" : q.strip();
+        if (text.isEmpty()) return List.of();
+
+        Entry entry = entry(source, projectId);
+        String answerKey = limit + ":" + text.toLowerCase(Locale.ROOT);
+        List<TitleSuggestionRes> cached = entry.answers.get(answerKey);
+        if (cached != null) return cached;
+
+        List<TitleSuggestionRes> result = new ArrayList<>(limit);
+        Set<String> seen = new HashSet<>();
+        if (entry.lowerTitles != null) {
+            addPrefixMatches(entry, text.toLowerCase(Locale.ROOT), limit, result, seen);
+        } else {
+            addDistinct(titles.findByPrefix(source, projectId, text, limit), limit, result, seen);
+        }
+        if (result.size() < limit) {
+            addDistinct(titles.findSimilar(source, projectId, text, limit), limit, result, seen);
+        }
+
+        List<TitleSuggestionRes> answer = List.copyOf(result);
+        if (entry.answers.size() < MAX_ANSWERS_PER_PROJECT) {
+            entry.answers.put(answerKey, answer);
+        }
+        return answer;
+    }
+
+    @Override
+    public void invalidate(Source source, UUID projectId) {
+        Key key = new Key(source, projectId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(key);
+                }
+            });
+        } else {
+            evict(key);
+        }
+    }
+
+    private void evict(Key key) {
+        invalidations.incrementAndGet();
+        entries.remove(key);
+    }
+
+    private Entry entry(Source source, UUID projectId) {
+        Key key = new Key(source, projectId);
+        long now = System.nanoTime();
+        Entry current = entries.get(key);
+        if (current != null && !current.expired(now)) return current;
+
+        long invalidationsBeforeLoad = invalidations.get();
+        Entry loaded = load(source, projectId, now);
+        if (entries.size() >= maxProjects) {
+            entries.values().removeIf(entry -> entry.expired(now));
+        }
+        if (entries.size() < maxProjects || entries.containsKey(key)) {
+            entries.put(key, loaded);
+            // A write that committed while we were reading may not be in this snapshot
+            if (invalidations.get() != invalidationsBeforeLoad) {
+                entries.remove(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private Entry load(Source source, UUID projectId, long now) {
+        List<TitleSuggestionRes> rows = titles.findTitles(source, projectId, maxIndexedTitles + 1);
+        if (rows.isEmpty() && !projects.existsById(projectId)) {
+            throw new NotFoundException("Project not found");
+        }
+        long expiresAt = now + ttlNanos;
+        if (rows.size() > maxIndexedTitles) {
+            return new Entry(expiresAt, null, null);
+        }
+        TitleSuggestionRes[] sorted = rows.stream()
+                .sorted(Comparator.comparing((TitleSuggestionRes row) -> row.title().toLowerCase(Locale.ROOT))
+                        .thenComparing(TitleSuggestionRes::title))
+                .toArray(TitleSuggestionRes[]::new);
+        String[] lowerTitles = Arrays.stream(sorted)
+                .map(row -> row.title().toLowerCase(Locale.ROOT))
+                .toArray(String[]::new);
+        return new Entry(expiresAt, lowerTitles, sorted);
+    }
+
+    private static void addPrefixMatches(Entry entry, String prefix, int limit,
+                                         List<TitleSuggestionRes> result, Set<String> seen) {
+        int index = Arrays.binarySearch(entry.lowerTitles, prefix);
+        if (index < 0) index = -index - 1;
+        for (int i = index; i < entry.lowerTitles.length && result.size() < limit; i++) {
+            if (!entry.lowerTitles[i].startsWith(prefix)) break;
+            if (seen.add(entry.lowerTitles[i])) result.add(entry.suggestions[i]);
+        }
+    }
+
+    /** Keeps one suggestion per title, ignoring case. */
+    private static void addDistinct(List<TitleSuggestionRes> candidates, int limit,
+                                    List<TitleSuggestionRes> result, Set<String> seen) {
+        for (TitleSuggestionRes candidate : candidates) {
+            if (result.size() >= limit) return;
+            if (seen.add(candidate.title().toLowerCase(Locale.ROOT))) result.add(candidate);
+        }
+    }
+}
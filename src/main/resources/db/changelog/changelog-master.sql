@@ -154,3 +154,172 @@ CREATE INDEX idx_action_task ON action (task_id);
 CREATE INDEX idx_action_day ON action (day);
 
 --rollback DROP TABLE action;
+
+--changeset openai:011-create-import-job
+CREATE TABLE import_job
+(
+    id                     UUID PRIMARY KEY,
+    status                 VARCHAR(16)  NOT NULL,
+    source_project_id      UUID         NOT NULL,
+    new_project_name       VARCHAR(160) NOT NULL,
+    description            TEXT,
+    import_tasks           BOOLEAN      NOT NULL,
+    import_notes           BOOLEAN      NOT NULL,
+    import_tags            BOOLEAN      NOT NULL,
+    import_actions         BOOLEAN      NOT NULL,
+    new_project_id         UUID,
+    imported_tasks_count   INTEGER      NOT NULL DEFAULT 0,
+    imported_notes_count   INTEGER      NOT NULL DEFAULT 0,
+    imported_tags_count    INTEGER      NOT NULL DEFAULT 0,
+    imported_actions_count INTEGER      NOT NULL DEFAULT 0,
+    message                TEXT,
+    worker_id              VARCHAR(64),
+    created_at             TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at             TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at             TIMESTAMPTZ,
+    finished_at            TIMESTAMPTZ
+);
+
+CREATE INDEX idx_import_job_status_created ON import_job (status, created_at);
+
+--rollback DROP TABLE import_job;
+
+--changeset openai:012-add-task-tag-search-vector
+-- 'simple' keeps words as typed (no stemming or stop words), which suits short titles in any language
+ALTER TABLE task
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+ALTER TABLE tag
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_task_search_vector ON task USING GIN (search_vector);
+CREATE INDEX idx_tag_search_vector ON tag USING GIN (search_vector);
+
+--rollback DROP INDEX idx_tag_search_vector;
+--rollback DROP INDEX idx_task_search_vector;
+--rollback ALTER TABLE tag DROP COLUMN search_vector;
+--rollback ALTER TABLE task DROP COLUMN search_vector;
+
+--changeset openai:013-add-title-trigram-indexes
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_task_title_trgm ON task USING GIN (title gin_trgm_ops);
+CREATE INDEX idx_tag_title_trgm ON tag USING GIN (title gin_trgm_ops);
+
+--rollback DROP INDEX idx_tag_title_trgm;
+--rollback DROP INDEX idx_task_title_trgm;
+
+--changeset openai:014-add-keyset-indexes
+-- One index per seek order; each replaces the single-column index on its leading column
+CREATE INDEX idx_task_project_end_at_id ON task (project_id, end_at, id);
+CREATE INDEX idx_tag_project_end_at_id ON tag (project_id, end_at, id);
+CREATE INDEX idx_action_task_day_id ON action (task_id, day, id);
+CREATE INDEX idx_note_project_created_at_id ON note (project_id, created_at, id);
+CREATE INDEX idx_note_task_created_at_id ON note (task_id, created_at, id);
+
+DROP INDEX idx_task_project;
+DROP INDEX idx_tag_project;
+DROP INDEX idx_action_task;
+DROP INDEX idx_note_project;
+DROP INDEX idx_note_task;
+
+--rollback CREATE INDEX idx_note_task ON note (task_id);
+--rollback CREATE INDEX idx_note_project ON note (project_id);
+--rollback CREATE INDEX idx_action_task ON action (task_id);
+--rollback CREATE INDEX idx_tag_project ON tag (project_id);
+--rollback CREATE INDEX idx_task_project ON task (project_id);
+--rollback DROP INDEX idx_note_task_created_at_id;
+--rollback DROP INDEX idx_note_project_created_at_id;
+--rollback DROP INDEX idx_action_task_day_id;
+--rollback DROP INDEX idx_tag_project_end_at_id;
+--rollback DROP INDEX idx_task_project_end_at_id;
+
+--changeset openai:015-add-project-order-index
+-- Project pages select only ids ordered by created_at, so this index answers them with an index-only scan.
+-- No query reads actions by day alone; idx_action_task_day_id serves every action lookup.
+CREATE INDEX idx_project_created_at_id ON project (created_at DESC, id);
+DROP INDEX idx_action_day;
+
+--rollback CREATE INDEX idx_action_day ON action (day);
+--rollback DROP INDEX idx_project_created_at_id;
+
+--changeset openai:016-add-project-soft-delete
+-- Projects deleted with mode=async are only marked here; their rows are purged in chunks afterwards
+ALTER TABLE project ADD COLUMN deleted_at TIMESTAMPTZ;
+CREATE INDEX idx_project_deleted_at ON project (deleted_at) WHERE deleted_at IS NOT NULL;
+
+--rollback DROP INDEX idx_project_deleted_at;
+--rollback ALTER TABLE project DROP COLUMN deleted_at;
+
+--changeset openai:017-add-uuid-v7-function splitStatements:false
+-- Time-ordered ids (RFC 9562 version 7) for rows copied in SQL, matching UuidV7Generator on the JPA side.
+-- PostgreSQL 15 has no built-in uuidv7(): take a random v4, overwrite the first 48 bits with the Unix time in
+-- milliseconds and flip the version nibble from 4 to 7.
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS UUID
+    LANGUAGE sql
+    VOLATILE
+AS
+$$
+SELECT encode(
+               set_bit(set_bit(
+                               overlay(uuid_send(gen_random_uuid())
+                                       placing substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                                       FROM 1 FOR 6),
+                               52, 1), 53, 1),
+               'hex')::UUID
+$$;
+
+--rollback DROP FUNCTION uuid_generate_v7();
+
+--changeset openai:018-add-project-version
+-- Change counter behind the ETags of project reads; bumped by every write under the project
+ALTER TABLE project ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+--rollback ALTER TABLE project DROP COLUMN version;
+
+--changeset openai:019-add-change-sync
+-- Delta sync reads every change of a project after a (timestamp, id) cursor: one index per source, in cursor order.
+-- Notes get an updated_at of their own; deletes leave a tombstone, removed with the project or after the retention.
+ALTER TABLE note ADD COLUMN updated_at TIMESTAMPTZ;
+UPDATE note SET updated_at = created_at;
+ALTER TABLE note ALTER COLUMN updated_at SET NOT NULL;
+ALTER TABLE note ALTER COLUMN updated_at SET DEFAULT CURRENT_TIMESTAMP;
+
+CREATE TABLE change_tombstone
+(
+    entity_id   UUID PRIMARY KEY,
+    project_id  UUID        NOT NULL,
+    entity_type VARCHAR(16) NOT NULL,
+    deleted_at  TIMESTAMPTZ NOT NULL,
+    CONSTRAINT fk_change_tombstone_project FOREIGN KEY (project_id) REFERENCES project (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_change_tombstone_project_deleted_at ON change_tombstone (project_id, deleted_at, entity_id);
+CREATE INDEX idx_change_tombstone_deleted_at ON change_tombstone (deleted_at);
+CREATE INDEX idx_task_project_updated_at_id ON task (project_id, updated_at, id);
+CREATE INDEX idx_tag_project_updated_at_id ON tag (project_id, updated_at, id);
+CREATE INDEX idx_note_project_updated_at_id ON note (project_id, updated_at, id);
+CREATE INDEX idx_note_task_updated_at_id ON note (task_id, updated_at, id);
+CREATE INDEX idx_action_task_updated_at_id ON action (task_id, updated_at, id);
+
+--rollback DROP INDEX idx_action_task_updated_at_id;
+--rollback DROP INDEX idx_note_task_updated_at_id;
+--rollback DROP INDEX idx_note_project_updated_at_id;
+--rollback DROP INDEX idx_tag_project_updated_at_id;
+--rollback DROP INDEX idx_task_project_updated_at_id;
+--rollback DROP TABLE change_tombstone;
+--rollback ALTER TABLE note DROP COLUMN updated_at;
+
+--changeset openai:020-add-note-action-search-indexes
+-- Expression indexes for project search; queries must use the same to_tsvector('simple', ...) expression
+CREATE INDEX idx_note_body_search ON note USING GIN (to_tsvector('simple', body));
+CREATE INDEX idx_action_details_search ON action USING GIN (to_tsvector('simple', details));
+
+--rollback DROP INDEX idx_action_details_search;
+--rollback DROP INDEX idx_note_body_search;
@@ -0,0 +1,27 @@
+package com.task_management;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Points a test class at a real PostgreSQL instead of H2, for code that only runs on PostgreSQL.
+ *
+ * <p>Test classes implement this interface and activate the {@code postgres-test} profile, which keeps
+ * Liquibase as the schema owner. One container is started per JVM and shared by every such class, so their
+ * Spring contexts can be cached. Without a Docker daemon the classes are reported as skipped; run only them
+ * with {@code mvn test -Dsurefire.groups=postgres}.
+ */
+@Tag("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+public interface PostgresTestContainer {
+
+    @ServiceConnection
+    PostgreSQLContainer<?> POSTGRES = start(new PostgreSQLContainer<>("postgres:15"));
+
+    private static PostgreSQLContainer<?> start(PostgreSQLContainer<?> container) {
+        container.start();
+        return container;
+    }
+}
@@ -0,0 +1,57 @@
+package com.task_management;
+
+import com.task_management.entity.Project;
+import com.task_management.entity.Tag;
+import com.task_management.entity.Task;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Rows and helpers shared by the integration tests: a project starting on {@link #START}, and tasks and tags
+ * scheduled on its first day. Builders come back open so a test only sets what it cares about.
+ */
+public final class TestData {
+
+    public static final LocalDate START = LocalDate.of(2024, 1, 1);
+    public static final Instant BASE = Instant.parse("2024-01-01T00:00:00Z");
+
+    private TestData() {
+    }
+
+    /** A project whose name starts with {@code prefix} and is unique across test runs on one database. */
+    public static Project.ProjectBuilder project(String prefix) {
+        return Project.builder().name(prefix + " " + UUID.randomUUID()).startDate(START);
+    }
+
+    /** An hour-long task on the project's first day. */
+    public static Task.TaskBuilder task(Project project) {
+        return Task.builder()
+                .project(project).title("Task").activity(false).duration(60)
+                .startAt(BASE).endAt(BASE.plusSeconds(3_600)).startDay(0).endDay(0);
+    }
+
+    /** An hour-long tag on the project's first day. */
+    public static Tag.TagBuilder tag(Project project) {
+        return Tag.builder()
+                .project(project).title("Tag").activity(false).duration(60)
+                .startAt(BASE).endAt(BASE.plusSeconds(3_600)).startDay(0).endDay(0);
+    }
+
+    public static Statistics statistics(EntityManagerFactory entityManagerFactory) {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Removes a project with everything under it. Tasks, tags, notes and actions go through the foreign keys'
+     * {@code ON DELETE CASCADE}. Tombstones only have that foreign key in the changelog, so they are deleted here.
+     */
+    public static void deleteProject(JdbcTemplate jdbc, UUID projectId) {
+        jdbc.update("DELETE FROM change_tombstone WHERE project_id = ?", projectId);
+        jdbc.update("DELETE FROM project WHERE id = ?", projectId);
+    }
+}
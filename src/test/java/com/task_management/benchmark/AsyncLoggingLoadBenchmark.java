@@ -0,0 +1,181 @@
+package com.task_management.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.task_management.monitoring.InstrumentedAsyncAppender;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Load test of the logging pipeline as request threads see it: {@value #DEFAULT_THREADS} threads each log
+ * {@value #EVENTS_PER_THREAD} JSON events of the size the request logging filter produces, with a short pause
+ * between calls standing in for request handling. Every {@code logger.info} call is timed, once with the
+ * {@code LogstashEncoder} file appender called directly and once behind {@link InstrumentedAsyncAppender} with
+ * the production queue settings. The file occasionally stalls like a busy disk does (see
+ * {@link StallingOutputStream}); without that, a local SSD or tmpfs only shows the cost of encoding on the
+ * request thread.
+ *
+ * <p>Excluded from the regular build; run with {@code mvn test -Pbenchmark -Dtest=AsyncLoggingLoadBenchmark}.
+ * The thread count can be changed with {@code -Dbenchmark.logging.threads}.
+ */
+@org.junit.jupiter.api.Tag("benchmark")
+class AsyncLoggingLoadBenchmark {
+
+    private static final org.slf4j.Logger log = LoggerFactory.getLogger(AsyncLoggingLoadBenchmark.class);
+    private static final int DEFAULT_THREADS = 16;
+    private static final int EVENTS_PER_THREAD = 10_000;
+    private static final long PAUSE_NANOS = 250_000;
+    private static final String PAYLOAD = "{\"title\":\"" + "x".repeat(480) + "\"}";
+
+    private final int threads = Integer.getInteger("benchmark.logging.threads", DEFAULT_THREADS);
+
+    @TempDir
+    Path logDir;
+
+    @Test
+    void tailLatencyOfSyncVersusAsyncAppender() throws Exception {
+        // Warm both paths up before measuring
+        run(false, EVENTS_PER_THREAD / 4);
+        run(true, EVENTS_PER_THREAD / 4);
+
+        Result sync = run(false, EVENTS_PER_THREAD);
+        Result async = run(true, EVENTS_PER_THREAD);
+
+        log.info("logging call latency, {} threads x {} events:", threads, EVENTS_PER_THREAD);
+        log.info("  sync : {}", sync);
+        log.info("  async: {}", async);
+        assertThat(async.percentile(99.9)).isLessThan(sync.percentile(99.9));
+    }
+
+    private Result run(boolean async, int eventsPerThread) throws Exception {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        Logger logger = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        logger.addAppender(async ? asyncAppender(context, fileAppender(context)) : fileAppender(context));
+
+        long[] latencies = new long[threads * eventsPerThread];
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * eventsPerThread;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < eventsPerThread; i++) {
+                        long before = System.nanoTime();
+                        logger.info("Request: method=POST, uri=/api/projects, status=201, durationMs=3, payload={}",
+                                PAYLOAD);
+                        latencies[offset + i] = System.nanoTime() - before;
+                        LockSupport.parkNanos(PAUSE_NANOS);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        long dropped = 0;
+        for (var it = logger.iteratorForAppenders(); it.hasNext(); ) {
+            if (it.next() instanceof InstrumentedAsyncAppender appender) {
+                appender.stop();
+                dropped = appender.getDroppedCount();
+            }
+        }
+        context.stop();
+        Arrays.sort(latencies);
+        return new Result(latencies, dropped);
+    }
+
+    private Appender<ILoggingEvent> fileAppender(LoggerContext context) throws IOException {
+        var encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        var file = new OutputStreamAppender<ILoggingEvent>();
+        file.setContext(context);
+        file.setName("JSON_FILE");
+        file.setEncoder(encoder);
+        file.setOutputStream(new StallingOutputStream(
+                new FileOutputStream(logDir.resolve("load.log").toFile(), true)));
+        file.start();
+        return file;
+    }
+
+    private static Appender<ILoggingEvent> asyncAppender(LoggerContext context, Appender<ILoggingEvent> sink) {
+        var async = new InstrumentedAsyncAppender();
+        async.setContext(context);
+        async.setName("ASYNC_JSON_FILE");
+        // Same as app.logging.async.* defaults
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(819);
+        async.addAppender(sink);
+        async.start();
+        return async;
+    }
+
+    /**
+     * Every {@value #STALL_EVERY}th write takes {@value #STALL_MILLIS} ms, standing in for the page-cache writeback
+     * and rollover compression pauses a real log disk shows under load. The sync appender holds its lock through
+     * the stall, so every thread logging at that moment waits with it.
+     */
+    private static final class StallingOutputStream extends FilterOutputStream {
+
+        private static final int STALL_EVERY = 2_000;
+        private static final long STALL_MILLIS = 2;
+
+        private final AtomicLong writes = new AtomicLong();
+
+        StallingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            if (writes.incrementAndGet() % STALL_EVERY == 0) {
+                LockSupport.parkNanos(STALL_MILLIS * 1_000_000);
+            }
+        }
+    }
+
+    private record Result(long[] sortedNanos, long dropped) {
+
+        long percentile(double p) {
+            int index = (int) Math.ceil(p / 100.0 * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, Math.min(index, sortedNanos.length - 1))];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("p50 %,d ns, p99 %,d ns, p99.9 %,d ns, max %,d ns, dropped %d",
+                    percentile(50), percentile(99), percentile(99.9), sortedNanos[sortedNanos.length - 1], dropped);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.task_management.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.task_management.dto.ProjectImportReq;
+import com.task_management.dto.ProjectImportRes;
+import com.task_management.entity.Action;
+import com.task_management.entity.Note;
+import com.task_management.entity.Project;
+import com.task_management.entity.Task;
+import com.task_management.repository.ActionRepository;
+import com.task_management.repository.NoteRepository;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.TagRepository;
+import com.task_management.repository.TaskRepository;
+import com.task_management.service.ProjectService;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares {@link ProjectService#importProject} against the original per-entity save loop on a
+ * template with {@value #DEFAULT_TASKS} tasks and {@value #DEFAULT_ACTIONS_PER_TASK} actions per task.
+ *
+ * <p>Excluded from the regular build; run with {@code mvn test -Pbenchmark}. Sizes can be changed with
+ * {@code -Dbenchmark.import.tasks} and {@code -Dbenchmark.import.actionsPerTask}.
+ */
+@org.junit.jupiter.api.Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectImportBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectImportBenchmark.class);
+    private static final int DEFAULT_TASKS = 2_000;
+    private static final int DEFAULT_ACTIONS_PER_TASK = 10;
+    private static final int ROUNDS = 3;
+
+    private final int taskCount = Integer.getInteger("benchmark.import.tasks", DEFAULT_TASKS);
+    private final int actionsPerTask = Integer.getInteger("benchmark.import.actionsPerTask", DEFAULT_ACTIONS_PER_TASK);
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projects;
+
+    @Autowired
+    private TaskRepository tasks;
+
+    @Autowired
+    private TagRepository tags;
+
+    @Autowired
+    private NoteRepository notes;
+
+    @Autowired
+    private ActionRepository actions;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private TransactionTemplate transactions;
+
+    @Test
+    void importEngineVersusPerEntityLoop() {
+        UUID sourceId = seedTemplate();
+
+        long legacyBest = Long.MAX_VALUE;
+        long engineBest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            String suffix = " " + round;
+            var legacy = time(() -> transactions.execute(status -> perEntityImport(sourceId, "legacy" + suffix)));
+            var engine = time(() -> projectService.importProject(
+                    new ProjectImportReq(sourceId, "engine" + suffix, null, true, true, true, true)));
+
+            assertThat(engine.result().importedTasksCount()).isEqualTo(legacy.result().importedTasksCount());
+            assertThat(engine.result().importedActionsCount()).isEqualTo(legacy.result().importedActionsCount());
+            assertThat(engine.result().importedNotesCount()).isEqualTo(legacy.result().importedNotesCount());
+            legacyBest = Math.min(legacyBest, legacy.millis());
+            engineBest = Math.min(engineBest, engine.millis());
+            log.info("round {}: per-entity loop {} ms, import engine {} ms", round, legacy.millis(), engine.millis());
+        }
+        log.info("import of {} tasks / {} actions: best per-entity loop {} ms, best import engine {} ms ({}x)",
+                taskCount, taskCount * actionsPerTask, legacyBest, engineBest,
+                String.format("%.1f", (double) legacyBest / Math.max(1, engineBest)));
+    }
+
+    private UUID seedTemplate() {
+        UUID projectId = UUID.randomUUID();
+        jdbc.update("INSERT INTO project (id, name, start_date, created_at, updated_at) "
+                + "VALUES (?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                projectId, "template " + projectId, LocalDate.of(2024, 1, 1));
+
+        List<Object[]> taskRows = new ArrayList<>();
+        List<Object[]> noteRows = new ArrayList<>();
+        List<Object[]> actionRows = new ArrayList<>();
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < taskCount; i++) {
+            UUID taskId = UUID.randomUUID();
+            int day = i % 90;
+            taskRows.add(new Object[] {taskId, projectId, "Task " + i, "Description " + i, i % 3 == 0, 60,
+                    start.plusSeconds(day * 86_400L), start.plusSeconds((day + 1) * 86_400L), day, day + 1});
+            noteRows.add(new Object[] {UUID.randomUUID(), taskId, "Note for task " + i});
+            for (int a = 0; a < actionsPerTask; a++) {
+                actionRows.add(new Object[] {UUID.randomUUID(), taskId, "Action " + a + " of task " + i, day + a});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO task (id, project_id, title, description, is_activity, duration, start_at, end_at, "
+                + "start_day, end_day, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", taskRows);
+        jdbc.batchUpdate("INSERT INTO note (id, task_id, body, created_at, updated_at) "
+                + "VALUES (?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", noteRows);
+        jdbc.batchUpdate("INSERT INTO action (id, task_id, details, day, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", actionRows);
+        return projectId;
+    }
+
+    /** The import loop as it was before the set-based engine: one save per copied row. */
+    private ProjectImportRes perEntityImport(UUID sourceId, String name) {
+        Project source = projects.findById(sourceId).orElseThrow();
+        Project target = projects.save(Project.builder()
+                .name(name).description(source.getDescription()).startDate(source.getStartDate()).build());
+
+        Map<UUID, Task> oldTaskIdToNewTask = new HashMap<>();
+        for (Task sourceTask : tasks.findByProjectId(sourceId)) {
+            Task newTask = tasks.save(Task.builder()
+                    .project(target).title(sourceTask.getTitle()).description(sourceTask.getDescription())
+                    .activity(sourceTask.isActivity()).duration(sourceTask.getDuration())
+                    .startAt(sourceTask.getStartAt()).endAt(sourceTask.getEndAt())
+                    .startDay(sourceTask.getStartDay()).endDay(sourceTask.getEndDay())
+                    .color(sourceTask.getColor()).build());
+            oldTaskIdToNewTask.put(sourceTask.getId(), newTask);
+        }
+        int tagCount = 0;
+        for (var sourceTag : tags.findByProjectId(sourceId)) {
+            tags.save(com.task_management.entity.Tag.builder()
+                    .project(target).title(sourceTag.getTitle()).description(sourceTag.getDescription())
+                    .activity(sourceTag.isActivity()).duration(sourceTag.getDuration())
+                    .startAt(sourceTag.getStartAt()).endAt(sourceTag.getEndAt())
+                    .startDay(sourceTag.getStartDay()).endDay(sourceTag.getEndDay())
+                    .color(sourceTag.getColor()).build());
+            tagCount++;
+        }
+        int noteCount = 0;
+        for (Note sourceNote : notes.findByProjectId(sourceId)) {
+            notes.save(Note.builder().project(target).body(sourceNote.getBody()).build());
+            noteCount++;
+        }
+        for (Note sourceNote : notes.findTaskNotesByProjectId(sourceId)) {
+            notes.save(Note.builder().task(oldTaskIdToNewTask.get(sourceNote.getTask().getId()))
+                    .body(sourceNote.getBody()).build());
+            noteCount++;
+        }
+        int actionCount = 0;
+        for (Action sourceAction : actions.findByProjectId(sourceId)) {
+            actions.save(Action.builder().task(oldTaskIdToNewTask.get(sourceAction.getTask().getId()))
+                    .details(sourceAction.getDetails()).day(sourceAction.getDay()).build());
+            actionCount++;
+        }
+        // Commit-time flush is part of the cost the loop used to pay inside the request
+        projects.flush();
+        return new ProjectImportRes(target.getId(), name, oldTaskIdToNewTask.size(), noteCount, tagCount, actionCount, null);
+    }
+
+    private static <T> Timed<T> time(Supplier<T> work) {
+        long start = System.nanoTime();
+        T result = work.get();
+        return new Timed<>(result, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private record Timed<T>(T result, long millis) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.task_management.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.task_management.service.ProjectService;
+import com.task_management.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares the read-only query path against the same service calls wrapped in a read-write transaction, which is
+ * how every query ran before: the outer transaction makes the read-only methods join it, so Hibernate keeps a
+ * snapshot per loaded entity and dirty-checks all of them in the commit flush. The project holds
+ * {@value #DEFAULT_TASKS} tasks.
+ *
+ * <p>Excluded from the regular build; run with {@code mvn test -Pbenchmark}. The size can be changed with
+ * {@code -Dbenchmark.readonly.tasks}.
+ */
+@org.junit.jupiter.api.Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class ReadOnlyQueryBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadOnlyQueryBenchmark.class);
+    private static final int DEFAULT_TASKS = 5_000;
+    private static final int ROUNDS = 10;
+
+    private final int taskCount = Integer.getInteger("benchmark.readonly.tasks", DEFAULT_TASKS);
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private TransactionTemplate transactions;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void readOnlyVersusReadWriteTransactions() {
+        UUID projectId = seedProject();
+        PageRequest everything = PageRequest.of(0, taskCount);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        compare("project get", statistics,
+                () -> projectService.get(projectId).tasks().size());
+        compare("task list", statistics,
+                () -> (int) taskService.listInProject(projectId, everything).getNumberOfElements());
+    }
+
+    private void compare(String operation, Statistics statistics, Supplier<Integer> query) {
+        long readWriteBest = Long.MAX_VALUE;
+        long readOnlyBest = Long.MAX_VALUE;
+        long readWriteFlushes = 0;
+        long readOnlyFlushes = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            statistics.clear();
+            var readWrite = time(() -> transactions.execute(status -> query.get()));
+            readWriteFlushes += statistics.getFlushCount();
+
+            statistics.clear();
+            var readOnly = time(query);
+            readOnlyFlushes += statistics.getFlushCount();
+
+            assertThat(readOnly.result()).isEqualTo(readWrite.result()).isEqualTo(taskCount);
+            readWriteBest = Math.min(readWriteBest, readWrite.millis());
+            readOnlyBest = Math.min(readOnlyBest, readOnly.millis());
+        }
+        log.info("{} over {} tasks: best read-write {} ms ({} flushes), best read-only {} ms ({} flushes) ({}x)",
+                operation, taskCount, readWriteBest, readWriteFlushes, readOnlyBest, readOnlyFlushes,
+                String.format("%.1f", (double) readWriteBest / Math.max(1, readOnlyBest)));
+    }
+
+    private UUID seedProject() {
+        UUID projectId = UUID.randomUUID();
+        jdbc.update("INSERT INTO project (id, name, start_date, created_at, updated_at) "
+                + "VALUES (?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                projectId, "read only " + projectId, LocalDate.of(2024, 1, 1));
+
+        List<Object[]> taskRows = new ArrayList<>();
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < taskCount; i++) {
+            int day = i % 90;
+            taskRows.add(new Object[] {UUID.randomUUID(), projectId, "Task " + i, "Description " + i, i % 3 == 0, 60,
+                    start.plusSeconds(day * 86_400L), start.plusSeconds((day + 1) * 86_400L), day, day + 1});
+        }
+        jdbc.batchUpdate("INSERT INTO task (id, project_id, title, description, is_activity, duration, start_at, end_at, "
+                + "start_day, end_day, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", taskRows);
+        return projectId;
+    }
+
+    private static <T> Timed<T> time(Supplier<T> work) {
+        long start = System.nanoTime();
+        T result = work.get();
+        return new Timed<>(result, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private record Timed<T>(T result, long millis) {
+    }
+}
@@ -0,0 +1,209 @@
+package com.task_management.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.task_management.config.RequestResponseLoggingFilter;
+import com.task_management.config.RequestResponseLoggingFilter.Mode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * JMH measurement of the time {@link RequestResponseLoggingFilter} adds to one request whose handler reads a JSON
+ * body and writes one of the same size, for each logging mode and for the previous {@code ContentCaching*} wrapping
+ * ({@code LEGACY}). The log line itself goes nowhere: appender cost is the logging backend's, not the filter's.
+ *
+ * <p>Excluded from the regular build; run with {@code mvn test -Pbenchmark -Dtest=RequestLoggingFilterBenchmark}.
+ */
+@org.junit.jupiter.api.Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(org.openjdk.jmh.annotations.Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestLoggingFilterBenchmark {
+
+    @Param({"NONE", "OFF", "METADATA", "PAYLOAD_UNSAMPLED", "PAYLOAD_SAMPLED", "LEGACY"})
+    public String variant;
+
+    @Param({"512", "65536"})
+    public int bodyBytes;
+
+    private static final MockServletContext SERVLET_CONTEXT = new MockServletContext();
+
+    private byte[] body;
+    private FilterChain handler;
+    private OncePerRequestFilter filter;
+
+    @Test
+    void filterOverheadPerRequest() throws Exception {
+        var results = new Runner(new OptionsBuilder()
+                .include(RequestLoggingFilterBenchmark.class.getName() + ".request")
+                .build()).run();
+
+        assertThat(results).isNotEmpty();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var filterLogger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(RequestResponseLoggingFilter.class);
+        filterLogger.setLevel(ch.qos.logback.classic.Level.INFO);
+        filterLogger.setAdditive(false);
+
+        body = ("{\"description\":\"" + "x".repeat(bodyBytes - 18) + "\"}").getBytes(StandardCharsets.UTF_8);
+        handler = (request, response) -> {
+            request.getInputStream().readAllBytes();
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(body);
+        };
+        filter = switch (variant) {
+            case "NONE" -> null;
+            case "OFF" -> new RequestResponseLoggingFilter(Mode.OFF, 0.0, "");
+            case "METADATA" -> new RequestResponseLoggingFilter(Mode.METADATA, 0.0, "");
+            case "PAYLOAD_UNSAMPLED" -> new RequestResponseLoggingFilter(Mode.PAYLOAD, 0.0, "");
+            case "PAYLOAD_SAMPLED" -> new RequestResponseLoggingFilter(Mode.PAYLOAD, 1.0, "");
+            case "LEGACY" -> new LegacyContentCachingFilter();
+            default -> throw new IllegalArgumentException(variant);
+        };
+    }
+
+    @Benchmark
+    public MockHttpServletResponse request() throws Exception {
+        var request = new FastBodyRequest(body);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        var response = new DiscardingResponse();
+        if (filter == null) {
+            handler.doFilter(request, response);
+        } else {
+            filter.doFilter(request, response, handler);
+        }
+        return response;
+    }
+
+    /**
+     * The mock request's and response's streams go byte by byte and would hide the filter's cost, so the body is
+     * read from and written to plain array streams instead.
+     */
+    private static final class FastBodyRequest extends MockHttpServletRequest {
+
+        private final ByteArrayInputStream content;
+
+        FastBodyRequest(byte[] body) {
+            super(SERVLET_CONTEXT, "POST", "/api/projects");
+            this.content = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return content.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return content.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return content.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
+
+    private static final class DiscardingResponse extends MockHttpServletResponse {
+
+        private final ServletOutputStream sink = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return sink;
+        }
+    }
+
+    /** The wrapping and decoding the filter did before sampling, without its two log calls. */
+    private static final class LegacyContentCachingFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            var requestToUse = new ContentCachingRequestWrapper(request);
+            var responseToUse = new ContentCachingResponseWrapper(response);
+            try {
+                chain.doFilter(requestToUse, responseToUse);
+            } finally {
+                decode(requestToUse.getContentAsByteArray());
+                decode(responseToUse.getContentAsByteArray());
+                responseToUse.copyBodyToResponse();
+            }
+        }
+
+        private static String decode(byte[] buf) {
+            String payload = new String(buf, StandardCharsets.UTF_8);
+            return payload.length() > 2000 ? payload.substring(0, 2000) + "...(truncated)" : payload;
+        }
+    }
+}
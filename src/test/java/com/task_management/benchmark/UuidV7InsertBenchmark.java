@@ -0,0 +1,95 @@
+package com.task_management.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.task_management.entity.UuidV7Generator;
+import com.task_management.repository.DatabasePlatform;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Inserts {@value #DEFAULT_ROWS} rows into two identical scratch tables, one keyed by random (v4) UUIDs and one by
+ * {@link UuidV7Generator}, and compares insert time and the size of the primary key plus a
+ * {@code (project_id, id)} index shaped like {@code idx_task_project_end_at_id}. Random keys split pages all over
+ * both B-trees; time-ordered keys append to their right-most leaf.
+ *
+ * <p>Excluded from the regular build; run with {@code mvn test -Pbenchmark}. Index sizes are only reported on
+ * PostgreSQL (point {@code spring.datasource.*} at one); H2's in-memory store has no page-level size to compare.
+ * The row count can be changed with {@code -Dbenchmark.uuid.rows}.
+ */
+@org.junit.jupiter.api.Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class UuidV7InsertBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(UuidV7InsertBenchmark.class);
+    private static final int DEFAULT_ROWS = 500_000;
+    private static final int BATCH = 1_000;
+    private static final int PROJECTS = 100;
+
+    private final int rowCount = Integer.getInteger("benchmark.uuid.rows", DEFAULT_ROWS);
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private DatabasePlatform platform;
+
+    @AfterEach
+    void dropTables() {
+        jdbc.execute("DROP TABLE IF EXISTS uuid_bench_random");
+        jdbc.execute("DROP TABLE IF EXISTS uuid_bench_v7");
+    }
+
+    @Test
+    void timeOrderedVersusRandomKeys() {
+        List<UUID> projectIds = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            projectIds.add(UuidV7Generator.next());
+        }
+
+        long randomMillis = insert("uuid_bench_random", projectIds, UUID::randomUUID);
+        long v7Millis = insert("uuid_bench_v7", projectIds, UuidV7Generator::next);
+
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM uuid_bench_v7", Long.class)).isEqualTo(rowCount);
+        log.info("{} rows: random UUID {} ms ({} rows/s), UUIDv7 {} ms ({} rows/s)", rowCount,
+                randomMillis, rowCount * 1000L / Math.max(1, randomMillis),
+                v7Millis, rowCount * 1000L / Math.max(1, v7Millis));
+        if (platform.isPostgres()) {
+            long randomBytes = indexBytes("uuid_bench_random");
+            long v7Bytes = indexBytes("uuid_bench_v7");
+            log.info("index size: random UUID {} KiB, UUIDv7 {} KiB ({}%)",
+                    randomBytes / 1024, v7Bytes / 1024, v7Bytes * 100 / Math.max(1, randomBytes));
+        }
+    }
+
+    private long insert(String table, List<UUID> projectIds, Supplier<UUID> ids) {
+        jdbc.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, project_id UUID NOT NULL, "
+                + "title VARCHAR(160) NOT NULL)");
+        jdbc.execute("CREATE INDEX " + table + "_project_id ON " + table + " (project_id, id)");
+
+        long start = System.nanoTime();
+        for (int offset = 0; offset < rowCount; offset += BATCH) {
+            List<Object[]> rows = new ArrayList<>(BATCH);
+            for (int i = offset; i < Math.min(rowCount, offset + BATCH); i++) {
+                rows.add(new Object[] {ids.get(), projectIds.get(i % PROJECTS), "Task " + i});
+            }
+            jdbc.batchUpdate("INSERT INTO " + table + " (id, project_id, title) VALUES (?, ?, ?)", rows);
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private long indexBytes(String table) {
+        return jdbc.queryForObject("SELECT pg_indexes_size(?::regclass)", Long.class, table);
+    }
+}
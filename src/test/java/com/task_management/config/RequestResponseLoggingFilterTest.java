@@ -0,0 +1,138 @@
+package com.task_management.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.task_management.config.RequestResponseLoggingFilter.Mode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestResponseLoggingFilterTest {
+
+    private final Logger filterLogger = (Logger) LoggerFactory.getLogger(RequestResponseLoggingFilter.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final AtomicReference<ServletRequest> seenRequest = new AtomicReference<>();
+
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        filterLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        filterLogger.detachAppender(appender);
+    }
+
+    @Test
+    void sampledRequest_logsBothBodiesAndStreamsTheResponseThrough() throws Exception {
+        var response = new MockHttpServletResponse();
+
+        new RequestResponseLoggingFilter(Mode.PAYLOAD, 1.0, "")
+                .doFilter(jsonRequest("/api/tasks", "{\"title\":\"Write\"}"), response, echo("{\"id\":1}"));
+
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(seenRequest.get()).isInstanceOf(CappedTeeRequestWrapper.class);
+        assertThat(singleLine())
+                .contains("method=POST", "uri=/api/tasks", "status=200")
+                .contains("payload={\"title\":\"Write\"}", "responsePayload={\"id\":1}");
+    }
+
+    @Test
+    void sampledRequest_capturesOnlyTheFirstBytesOfLargeBodies() throws Exception {
+        String large = "{\"description\":\"" + "x".repeat(10_000) + "\"}";
+        var response = new MockHttpServletResponse();
+
+        new RequestResponseLoggingFilter(Mode.PAYLOAD, 1.0, "")
+                .doFilter(jsonRequest("/api/projects", large), response, echo(large));
+
+        // The client still gets every byte; only the logged copy is capped
+        assertThat(response.getContentAsString()).isEqualTo(large);
+        String capped = large.substring(0, RequestResponseLoggingFilter.MAX_PAYLOAD_LENGTH) + "...(truncated)";
+        assertThat(singleLine()).contains("payload=" + capped + ",", "responsePayload=" + capped);
+    }
+
+    @Test
+    void unsampledRequest_isNotWrappedAndLogsMetadataOnly() throws Exception {
+        var request = jsonRequest("/api/tasks", "{\"title\":\"Write\"}");
+
+        new RequestResponseLoggingFilter(Mode.PAYLOAD, 0.0, "")
+                .doFilter(request, new MockHttpServletResponse(), echo("{}"));
+
+        assertThat(seenRequest.get()).isSameAs(request);
+        assertThat(singleLine()).contains("uri=/api/tasks", "status=200").doesNotContain("payload");
+    }
+
+    @Test
+    void metadataMode_neverCapturesBodies() throws Exception {
+        var request = jsonRequest("/api/tasks", "{}");
+
+        new RequestResponseLoggingFilter(Mode.METADATA, 1.0, "")
+                .doFilter(request, new MockHttpServletResponse(), echo("{}"));
+
+        assertThat(seenRequest.get()).isSameAs(request);
+        assertThat(singleLine()).doesNotContain("payload");
+    }
+
+    @Test
+    void offMode_logsNothing() throws Exception {
+        new RequestResponseLoggingFilter(Mode.OFF, 1.0, "")
+                .doFilter(jsonRequest("/api/tasks", "{}"), new MockHttpServletResponse(), echo("{}"));
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void routeSampleRates_overrideTheDefaultAndFirstMatchWins() {
+        var filter = new RequestResponseLoggingFilter(Mode.PAYLOAD, 0.0,
+                "/actuator/**=0, /api/projects/*/tasks=0, /api/projects/**=1");
+
+        assertThat(filter.isSampled(new MockHttpServletRequest("GET", "/api/projects/42"))).isTrue();
+        assertThat(filter.isSampled(new MockHttpServletRequest("GET", "/api/projects/42/tasks"))).isFalse();
+        assertThat(filter.isSampled(new MockHttpServletRequest("GET", "/actuator/health"))).isFalse();
+        assertThat(filter.isSampled(new MockHttpServletRequest("GET", "/api/tasks"))).isFalse();
+    }
+
+    @Test
+    void invalidSampleRates_failAtStartup() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new RequestResponseLoggingFilter(Mode.PAYLOAD, 1.5, ""));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new RequestResponseLoggingFilter(Mode.PAYLOAD, 1.0, "/api/**"));
+    }
+
+    private static MockHttpServletRequest jsonRequest(String uri, String body) {
+        var request = new MockHttpServletRequest("POST", uri);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setCharacterEncoding("UTF-8");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    /** Reads the whole request body, then answers with {@code body} through the writer. */
+    private FilterChain echo(String body) {
+        return (request, response) -> {
+            seenRequest.set(request);
+            request.getInputStream().readAllBytes();
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write(body);
+        };
+    }
+
+    private String singleLine() {
+        assertThat(appender.list).hasSize(1);
+        return appender.list.get(0).getFormattedMessage();
+    }
+}
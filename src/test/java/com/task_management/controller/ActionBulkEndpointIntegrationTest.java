@@ -0,0 +1,167 @@
+package com.task_management.controller;
+
+import static com.task_management.TestData.BASE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task_management.TestData;
+import com.task_management.dto.ActionBulkCreateReq;
+import com.task_management.dto.ActionBulkItemReq;
+import com.task_management.entity.Project;
+import com.task_management.entity.Task;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Runs {@code POST /api/actions/bulk} against the real persistence stack: the task is read once and every action
+ * is written through one batched insert statement.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ActionBulkEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectRepository projects;
+
+    @Autowired
+    private TaskRepository tasks;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Statistics statistics;
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        statistics = TestData.statistics(entityManagerFactory);
+        project = projects.save(TestData.project("Actions").build());
+        task = tasks.save(TestData.task(project)
+                .title("Quarter").activity(true).endAt(BASE.plusSeconds(89 * 86_400L)).endDay(89).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestData.deleteProject(jdbc, project.getId());
+    }
+
+    @Test
+    void template_expandsOverTheWholeTaskInOneBatchedInsert() throws Exception {
+        statistics.clear();
+        mockMvc.perform(post("/api/actions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ActionBulkCreateReq(task.getId(), null, " Daily check ", null, null))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(90))
+                .andExpect(jsonPath("$[0].day").value(1))
+                .andExpect(jsonPath("$[0].details").value("Daily check"))
+                .andExpect(jsonPath("$[89].day").value(90));
+
+        // task lookup, then one prepared insert executed in batches
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(90);
+        assertThat(countActions()).isEqualTo(90);
+    }
+
+    @Test
+    void explicitList_isCreatedAsGiven() throws Exception {
+        mockMvc.perform(post("/api/actions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ActionBulkCreateReq(task.getId(), List.of(
+                                new ActionBulkItemReq("Kickoff", 1),
+                                new ActionBulkItemReq("Review", 30)), null, null, null))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[1].details").value("Review"))
+                .andExpect(jsonPath("$[1].day").value(30));
+
+        assertThat(countActions()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidItem_rejectsTheWholeRequest() throws Exception {
+        mockMvc.perform(post("/api/actions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ActionBulkCreateReq(task.getId(), List.of(
+                                new ActionBulkItemReq("Fine", 1),
+                                new ActionBulkItemReq("Too early", 0)), null, null, null))))
+                .andExpect(status().isBadRequest());
+
+        assertThat(countActions()).isZero();
+    }
+
+    @Test
+    void rangeAndListTogether_isBadRequest() throws Exception {
+        mockMvc.perform(post("/api/actions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ActionBulkCreateReq(task.getId(),
+                                List.of(new ActionBulkItemReq("One", 1)), "Daily", 1, 5))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void reversedRange_isBadRequest() throws Exception {
+        mockMvc.perform(post("/api/actions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ActionBulkCreateReq(task.getId(), null, "Daily", 10, 5))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rangeOutsideTheTask_isBadRequest() throws Exception {
+        mockMvc.perform(post("/api/actions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ActionBulkCreateReq(task.getId(), null, "Daily", 85, 91))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/actions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ActionBulkCreateReq(task.getId(), null, "Daily", 0, 5))))
+                .andExpect(status().isBadRequest());
+
+        assertThat(countActions()).isZero();
+    }
+
+    @Test
+    void unknownTask_isNotFound() throws Exception {
+        mockMvc.perform(post("/api/actions/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ActionBulkCreateReq(UUID.randomUUID(), null, "Daily", null, null))))
+                .andExpect(status().isNotFound());
+    }
+
+    private int countActions() {
+        return jdbc.queryForObject("SELECT count(*) FROM action WHERE task_id = ?", Integer.class, task.getId());
+    }
+}
@@ -0,0 +1,218 @@
+package com.task_management.controller;
+
+import static com.task_management.TestData.BASE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task_management.TestData;
+import com.task_management.dto.ActionCreateReq;
+import com.task_management.dto.NoteCreateReq;
+import com.task_management.dto.ProjectCreateReq;
+import com.task_management.dto.TagCreateReq;
+import com.task_management.dto.TaskCreateReq;
+import com.task_management.dto.TaskUpdateReq;
+import com.task_management.service.ActionService;
+import com.task_management.service.NoteService;
+import com.task_management.service.ProjectService;
+import com.task_management.service.TagService;
+import com.task_management.service.TaskService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Delta sync end to end: an initial sync returns everything, a cursor returns only what changed after it, deletes
+ * come back as tombstones and large catch-ups are paged. The settle window is switched off so writes are visible
+ * to the very next call.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.sync.settle-ms=0")
+class ChangeSyncIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private ActionService actionService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        projectId = projectService.create(
+                new ProjectCreateReq("Sync " + UUID.randomUUID(), null, TestData.START)).id();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestData.deleteProject(jdbc, projectId);
+    }
+
+    @Test
+    void initialSync_returnsEveryEntityThenNothingUntilTheNextWrite() throws Exception {
+        var task = taskService.create(taskReq("Task"));
+        var tag = tagService.create(new TagCreateReq(projectId, "Tag", null, false, 60, BASE, BASE.plusSeconds(3600),
+                null));
+        var taskNote = noteService.create(new NoteCreateReq(null, task.id(), "On the task"));
+        var projectNote = noteService.create(new NoteCreateReq(projectId, null, "On the project"));
+        var action = actionService.create(new ActionCreateReq(task.id(), "Call", 1));
+
+        JsonNode page = sync(null, 100);
+
+        assertThat(page.get("hasMore").asBoolean()).isFalse();
+        assertThat(ids(page)).containsExactlyInAnyOrder(task.id().toString(), tag.id().toString(),
+                taskNote.id().toString(), projectNote.id().toString(), action.id().toString());
+        assertThat(page.get("changes").findValuesAsText("deleted")).containsOnly("false");
+        assertThat(changeFor(page, task.id()).get("data").get("title").asText()).isEqualTo("Task");
+
+        JsonNode next = sync(page.get("nextCursor").asText(), 100);
+        assertThat(next.get("changes")).isEmpty();
+        assertThat(next.get("hasMore").asBoolean()).isFalse();
+    }
+
+    @Test
+    void cursor_returnsOnlyLaterUpdatesAndDeletes() throws Exception {
+        var task = taskService.create(taskReq("Task"));
+        var untouched = taskService.create(taskReq("Untouched"));
+        var tag = tagService.create(new TagCreateReq(projectId, "Tag", null, false, 60, BASE, BASE.plusSeconds(3600),
+                null));
+        String cursor = sync(null, 100).get("nextCursor").asText();
+
+        taskService.update(task.id(), new TaskUpdateReq("Renamed", null, null, null, null, null, null));
+        tagService.delete(tag.id());
+
+        JsonNode page = sync(cursor, 100);
+        assertThat(ids(page)).containsExactlyInAnyOrder(task.id().toString(), tag.id().toString())
+                .doesNotContain(untouched.id().toString());
+        assertThat(changeFor(page, task.id()).get("data").get("title").asText()).isEqualTo("Renamed");
+        JsonNode deleted = changeFor(page, tag.id());
+        assertThat(deleted.get("type").asText()).isEqualTo("TAG");
+        assertThat(deleted.get("deleted").asBoolean()).isTrue();
+        assertThat(deleted.get("data").isNull()).isTrue();
+    }
+
+    @Test
+    void deletedTask_tombstonesItsNotesAndActions() throws Exception {
+        var task = taskService.create(taskReq("Task"));
+        var note = noteService.create(new NoteCreateReq(null, task.id(), "Note"));
+        var action = actionService.create(new ActionCreateReq(task.id(), "Call", 1));
+        String cursor = sync(null, 100).get("nextCursor").asText();
+
+        // The note and action go through the foreign keys' ON DELETE CASCADE
+        taskService.delete(task.id());
+
+        JsonNode page = sync(cursor, 100);
+        assertThat(ids(page)).containsExactlyInAnyOrder(task.id().toString(), note.id().toString(),
+                action.id().toString());
+        assertThat(page.get("changes").findValuesAsText("deleted")).containsOnly("true");
+    }
+
+    @Test
+    void largeCatchUp_isPagedWithoutGapsOrRepeats() throws Exception {
+        List<String> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(taskService.create(taskReq("Task " + i)).id().toString());
+        }
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        JsonNode page;
+        int pages = 0;
+        do {
+            page = sync(cursor, 2);
+            seen.addAll(ids(page));
+            cursor = page.get("nextCursor").asText();
+            pages++;
+        } while (page.get("hasMore").asBoolean());
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).containsExactlyInAnyOrderElementsOf(created);
+    }
+
+    @Test
+    void malformedCursor_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/projects/{id}/changes", projectId).param("since", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void limitOutOfRange_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/projects/{id}/changes", projectId).param("limit", "1001"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unknownProject_returnsNotFound() throws Exception {
+        mockMvc.perform(get("/api/projects/{id}/changes", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode sync(String since, int limit) throws Exception {
+        var get = get("/api/projects/{id}/changes", projectId).param("limit", Integer.toString(limit));
+        if (since != null) {
+            get.param("since", since);
+        }
+        MvcResult started = mockMvc.perform(get)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<String> ids(JsonNode page) {
+        List<String> ids = new ArrayList<>();
+        page.get("changes").forEach(change -> ids.add(change.get("id").asText()));
+        return ids;
+    }
+
+    private static JsonNode changeFor(JsonNode page, UUID id) {
+        for (JsonNode change : page.get("changes")) {
+            if (change.get("id").asText().equals(id.toString())) {
+                return change;
+            }
+        }
+        throw new AssertionError("No change for " + id);
+    }
+
+    private TaskCreateReq taskReq(String title) {
+        return new TaskCreateReq(projectId, title, null, false, 60, BASE, BASE.plusSeconds(3600), null);
+    }
+}
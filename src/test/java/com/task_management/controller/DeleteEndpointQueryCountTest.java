@@ -0,0 +1,161 @@
+package com.task_management.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.task_management.TestData;
+
+import com.task_management.entity.Action;
+import com.task_management.entity.Note;
+import com.task_management.entity.Project;
+import com.task_management.entity.Tag;
+import com.task_management.entity.Task;
+import com.task_management.repository.ActionRepository;
+import com.task_management.repository.NoteRepository;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.TagRepository;
+import com.task_management.repository.TaskRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Counts the statements behind every DELETE endpoint at the connection, so the {@code JdbcTemplate} version bump
+ * and change feed tombstone are counted next to the Hibernate delete. A project goes in one statement. Tasks, tags,
+ * notes and actions read their project, bump its version, write the tombstone and delete: four statements on H2,
+ * three on PostgreSQL, where the bump returns the project itself.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(StatementCounter.class)
+class DeleteEndpointQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projects;
+
+    @Autowired
+    private TaskRepository tasks;
+
+    @Autowired
+    private TagRepository tags;
+
+    @Autowired
+    private NoteRepository notes;
+
+    @Autowired
+    private ActionRepository actions;
+
+    @Autowired
+    private StatementCounter statements;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        project = projects.save(TestData.project("Delete").build());
+        task = tasks.save(TestData.task(project).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestData.deleteProject(jdbc, project.getId());
+    }
+
+    @Test
+    void deleteProject_isOneStatement() throws Exception {
+        Action action = actions.save(Action.builder().task(task).details("Action").day(1).build());
+
+        // The task and its action go through the foreign keys' ON DELETE CASCADE
+        assertStatements(1, () -> mockMvc.perform(delete("/api/projects/{id}", project.getId()))
+                .andExpect(status().isNoContent()));
+        assertThat(projects.existsById(project.getId())).isFalse();
+        assertThat(tasks.existsById(task.getId())).isFalse();
+        assertThat(actions.existsById(action.getId())).isFalse();
+    }
+
+    @Test
+    void deleteTask_bumpsVersionTombstonesAndDeletes() throws Exception {
+        Task doomed = tasks.save(TestData.task(project).title("Doomed").build());
+
+        assertStatements(4, () -> mockMvc.perform(delete("/api/tasks/{id}", doomed.getId()))
+                .andExpect(status().isNoContent()));
+        assertThat(tasks.existsById(doomed.getId())).isFalse();
+    }
+
+    @Test
+    void deleteTag_bumpsVersionTombstonesAndDeletes() throws Exception {
+        Tag tag = tags.save(TestData.tag(project).build());
+
+        assertStatements(4, () -> mockMvc.perform(delete("/api/tags/{id}", tag.getId()))
+                .andExpect(status().isNoContent()));
+        assertThat(tags.existsById(tag.getId())).isFalse();
+    }
+
+    @Test
+    void deleteNote_bumpsVersionTombstonesAndDeletes() throws Exception {
+        Note note = notes.save(Note.builder().project(project).body("Note").build());
+
+        assertStatements(4, () -> mockMvc.perform(delete("/api/notes/{id}", note.getId()))
+                .andExpect(status().isNoContent()));
+        assertThat(notes.existsById(note.getId())).isFalse();
+    }
+
+    @Test
+    void deleteAction_bumpsVersionTombstonesAndDeletes() throws Exception {
+        Action action = actions.save(Action.builder().task(task).details("Action").day(1).build());
+
+        assertStatements(4, () -> mockMvc.perform(delete("/api/actions/{id}", action.getId()))
+                .andExpect(status().isNoContent()));
+        assertThat(actions.existsById(action.getId())).isFalse();
+    }
+
+    @Test
+    void deleteMissingProjectTaskOrTag_returnsNotFoundAfterOneStatement() throws Exception {
+        UUID missing = UUID.randomUUID();
+
+        // The project delete's zero row count, or the empty project lookup ahead of the bump
+        for (String path : new String[] {"/api/projects/{id}", "/api/tasks/{id}", "/api/tags/{id}"}) {
+            assertStatements(1, () -> mockMvc.perform(delete(path, missing))
+                    .andExpect(status().isNotFound()));
+        }
+    }
+
+    @Test
+    void deleteMissingNoteOrAction_returnsNotFoundFromTheDelete() throws Exception {
+        UUID missing = UUID.randomUUID();
+
+        // Nothing to bump, but the tombstone insert and delete still run; the delete's zero row count is the 404
+        for (String path : new String[] {"/api/notes/{id}", "/api/actions/{id}"}) {
+            assertStatements(3, () -> mockMvc.perform(delete(path, missing))
+                    .andExpect(status().isNotFound()));
+        }
+    }
+
+    private void assertStatements(long expected, ThrowingRunnable request) throws Exception {
+        statements.reset();
+        request.run();
+        assertThat(statements.count()).isEqualTo(expected);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -2,6 +2,9 @@ package com.task_management.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -9,14 +12,31 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task_management.dto.ImportJobRes;
 import com.task_management.dto.ProjectCreateReq;
+import com.task_management.dto.ProjectImportReq;
 import com.task_management.dto.ProjectRes;
+import com.task_management.dto.ProjectSearchRes;
+import com.task_management.dto.SearchHitRes;
+import com.task_management.dto.SearchHitType;
+import com.task_management.dto.ProjectSummaryRes;
 import com.task_management.dto.ProjectUpdateReq;
+import com.task_management.entity.ImportJobStatus;
+import com.task_management.exception.NotFoundException;
+import com.task_management.exception.ServiceUnavailableException;
+import com.task_management.service.ChangeSyncService;
+import com.task_management.service.ImportJobService;
+import com.task_management.service.ProjectEventService;
+import com.task_management.service.ProjectExportService;
+import com.task_management.service.ProjectPurgeService;
+import com.task_management.service.ProjectSearchService;
 import com.task_management.service.ProjectService;
+import com.task_management.service.Versioned;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
@@ -45,6 +65,24 @@ class ProjectControllerTest {
     @MockBean
     private ProjectService projectService;
 
+    @MockBean
+    private ImportJobService importJobService;
+
+    @MockBean
+    private ProjectSearchService projectSearchService;
+
+    @MockBean
+    private ProjectPurgeService projectPurgeService;
+
+    @MockBean
+    private ChangeSyncService changeSyncService;
+
+    @MockBean
+    private ProjectEventService projectEventService;
+
+    @MockBean
+    private ProjectExportService projectExportService;
+
     @Test
     void create_returnsCreatedProject() throws Exception {
         ProjectCreateReq request = new ProjectCreateReq("Project", "Description", LocalDate.of(2024, 1, 15));
@@ -88,7 +126,7 @@ class ProjectControllerTest {
                 List.of(),
                 List.of()
         );
-        when(projectService.get(projectId)).thenReturn(response);
+        when(projectService.getVersioned(projectId)).thenReturn(new Versioned<>(response, 1L));
 
         mockMvc.perform(get("/api/projects/{id}", projectId))
                 .andExpect(status().isOk())
@@ -98,7 +136,89 @@ class ProjectControllerTest {
                 .andExpect(jsonPath("$.tasks").isArray())
                 .andExpect(jsonPath("$.tags").isArray());
 
-        verify(projectService).get(projectId);
+        verify(projectService).getVersioned(projectId);
+        verify(projectService, never()).getVersion(any());
+    }
+
+    @Test
+    void get_tagsResponseWithProjectVersion() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        when(projectService.getVersioned(projectId)).thenReturn(new Versioned<>(new ProjectRes(projectId, "Project",
+                null, LocalDate.of(2024, 1, 15), Instant.parse("2024-01-01T00:00:00Z"),
+                Instant.parse("2024-01-02T00:00:00Z"), List.of(), List.of()), 7L));
+
+        mockMvc.perform(get("/api/projects/{id}", projectId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"7\""));
+    }
+
+    @Test
+    void get_withStaleEtag_tagsResponseWithVersionLoadedAlongsideTheBody() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        // A write lands between the version check and the body load
+        when(projectService.getVersion(projectId)).thenReturn(7L);
+        when(projectService.getVersioned(projectId)).thenReturn(new Versioned<>(new ProjectRes(projectId, "Project",
+                null, LocalDate.of(2024, 1, 15), Instant.parse("2024-01-01T00:00:00Z"),
+                Instant.parse("2024-01-02T00:00:00Z"), List.of(), List.of()), 8L));
+
+        mockMvc.perform(get("/api/projects/{id}", projectId).header("If-None-Match", "\"6\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"8\""));
+    }
+
+    @Test
+    void get_withCurrentEtag_returnsNotModifiedWithoutLoadingTheProject() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        when(projectService.getVersion(projectId)).thenReturn(7L);
+
+        mockMvc.perform(get("/api/projects/{id}", projectId).header("If-None-Match", "\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"7\""));
+        mockMvc.perform(get("/api/projects/{id}", projectId).param("view", "summary")
+                        .header("If-None-Match", "\"7\""))
+                .andExpect(status().isNotModified());
+
+        verify(projectService, never()).getVersioned(any());
+        verify(projectService, never()).getSummaryVersioned(any());
+    }
+
+    @Test
+    void get_withUnknownProjectAndEtag_returnsNotFound() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        when(projectService.getVersion(projectId)).thenThrow(new NotFoundException("Project not found"));
+
+        mockMvc.perform(get("/api/projects/{id}", projectId).header("If-None-Match", "\"7\""))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void get_withSummaryView_returnsCountsWithoutEmbeddedArrays() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        ProjectSummaryRes response = new ProjectSummaryRes(
+                projectId,
+                "Project",
+                "Description",
+                LocalDate.of(2024, 1, 15),
+                Instant.parse("2024-01-01T00:00:00Z"),
+                Instant.parse("2024-01-02T00:00:00Z"),
+                12, 5, 3, 7, 0, 40
+        );
+        when(projectService.getSummaryVersioned(projectId)).thenReturn(new Versioned<>(response, 3L));
+
+        mockMvc.perform(get("/api/projects/{id}", projectId).param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(projectId.toString()))
+                .andExpect(jsonPath("$.startDate").value("15-01-2024"))
+                .andExpect(jsonPath("$.taskCount").value(12))
+                .andExpect(jsonPath("$.activityCount").value(5))
+                .andExpect(jsonPath("$.tagCount").value(3))
+                .andExpect(jsonPath("$.noteCount").value(7))
+                .andExpect(jsonPath("$.minStartDay").value(0))
+                .andExpect(jsonPath("$.maxEndDay").value(40))
+                .andExpect(jsonPath("$.tasks").doesNotExist())
+                .andExpect(jsonPath("$.tags").doesNotExist());
+
+        verify(projectService, never()).getVersioned(any());
     }
 
     @Test
@@ -172,4 +292,111 @@ class ProjectControllerTest {
 
         verify(projectService, times(1)).delete(projectId);
     }
+
+    @Test
+    void deleteAsync_marksProjectAndReturnsAccepted() throws Exception {
+        UUID projectId = UUID.randomUUID();
+
+        mockMvc.perform(delete("/api/projects/{id}", projectId).param("mode", "async"))
+                .andExpect(status().isAccepted());
+
+        verify(projectPurgeService).markDeleted(projectId);
+        verify(projectService, never()).delete(any());
+    }
+
+    @Test
+    void deleteAsync_whenProjectMissing_returnsNotFound() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        doThrow(new NotFoundException("Project not found")).when(projectPurgeService).markDeleted(projectId);
+
+        mockMvc.perform(delete("/api/projects/{id}", projectId).param("mode", "async"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void changes_withUnknownProject_returnsNotFoundBeforeStreaming() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        when(changeSyncService.findChanges(projectId, null, 500))
+                .thenThrow(new NotFoundException("Project not found"));
+
+        mockMvc.perform(get("/api/projects/{id}/changes", projectId))
+                .andExpect(status().isNotFound());
+        verify(changeSyncService, never()).writeChanges(any(), any());
+    }
+
+    @Test
+    void streamEvents_atSubscriberLimit_returnsServiceUnavailable() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        when(projectEventService.subscribe(projectId))
+                .thenThrow(new ServiceUnavailableException("Too many event streams on this node, retry later"));
+
+        mockMvc.perform(get("/api/projects/{id}/events", projectId))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void export_atExportLimit_returnsServiceUnavailable() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        when(projectExportService.reserveExport(projectId))
+                .thenThrow(new ServiceUnavailableException("Too many exports running on this node, retry later"));
+
+        mockMvc.perform(get("/api/projects/{id}/export", projectId))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void importAsync_returnsAcceptedJob() throws Exception {
+        UUID sourceId = UUID.randomUUID();
+        ProjectImportReq request = new ProjectImportReq(sourceId, "Copy", null, true, true, true, true);
+        ImportJobRes job = new ImportJobRes(UUID.randomUUID(), ImportJobStatus.QUEUED, sourceId, "Copy", null,
+                0, 0, 0, 0, null, Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-01T00:00:00Z"),
+                null, null);
+        when(importJobService.submit(request)).thenReturn(job);
+
+        mockMvc.perform(post("/api/projects/import")
+                        .param("mode", "async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(job.id().toString()))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        verify(projectService, never()).importProject(any());
+    }
+
+    @Test
+    void getImportJob_returnsJobProgress() throws Exception {
+        UUID jobId = UUID.randomUUID();
+        ImportJobRes job = new ImportJobRes(jobId, ImportJobStatus.RUNNING, UUID.randomUUID(), "Copy", null,
+                12, 3, 0, 0, null, Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-01T00:00:05Z"),
+                Instant.parse("2024-01-01T00:00:01Z"), null);
+        when(importJobService.get(jobId)).thenReturn(job);
+
+        mockMvc.perform(get("/api/projects/import/jobs/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.importedTasksCount").value(12))
+                .andExpect(jsonPath("$.importedNotesCount").value(3));
+    }
+
+    @Test
+    void search_returnsMergedHits() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        ProjectSearchRes res = new ProjectSearchRes(
+                List.of(new SearchHitRes(SearchHitType.ACTION, UUID.randomUUID(), taskId, "Design", "Send review notes", 0.4)),
+                0, 20, false);
+        when(projectSearchService.search(any(), any(), any())).thenReturn(res);
+
+        mockMvc.perform(get("/api/projects/{projectId}/search", projectId).param("q", "review"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].type").value("ACTION"))
+                .andExpect(jsonPath("$.content[0].taskId").value(taskId.toString()))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(projectSearchService).search(eq(projectId),
+                eq("review"), pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(20);
+    }
 }
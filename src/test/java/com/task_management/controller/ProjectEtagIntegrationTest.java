@@ -0,0 +1,175 @@
+package com.task_management.controller;
+
+import static com.task_management.TestData.BASE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.task_management.TestData;
+import com.task_management.dto.ActionBulkCreateReq;
+import com.task_management.dto.ActionCreateReq;
+import com.task_management.dto.ActionUpdateReq;
+import com.task_management.dto.NoteCreateReq;
+import com.task_management.dto.NoteUpdateReq;
+import com.task_management.dto.ProjectCreateReq;
+import com.task_management.dto.ProjectUpdateReq;
+import com.task_management.dto.TagCreateReq;
+import com.task_management.dto.TagUpdateReq;
+import com.task_management.dto.TaskCreateReq;
+import com.task_management.dto.TaskUpdateReq;
+import com.task_management.service.ActionService;
+import com.task_management.service.NoteService;
+import com.task_management.service.ProjectService;
+import com.task_management.service.TagService;
+import com.task_management.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Conditional GETs against the real persistence stack: a current ETag gets a 304 from the version lookup alone,
+ * and every write under the project moves the version on.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectEtagIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private ActionService actionService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        projectId = projectService.create(
+                new ProjectCreateReq("Etag " + UUID.randomUUID(), null, TestData.START)).id();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestData.deleteProject(jdbc, projectId);
+    }
+
+    @Test
+    void currentEtag_isAnsweredWithNotModifiedFromOneStatement() throws Exception {
+        taskService.create(taskReq("Seed"));
+        String etag = mockMvc.perform(get("/api/projects/{id}", projectId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        Statistics statistics = TestData.statistics(entityManagerFactory);
+        statistics.clear();
+
+        mockMvc.perform(get("/api/projects/{id}", projectId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/tasks").param("projectId", projectId.toString()).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // The version is read over plain JDBC; Hibernate prepares nothing and loads nothing
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void staleEtag_getsTheNewBodyAndTag() throws Exception {
+        String etag = mockMvc.perform(get("/api/projects/{id}", projectId))
+                .andReturn().getResponse().getHeader("ETag");
+
+        taskService.create(taskReq("New"));
+
+        String next = mockMvc.perform(get("/api/projects/{id}", projectId).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(next).isNotEqualTo(etag)
+                .isEqualTo("\"" + projectService.getVersion(projectId) + "\"");
+    }
+
+    @Test
+    void taskLists_areTaggedWithTheVersionTheyWereReadAt() throws Exception {
+        taskService.create(taskReq("Listed"));
+        String current = "\"" + projectService.getVersion(projectId) + "\"";
+
+        mockMvc.perform(get("/api/tasks").param("projectId", projectId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", current));
+        mockMvc.perform(get("/api/tasks").param("projectId", projectId.toString()).param("paging", "cursor"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", current));
+    }
+
+    @Test
+    void everyWriteUnderTheProject_bumpsTheVersion() {
+        var task = taskService.create(taskReq("Task"));
+        var spare = taskService.create(taskReq("Spare"));
+        long version = projectService.getVersion(projectId);
+
+        taskService.update(task.id(), new TaskUpdateReq("Renamed", null, null, null, null, null, null));
+        version = assertBumped(version);
+        var tag = tagService.create(new TagCreateReq(projectId, "Tag", null, false, 60, BASE, BASE.plusSeconds(3600),
+                null));
+        version = assertBumped(version);
+        tagService.update(tag.id(), new TagUpdateReq(null, "Described", null, null, null, null, null));
+        version = assertBumped(version);
+        var note = noteService.create(new NoteCreateReq(null, task.id(), "On the task"));
+        version = assertBumped(version);
+        noteService.update(note.id(), new NoteUpdateReq("Edited"));
+        version = assertBumped(version);
+        noteService.delete(note.id());
+        version = assertBumped(version);
+        var action = actionService.create(new ActionCreateReq(task.id(), "Call", 1));
+        version = assertBumped(version);
+        actionService.createBulk(new ActionBulkCreateReq(task.id(), null, "Daily", 1, 3));
+        version = assertBumped(version);
+        actionService.update(action.id(), new ActionUpdateReq("Call back", null));
+        version = assertBumped(version);
+        actionService.delete(action.id());
+        version = assertBumped(version);
+        tagService.delete(tag.id());
+        version = assertBumped(version);
+        taskService.delete(spare.id());
+        version = assertBumped(version);
+        projectService.update(projectId, new ProjectUpdateReq(null, "Changed", null));
+        assertBumped(version);
+    }
+
+    private long assertBumped(long previous) {
+        long current = projectService.getVersion(projectId);
+        assertThat(current).isGreaterThan(previous);
+        return current;
+    }
+
+    private TaskCreateReq taskReq(String title) {
+        return new TaskCreateReq(projectId, title, null, false, 60, BASE, BASE.plusSeconds(3600), null);
+    }
+}
@@ -0,0 +1,156 @@
+package com.task_management.controller;
+
+import static com.task_management.TestData.BASE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.task_management.TestData;
+import com.task_management.dto.ActionBulkCreateReq;
+import com.task_management.dto.ProjectCreateReq;
+import com.task_management.dto.TaskCreateReq;
+import com.task_management.dto.TaskUpdateReq;
+import com.task_management.service.ActionService;
+import com.task_management.service.ProjectService;
+import com.task_management.service.TaskService;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Project event streams against the real write paths: committed writes reach the project's streams, rolled back
+ * ones and other projects' writes never do. H2 has no NOTIFY, so this covers the single-node after-commit path;
+ * {@link ProjectEventStreamPostgresTest} runs the same cases through {@code pg_notify} and the listener.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectEventStreamIntegrationTest {
+
+    private static final long WAIT_MS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ActionService actionService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private UUID projectId;
+    private UUID otherProjectId;
+
+    @BeforeEach
+    void setUp() {
+        projectId = createProject();
+        otherProjectId = createProject();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (UUID id : new UUID[]{projectId, otherProjectId}) {
+            TestData.deleteProject(jdbc, id);
+        }
+    }
+
+    @Test
+    void committedWrites_arePushedInOrder() throws Exception {
+        MockHttpServletResponse stream = open(projectId);
+
+        var task = taskService.create(taskReq(projectId, "Task"));
+        taskService.update(task.id(), new TaskUpdateReq("Renamed", null, null, null, null, null, null));
+        taskService.delete(task.id());
+
+        String body = awaitContent(stream, "\"DELETED\"");
+        String created = "\"id\":\"" + task.id() + "\",\"operation\":\"CREATED\"";
+        String updated = "\"id\":\"" + task.id() + "\",\"operation\":\"UPDATED\"";
+        String deleted = "\"id\":\"" + task.id() + "\",\"operation\":\"DELETED\"";
+        assertThat(body).contains("event:change", created, updated, deleted);
+        assertThat(body.indexOf(created)).isLessThan(body.indexOf(updated));
+        assertThat(body.indexOf(updated)).isLessThan(body.indexOf(deleted));
+    }
+
+    @Test
+    void rolledBackAndForeignWrites_areNotPushed() throws Exception {
+        MockHttpServletResponse stream = open(projectId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            taskService.create(taskReq(projectId, "Rolled back"));
+            status.setRollbackOnly();
+        });
+        var foreign = taskService.create(taskReq(otherProjectId, "Elsewhere"));
+        var committed = taskService.create(taskReq(projectId, "Committed"));
+
+        String body = awaitContent(stream, committed.id().toString());
+        assertThat(body).doesNotContain(foreign.id().toString());
+        assertThat(body.split("event:change", -1)).hasSize(2);
+    }
+
+    @Test
+    void bulkWrite_isPushedAsOneEvent() throws Exception {
+        // More rows than a stream buffers, which per-row events would turn into an overflow and a closed stream
+        var task = taskService.create(new TaskCreateReq(projectId, "Long", null, true, 60, BASE,
+                BASE.plusSeconds(400 * 86_400L), null));
+        MockHttpServletResponse stream = open(projectId);
+
+        actionService.createBulk(new ActionBulkCreateReq(task.id(), null, "Daily", 1, 400));
+        var marker = taskService.create(taskReq(projectId, "After"));
+
+        String body = awaitContent(stream, marker.id().toString());
+        assertThat(body).doesNotContain("event:resync");
+        assertThat(body.split("\"operation\":\"BULK\"", -1)).hasSize(2);
+        assertThat(body.split("event:change", -1)).hasSize(3);
+    }
+
+    @Test
+    void unknownProject_returnsNotFound() throws Exception {
+        mockMvc.perform(get("/api/projects/{id}/events", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private MockHttpServletResponse open(UUID id) throws Exception {
+        return mockMvc.perform(get("/api/projects/{id}/events", id))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+    }
+
+    private static String awaitContent(MockHttpServletResponse stream, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        String body = stream.getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = stream.getContentAsString();
+        }
+        assertThat(body).contains(expected);
+        return body;
+    }
+
+    private UUID createProject() {
+        return projectService.create(
+                new ProjectCreateReq("Events " + UUID.randomUUID(), null, TestData.START)).id();
+    }
+
+    private static TaskCreateReq taskReq(UUID projectId, String title) {
+        return new TaskCreateReq(projectId, title, null, false, 60, BASE, BASE.plusSeconds(3600), null);
+    }
+}
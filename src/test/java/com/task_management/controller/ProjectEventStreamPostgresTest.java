@@ -0,0 +1,45 @@
+package com.task_management.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.task_management.PostgresTestContainer;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs the {@link ProjectEventStreamIntegrationTest} cases against PostgreSQL, where events leave the write
+ * transaction as {@code pg_notify} in {@code beforeCommit} and reach the streams only through the node's
+ * {@code LISTEN} connection, so a rolled back write must never be heard at all.
+ */
+@ActiveProfiles(value = "postgres-test", inheritProfiles = false)
+class ProjectEventStreamPostgresTest extends ProjectEventStreamIntegrationTest implements PostgresTestContainer {
+
+    private static final long LISTEN_WAIT_MS = 10_000;
+    private static volatile boolean listenerSeen;
+
+    @Autowired
+    private JdbcTemplate listenerProbe;
+
+    // The listener subscribes on its own thread after startup; a notification sent before that is lost for good
+    @BeforeEach
+    void awaitListener() throws InterruptedException {
+        if (listenerSeen) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + LISTEN_WAIT_MS;
+        while (!listening() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(listening()).as("event listener connected").isTrue();
+        listenerSeen = true;
+    }
+
+    // Checked once: the listener's last statement stays LISTEN only until its first idle validation
+    private boolean listening() {
+        Integer sessions = listenerProbe.queryForObject(
+                "SELECT count(*) FROM pg_stat_activity WHERE query = 'LISTEN project_events'", Integer.class);
+        return sessions != null && sessions > 0;
+    }
+}
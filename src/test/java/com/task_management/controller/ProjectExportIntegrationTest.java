@@ -0,0 +1,216 @@
+package com.task_management.controller;
+
+import static com.task_management.TestData.BASE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task_management.TestData;
+import com.task_management.dto.ActionCreateReq;
+import com.task_management.dto.ExportFormat;
+import com.task_management.dto.NoteCreateReq;
+import com.task_management.dto.ProjectCreateReq;
+import com.task_management.dto.TagCreateReq;
+import com.task_management.dto.TaskCreateReq;
+import com.task_management.exception.NotFoundException;
+import com.task_management.service.ActionService;
+import com.task_management.service.NoteService;
+import com.task_management.service.ProjectExportService;
+import com.task_management.service.ProjectService;
+import com.task_management.service.TagService;
+import com.task_management.service.TaskService;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Project export end to end, with a fetch size smaller than the project so every section spans several fetches,
+ * and a single export slot.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {"app.export.fetch-size=2", "app.export.max-concurrent=1"})
+class ProjectExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private ActionService actionService;
+
+    @Autowired
+    private ProjectExportService projectExportService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private UUID projectId;
+
+    @BeforeEach
+    void setUp() {
+        projectId = projectService.create(
+                new ProjectCreateReq("Export " + UUID.randomUUID(), "All of it", TestData.START)).id();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestData.deleteProject(jdbc, projectId);
+    }
+
+    @Test
+    void ndjson_hasOneLinePerEntity() throws Exception {
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            taskIds.add(taskService.create(taskReq("Task " + i)).id().toString());
+        }
+        UUID taskId = UUID.fromString(taskIds.get(0));
+        var tag = tagService.create(new TagCreateReq(projectId, "Tag", null, true, 30, BASE, BASE.plusSeconds(1800),
+                "#ff0000"));
+        var taskNote = noteService.create(new NoteCreateReq(null, taskId, "On the task"));
+        var projectNote = noteService.create(new NoteCreateReq(projectId, null, "On the project"));
+        var action = actionService.create(new ActionCreateReq(taskId, "Call", 2));
+
+        MockHttpServletResponse response = export("ndjson", false);
+
+        assertThat(response.getContentType()).startsWith("application/x-ndjson");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION))
+                .contains("project-" + projectId + ".ndjson");
+        Map<String, JsonNode> rows = new HashMap<>();
+        for (String line : response.getContentAsString().split("\n")) {
+            JsonNode row = objectMapper.readTree(line);
+            rows.put(row.get("id").asText(), row);
+        }
+        assertThat(rows.keySet()).hasSize(10).containsAll(taskIds);
+        assertThat(rows.get(projectId.toString()).get("type").asText()).isEqualTo("project");
+        assertThat(rows.get(projectId.toString()).get("startDate").asText()).isEqualTo("2024-01-01");
+        JsonNode task = rows.get(taskId.toString());
+        assertThat(task.get("title").asText()).isEqualTo("Task 0");
+        assertThat(task.get("startAt").asText()).isEqualTo(BASE.toString());
+        assertThat(task.has("color")).isFalse();
+        JsonNode tagRow = rows.get(tag.id().toString());
+        assertThat(tagRow.get("type").asText()).isEqualTo("tag");
+        assertThat(tagRow.get("activity").asBoolean()).isTrue();
+        assertThat(tagRow.get("color").asText()).isEqualTo("#ff0000");
+        assertThat(rows.get(taskNote.id().toString()).get("taskId").asText()).isEqualTo(taskId.toString());
+        assertThat(rows.get(projectNote.id().toString()).get("body").asText()).isEqualTo("On the project");
+        JsonNode actionRow = rows.get(action.id().toString());
+        assertThat(actionRow.get("type").asText()).isEqualTo("action");
+        assertThat(actionRow.get("day").asInt()).isEqualTo(2);
+        assertThat(actionRow.get("projectId").asText()).isEqualTo(projectId.toString());
+    }
+
+    @Test
+    void csv_gzipped_hasHeaderAndOneRowPerEntity() throws Exception {
+        var task = taskService.create(taskReq("Task, with comma"));
+        noteService.create(new NoteCreateReq(null, task.id(), "Note"));
+
+        MockHttpServletResponse response = export("csv", true);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getContentType()).startsWith("text/csv");
+        String body;
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("type,id,projectId,taskId,name,title,").endsWith(",createdAt,updatedAt");
+        assertThat(lines[1]).startsWith("project," + projectId + ",,,Export ");
+        assertThat(lines[2]).startsWith("task," + task.id() + "," + projectId + ",,,\"Task, with comma\",");
+        assertThat(lines[3]).startsWith("note,").contains(",Note,");
+    }
+
+    @Test
+    void unknownFormat_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/projects/{id}/export", projectId).param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unknownProject_returnsNotFound() throws Exception {
+        mockMvc.perform(get("/api/projects/{id}/export", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void exportLimitReached_returnsServiceUnavailableUntilASlotFrees() throws Exception {
+        try (var running = projectExportService.reserveExport(projectId)) {
+            mockMvc.perform(get("/api/projects/{id}/export", projectId))
+                    .andExpect(status().isServiceUnavailable());
+        }
+
+        export("ndjson", false);
+        export("csv", true);
+    }
+
+    @Test
+    void projectDeletedAfterReservation_failsBeforeAnythingIsWritten() {
+        try (var reserved = projectExportService.reserveExport(projectId)) {
+            jdbc.update("UPDATE project SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?", projectId);
+
+            assertThatExceptionOfType(NotFoundException.class)
+                    .isThrownBy(() -> projectExportService.writeExport(projectId, ExportFormat.NDJSON, () -> {
+                        throw new AssertionError("output opened for a deleted project");
+                    }));
+        }
+    }
+
+    private MockHttpServletResponse export(String format, boolean gzip) throws Exception {
+        var get = get("/api/projects/{id}/export", projectId).param("format", format);
+        if (gzip) {
+            get.header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        }
+        MvcResult started = mockMvc.perform(get)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn().getResponse();
+    }
+
+    private TaskCreateReq taskReq(String title) {
+        return new TaskCreateReq(projectId, title, null, false, 60, BASE, BASE.plusSeconds(3600), null);
+    }
+}
@@ -2,7 +2,9 @@ package com.task_management.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -16,7 +18,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.task_management.dto.TagCreateReq;
 import com.task_management.dto.TagRes;
 import com.task_management.dto.TagUpdateReq;
+import com.task_management.dto.TitleSuggestionRes;
+import com.task_management.repository.TitleSuggestionRepository;
 import com.task_management.service.TagService;
+import com.task_management.service.TitleAutocompleteService;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -44,6 +49,9 @@ class TagControllerTest {
     @MockBean
     private TagService tagService;
 
+    @MockBean
+    private TitleAutocompleteService titleAutocompleteService;
+
     @Test
     void create_returnsCreatedTag() throws Exception {
         UUID projectId = UUID.randomUUID();
@@ -160,6 +168,37 @@ class TagControllerTest {
         assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(20);
     }
 
+    @Test
+    void listByProject_withQuery_searches() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        Page<TagRes> page = new PageImpl<>(List.of(), PageRequest.of(0, 20), 0);
+        when(tagService.searchInProject(any(), any(), any())).thenReturn(page);
+
+        mockMvc.perform(get("/api/tags")
+                        .param("projectId", projectId.toString())
+                        .param("q", "review"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty());
+
+        verify(tagService).searchInProject(eq(projectId), eq("review"), any());
+        verify(tagService, never()).listInProject(any(), any());
+    }
+
+    @Test
+    void autocomplete_returnsSuggestions() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID id = UUID.randomUUID();
+        when(titleAutocompleteService.suggest(TitleSuggestionRepository.Source.TAG, projectId, "des", 10))
+                .thenReturn(List.of(new TitleSuggestionRes(id, "Design review")));
+
+        mockMvc.perform(get("/api/tags/autocomplete")
+                        .param("projectId", projectId.toString())
+                        .param("q", "des"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(id.toString()))
+                .andExpect(jsonPath("$[0].title").value("Design review"));
+    }
+
     @Test
     void update_returnsUpdatedTag() throws Exception {
         UUID tagId = UUID.randomUUID();
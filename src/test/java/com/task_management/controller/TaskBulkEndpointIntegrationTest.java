@@ -0,0 +1,166 @@
+package com.task_management.controller;
+
+import static com.task_management.TestData.BASE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task_management.TestData;
+import com.task_management.dto.BulkOperation;
+import com.task_management.dto.TaskBulkItemReq;
+import com.task_management.dto.TaskBulkReq;
+import com.task_management.entity.Project;
+import com.task_management.entity.Task;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Runs {@code POST /api/tasks/bulk} against the real persistence stack. The project is read once, the touched
+ * tasks with one select, inserts and updates leave in JDBC batches of 50 and the deletes as one statement.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskBulkEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectRepository projects;
+
+    @Autowired
+    private TaskRepository tasks;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Statistics statistics;
+    private Project project;
+    private List<Task> seeded;
+
+    @BeforeEach
+    void setUp() {
+        statistics = TestData.statistics(entityManagerFactory);
+        project = projects.save(TestData.project("Bulk").build());
+        List<Task> seeds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            seeds.add(TestData.task(project).title("Seed " + i).build());
+        }
+        seeded = tasks.saveAll(seeds);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestData.deleteProject(jdbc, project.getId());
+    }
+
+    @Test
+    void bulk_batchesInsertsAndUpdatesAndDeletesInOneStatement() throws Exception {
+        List<TaskBulkItemReq> items = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            items.add(create("New " + i));
+        }
+        for (int i = 0; i < 10; i++) {
+            items.add(new TaskBulkItemReq(BulkOperation.UPDATE, seeded.get(i).getId(), "Renamed " + i,
+                    null, null, null, null, BASE.plusSeconds(86_400), null));
+        }
+        for (int i = 10; i < 15; i++) {
+            items.add(new TaskBulkItemReq(BulkOperation.DELETE, seeded.get(i).getId(),
+                    null, null, null, null, null, null, null));
+        }
+
+        statistics.clear();
+        mockMvc.perform(post("/api/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskBulkReq(project.getId(), items))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(135))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[120].status").value(200))
+                .andExpect(jsonPath("$.results[120].task.endDay").value(1))
+                .andExpect(jsonPath("$.results[130].status").value(204));
+
+        // project, touched tasks, one batched insert, one batched update, one delete
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(countTasks()).isEqualTo(20 + 120 - 5);
+        assertThat(tasks.findById(seeded.get(0).getId()).orElseThrow().getTitle()).isEqualTo("Renamed 0");
+    }
+
+    @Test
+    void bulk_reportsFailuresPerItemWithoutRollingBackTheRest() throws Exception {
+        UUID foreign = UUID.randomUUID();
+        UUID deleted = seeded.get(0).getId();
+        List<TaskBulkItemReq> items = List.of(
+                create("Kept"),
+                new TaskBulkItemReq(BulkOperation.CREATE, null, "Backwards", null, null, 60,
+                        BASE.plusSeconds(86_400), BASE, null),
+                new TaskBulkItemReq(BulkOperation.UPDATE, foreign, "Nope", null, null, null, null, null, null),
+                new TaskBulkItemReq(BulkOperation.DELETE, deleted, null, null, null, null, null, null, null),
+                new TaskBulkItemReq(BulkOperation.UPDATE, deleted, "Gone", null, null, null, null, null, null),
+                new TaskBulkItemReq(BulkOperation.UPDATE, seeded.get(1).getId(), "Bad", null, null, null,
+                        BASE.plusSeconds(86_400), BASE, null));
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskBulkReq(project.getId(), items))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(4))
+                .andExpect(jsonPath("$.results[1].status").value(400))
+                .andExpect(jsonPath("$.results[1].error").value("endAt cannot be before startAt"))
+                .andExpect(jsonPath("$.results[2].status").value(404))
+                .andExpect(jsonPath("$.results[3].status").value(204))
+                .andExpect(jsonPath("$.results[4].status").value(404))
+                .andExpect(jsonPath("$.results[5].status").value(400));
+
+        // The rejected update left the seeded task untouched
+        Task untouched = tasks.findById(seeded.get(1).getId()).orElseThrow();
+        assertThat(untouched.getTitle()).isEqualTo("Seed 1");
+        assertThat(untouched.getStartAt()).isEqualTo(BASE);
+        assertThat(countTasks()).isEqualTo(20);
+    }
+
+    @Test
+    void bulk_unknownProjectIsNotFound() throws Exception {
+        mockMvc.perform(post("/api/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new TaskBulkReq(UUID.randomUUID(), List.of(create("Orphan"))))))
+                .andExpect(status().isNotFound());
+    }
+
+    private int countTasks() {
+        return jdbc.queryForObject("SELECT count(*) FROM task WHERE project_id = ?", Integer.class, project.getId());
+    }
+
+    private static TaskBulkItemReq create(String title) {
+        return new TaskBulkItemReq(BulkOperation.CREATE, null, title, null, false, 60,
+                BASE, BASE.plusSeconds(3_600), null);
+    }
+}
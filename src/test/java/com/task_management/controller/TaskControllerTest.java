@@ -2,21 +2,36 @@ package com.task_management.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task_management.dto.BulkOperation;
+import com.task_management.dto.CursorPageRes;
+import com.task_management.dto.TaskBulkItemReq;
+import com.task_management.dto.TaskBulkItemRes;
+import com.task_management.dto.TaskBulkReq;
+import com.task_management.dto.TaskBulkRes;
 import com.task_management.dto.TaskCreateReq;
 import com.task_management.dto.TaskRes;
 import com.task_management.dto.TaskUpdateReq;
+import com.task_management.dto.TitleSuggestionRes;
+import com.task_management.repository.TitleSuggestionRepository;
+import com.task_management.service.ProjectService;
 import com.task_management.service.TaskService;
+import com.task_management.service.TitleAutocompleteService;
+import com.task_management.service.Versioned;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -44,6 +59,12 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private ProjectService projectService;
+
+    @MockBean
+    private TitleAutocompleteService titleAutocompleteService;
+
     @Test
     void create_returnsCreatedTask() throws Exception {
         UUID projectId = UUID.randomUUID();
@@ -141,10 +162,11 @@ class TaskControllerTest {
         );
         Pageable pageable = PageRequest.of(0, 20);
         Page<TaskRes> page = new PageImpl<>(List.of(response), pageable, 1);
-        when(taskService.listInProject(any(), any())).thenReturn(page);
+        when(taskService.listInProjectVersioned(any(), any(), any())).thenReturn(new Versioned<>(page, 4L));
 
         mockMvc.perform(get("/api/tasks").param("projectId", projectId.toString()))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
                 .andExpect(jsonPath("$.content[0].projectId").value(projectId.toString()))
                 .andExpect(jsonPath("$.content[0].isActivity").value(false))
                 .andExpect(jsonPath("$.content[0].startAt").value(response.startAt().toString()))
@@ -155,11 +177,79 @@ class TaskControllerTest {
 
         ArgumentCaptor<UUID> idCaptor = ArgumentCaptor.forClass(UUID.class);
         ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
-        verify(taskService).listInProject(idCaptor.capture(), pageableCaptor.capture());
+        verify(taskService).listInProjectVersioned(idCaptor.capture(), isNull(), pageableCaptor.capture());
         assertThat(idCaptor.getValue()).isEqualTo(projectId);
         assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(20);
     }
 
+    @Test
+    void listByProject_withQuery_searches() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        Page<TaskRes> page = new PageImpl<>(List.of(), PageRequest.of(0, 20), 0);
+        when(taskService.listInProjectVersioned(any(), any(), any())).thenReturn(new Versioned<>(page, 1L));
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("projectId", projectId.toString())
+                        .param("q", "review"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty());
+
+        verify(taskService).listInProjectVersioned(eq(projectId), eq("review"), any());
+    }
+
+    @Test
+    void autocomplete_returnsSuggestions() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID id = UUID.randomUUID();
+        when(titleAutocompleteService.suggest(TitleSuggestionRepository.Source.TASK, projectId, "des", 10))
+                .thenReturn(List.of(new TitleSuggestionRes(id, "Design review")));
+
+        mockMvc.perform(get("/api/tasks/autocomplete")
+                        .param("projectId", projectId.toString())
+                        .param("q", "des"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(id.toString()))
+                .andExpect(jsonPath("$[0].title").value("Design review"));
+    }
+
+    @Test
+    void listByProject_withCursorPaging_returnsCursorPage() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        when(taskService.listInProjectByCursorVersioned(projectId, "abc", 5))
+                .thenReturn(new Versioned<>(new CursorPageRes<>(List.of(), 5, "next"), 2L));
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("projectId", projectId.toString())
+                        .param("paging", "cursor")
+                        .param("cursor", "abc")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.size").value(5))
+                .andExpect(header().string("ETag", "\"2\""));
+
+        verify(taskService, never()).listInProjectVersioned(any(), any(), any());
+    }
+
+    @Test
+    void listByProject_withCurrentEtag_returnsNotModifiedWithoutQueryingTasks() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        when(projectService.getVersion(projectId)).thenReturn(3L);
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("projectId", projectId.toString())
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/tasks")
+                        .param("projectId", projectId.toString())
+                        .param("paging", "cursor")
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified());
+
+        verify(taskService, never()).listInProjectVersioned(any(), any(), any());
+        verify(taskService, never()).listInProjectByCursorVersioned(any(), any(), eq(20));
+    }
+
     @Test
     void update_returnsUpdatedTask() throws Exception {
         UUID taskId = UUID.randomUUID();
@@ -214,4 +304,33 @@ class TaskControllerTest {
 
         verify(taskService, times(1)).delete(taskId);
     }
+
+    @Test
+    void bulk_returnsPerItemResults() throws Exception {
+        UUID projectId = UUID.randomUUID();
+        UUID taskId = UUID.randomUUID();
+        TaskBulkReq request = new TaskBulkReq(projectId, List.of(
+                new TaskBulkItemReq(BulkOperation.DELETE, taskId, null, null, null, null, null, null, null)));
+        when(taskService.bulk(any())).thenReturn(new TaskBulkRes(
+                List.of(new TaskBulkItemRes(0, BulkOperation.DELETE, taskId, 204, null, null)), 1, 0));
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].op").value("DELETE"))
+                .andExpect(jsonPath("$.results[0].status").value(204))
+                .andExpect(jsonPath("$.results[0].error").doesNotExist())
+                .andExpect(jsonPath("$.succeeded").value(1));
+    }
+
+    @Test
+    void bulk_withoutItems_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskBulkReq(UUID.randomUUID(), List.of()))))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).bulk(any());
+    }
 }
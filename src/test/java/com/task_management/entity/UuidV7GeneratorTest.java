@@ -0,0 +1,39 @@
+package com.task_management.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void next_isVersion7WithRfcVariant() {
+        UUID id = UuidV7Generator.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void next_carriesTheCurrentUnixMillis() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7Generator.next();
+        long after = System.currentTimeMillis();
+
+        // A burst may borrow a few milliseconds ahead, never fall behind
+        assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, after + 10);
+    }
+
+    @Test
+    void next_isStrictlyIncreasingWithinAndAcrossMilliseconds() {
+        UUID previous = UuidV7Generator.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = UuidV7Generator.next();
+            // Unsigned comparison of the time-ordered high bits, which is how databases sort uuid columns
+            assertThat(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            previous = current;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.task_management.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.task_management.repository.TableStatisticsRepository;
+import com.task_management.repository.TableStatisticsRepository.Table;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationHealthIndicatorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock
+    private TableStatisticsRepository tableStatistics;
+
+    private ApplicationHealthIndicator indicator;
+
+    @BeforeEach
+    void setUp() {
+        indicator = new ApplicationHealthIndicator(tableStatistics, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void health_beforeFirstRefresh_isUnknownWithoutQuerying() {
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UNKNOWN);
+        verifyNoInteractions(tableStatistics);
+    }
+
+    @Test
+    void health_reportsTheRefreshedSnapshot() {
+        when(tableStatistics.estimateRows(Table.PROJECT)).thenReturn(12L);
+        when(tableStatistics.estimateRows(Table.TASK)).thenReturn(3400L);
+
+        indicator.refresh();
+        Health first = indicator.health();
+        Health second = indicator.health();
+
+        assertThat(first.getStatus()).isEqualTo(Status.UP);
+        assertThat(first.getDetails())
+                .containsEntry("projects.count", 12L)
+                .containsEntry("tasks.count", 3400L)
+                .containsEntry("counts.refreshedAt", NOW.toString());
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void health_afterFailedRefresh_isDownAndKeepsTheLastCounts() {
+        when(tableStatistics.estimateRows(Table.PROJECT)).thenReturn(12L)
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        when(tableStatistics.estimateRows(Table.TASK)).thenReturn(3400L);
+
+        indicator.refresh();
+        indicator.refresh();
+        Health health = indicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("projects.count", 12L).containsKey("error");
+    }
+}
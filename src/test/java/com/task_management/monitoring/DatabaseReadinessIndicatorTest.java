@@ -0,0 +1,107 @@
+package com.task_management.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseReadinessIndicatorTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T10:00:00Z"));
+
+    private DatabaseReadinessIndicator indicator;
+
+    @BeforeEach
+    void setUp() {
+        indicator = new DatabaseReadinessIndicator(dataSource, 2, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    void health_beforeFirstCheck_isDownWithoutBorrowingAConnection() {
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.DOWN);
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    void check_validatesAndReleasesAPooledConnection() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(2)).thenReturn(true);
+
+        indicator.check();
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+        verify(connection).close();
+    }
+
+    @Test
+    void health_isDownWhenValidationFails() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        indicator.check();
+
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.DOWN);
+        assertThat(indicator.health().getDetails()).containsKey("error");
+    }
+
+    @Test
+    void health_isDownOnceTheLastCheckIsStale() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(2)).thenReturn(true);
+        indicator.check();
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.DOWN);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
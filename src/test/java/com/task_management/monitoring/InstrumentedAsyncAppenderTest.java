@@ -0,0 +1,136 @@
+package com.task_management.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InstrumentedAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final BlockingSink sink = new BlockingSink();
+    private final InstrumentedAsyncAppender async = new InstrumentedAsyncAppender();
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        sink.setContext(context);
+        sink.setName("SINK");
+        sink.start();
+        async.setContext(context);
+        async.setName("ASYNC_SINK");
+        // Drop discardable events once fewer than 2 of the 4 slots are free
+        async.setQueueSize(4);
+        async.setDiscardingThreshold(2);
+        async.addAppender(sink);
+        async.start();
+        logger = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        logger.detachAndStopAllAppenders();
+        logger.addAppender(async);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sink.release.countDown();
+        context.stop();
+    }
+
+    @Test
+    void nearlyFullQueue_dropsInfoButKeepsWarn() throws Exception {
+        fillQueueBehindBlockedWriter();
+
+        logger.info("dropped");
+        logger.warn("kept");
+        sink.release.countDown();
+        async.stop();
+
+        assertThat(sink.messages()).containsExactly("blocker", "a", "b", "c", "kept");
+        assertThat(async.getDroppedCount()).isEqualTo(1);
+        assertThat(async.getFlushedCount()).isEqualTo(5);
+    }
+
+    @Test
+    void discardableLevelDebug_keepsInfo() throws Exception {
+        async.setDiscardableLevel("DEBUG");
+        fillQueueBehindBlockedWriter();
+
+        logger.info("kept");
+        sink.release.countDown();
+        async.stop();
+
+        assertThat(sink.messages()).containsExactly("blocker", "a", "b", "c", "kept");
+        assertThat(async.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void discardableLevel_cannotIncludeWarn() {
+        async.setDiscardableLevel("ERROR");
+
+        assertThat(async.getDiscardableLevel()).isEqualTo("INFO");
+    }
+
+    @Test
+    void metrics_readTheAppendersOnTheRootLogger() throws Exception {
+        var registry = new SimpleMeterRegistry();
+        new AsyncLoggingMetrics(registry, context);
+
+        fillQueueBehindBlockedWriter();
+        logger.info("dropped");
+
+        assertThat(registry.get("task_management.logging.queue.depth").tag("appender", "ASYNC_SINK")
+                .gauge().value()).isEqualTo(3);
+        assertThat(registry.get("task_management.logging.dropped").tag("appender", "ASYNC_SINK")
+                .functionCounter().count()).isEqualTo(1);
+
+        sink.release.countDown();
+        async.stop();
+        var flush = registry.get("task_management.logging.flush").tag("appender", "ASYNC_SINK").functionTimer();
+        assertThat(flush.count()).isEqualTo(4);
+        // The blocker waited in the sink until the release above
+        assertThat(flush.totalTime(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    /** Parks the writer thread on a first event, then queues three INFO events behind it. */
+    private void fillQueueBehindBlockedWriter() throws InterruptedException {
+        logger.warn("blocker");
+        assertThat(sink.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        logger.info("a");
+        logger.info("b");
+        logger.info("c");
+        assertThat(async.getNumberOfElementsInQueue()).isEqualTo(3);
+    }
+
+    private static final class BlockingSink extends AppenderBase<ILoggingEvent> {
+
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            messages.add(event.getFormattedMessage());
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<String> messages() {
+            return messages;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.task_management.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.task_management.TestData;
+import com.task_management.dto.ProjectCreateReq;
+import com.task_management.exception.NotFoundException;
+import com.task_management.service.ProjectService;
+import com.task_management.service.impl.ProjectSearchServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ServiceOperationMetricsIntegrationTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private UUID projectId;
+
+    @AfterEach
+    void tearDown() {
+        if (projectId != null) {
+            TestData.deleteProject(jdbc, projectId);
+        }
+    }
+
+    @Test
+    void serviceCalls_areTimedByEntityOperationAndOutcome() {
+        long before = count("project", "create", "none");
+
+        projectId = projectService.create(
+                new ProjectCreateReq("Timed " + UUID.randomUUID(), null, TestData.START)).id();
+        assertThatExceptionOfType(NotFoundException.class).isThrownBy(() -> projectService.get(UUID.randomUUID()));
+
+        assertThat(count("project", "create", "none") - before).isEqualTo(1);
+        assertThat(count("project", "get", "NotFoundException")).isPositive();
+    }
+
+    @Test
+    void operationTimers_publishSloBuckets() {
+        projectService.list(PageRequest.of(0, 1));
+
+        Timer timer = meterRegistry.get(ServiceOperationMetrics.METRIC)
+                .tags("entity", "project", "operation", "list", "exception", "none")
+                .timer();
+        // The default SLO boundaries from application.properties
+        assertThat(Arrays.stream(timer.takeSnapshot().histogramCounts())
+                .mapToDouble(bucket -> bucket.bucket(TimeUnit.MILLISECONDS)))
+                .contains(50.0, 100.0, 250.0, 500.0, 1000.0, 2000.0);
+    }
+
+    @Test
+    void names_followTheServiceAndMethod() {
+        assertThat(ServiceOperationMetrics.entity(ProjectSearchServiceImpl.class))
+                .isEqualTo("project_search");
+        assertThat(ServiceOperationMetrics.snakeCase("createBulk")).isEqualTo("create_bulk");
+    }
+
+    private long count(String entity, String operation, String exception) {
+        Timer timer = meterRegistry.find(ServiceOperationMetrics.METRIC)
+                .tags("entity", entity, "operation", operation, "exception", exception)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
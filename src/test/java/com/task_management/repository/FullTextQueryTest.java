@@ -0,0 +1,29 @@
+package com.task_management.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class FullTextQueryTest {
+
+    @Test
+    void toPrefixQuery_requiresEveryWordAsPrefix() {
+        assertThat(FullTextQuery.toPrefixQuery("Sprint  Review")).isEqualTo("sprint:* & review:*");
+    }
+
+    @Test
+    void toPrefixQuery_dropsTsQueryOperators() {
+        assertThat(FullTextQuery.toPrefixQuery("a & !b | (c:*)")).isEqualTo("a:* & b:* & c:*");
+    }
+
+    @Test
+    void toPrefixQuery_keepsNonLatinWords() {
+        assertThat(FullTextQuery.toPrefixQuery("Réunion 2024")).isEqualTo("réunion:* & 2024:*");
+    }
+
+    @Test
+    void toPrefixQuery_withoutWords_returnsNull() {
+        assertThat(FullTextQuery.toPrefixQuery(" -- ")).isNull();
+        assertThat(FullTextQuery.toPrefixQuery(null)).isNull();
+    }
+}
@@ -0,0 +1,110 @@
+package com.task_management.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.task_management.entity.ImportJob;
+import com.task_management.entity.ImportJobStatus;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class ImportJobRepositoryIntegrationTest {
+
+    @Autowired
+    private ImportJobRepository jobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void lockNextQueued_returnsOldestQueuedJob() {
+        ImportJob older = save(ImportJobStatus.QUEUED, "Older");
+        save(ImportJobStatus.QUEUED, "Newer");
+        save(ImportJobStatus.RUNNING, "Running");
+        setCreatedAt(older, Instant.now().minus(1, ChronoUnit.HOURS));
+
+        assertThat(jobRepository.lockNextQueued())
+                .get()
+                .extracting(ImportJob::getNewProjectName)
+                .isEqualTo("Older");
+    }
+
+    @Test
+    void lockNextQueued_whenNothingQueued_returnsEmpty() {
+        save(ImportJobStatus.DONE, "Done");
+
+        assertThat(jobRepository.lockNextQueued()).isEmpty();
+    }
+
+    @Test
+    void failStale_failsOnlyRunningJobsPastCutoff() {
+        ImportJob stale = save(ImportJobStatus.RUNNING, "Stale");
+        ImportJob fresh = save(ImportJobStatus.RUNNING, "Fresh");
+        ImportJob queued = save(ImportJobStatus.QUEUED, "Queued");
+        Instant now = Instant.now();
+        entityManager.createQuery("update ImportJob j set j.updatedAt = :at where j.id in :ids")
+                .setParameter("at", now.minus(1, ChronoUnit.HOURS))
+                .setParameter("ids", List.of(stale.getId(), queued.getId()))
+                .executeUpdate();
+
+        int failed = jobRepository.failStale(now.minus(15, ChronoUnit.MINUTES), now, "gone");
+        entityManager.clear();
+
+        assertThat(failed).isEqualTo(1);
+        assertThat(statusOf(stale.getId())).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(statusOf(fresh.getId())).isEqualTo(ImportJobStatus.RUNNING);
+        assertThat(statusOf(queued.getId())).isEqualTo(ImportJobStatus.QUEUED);
+    }
+
+    @Test
+    void conditionalUpdates_leaveJobsFailedAsStaleUntouched() {
+        ImportJob running = save(ImportJobStatus.RUNNING, "Running");
+        ImportJob failed = save(ImportJobStatus.FAILED, "Failed");
+        Instant now = Instant.now();
+        UUID newProjectId = UUID.randomUUID();
+
+        assertThat(jobRepository.updateProgressIfRunning(running.getId(), 2, 1, 0, 0, now)).isEqualTo(1);
+        assertThat(jobRepository.updateProgressIfRunning(failed.getId(), 2, 1, 0, 0, now)).isZero();
+        assertThat(jobRepository.completeIfRunning(failed.getId(), newProjectId, 2, 1, 0, 0, "done", now)).isZero();
+        assertThat(jobRepository.completeIfRunning(running.getId(), newProjectId, 2, 1, 0, 0, "done", now))
+                .isEqualTo(1);
+        assertThat(jobRepository.failIfRunning(running.getId(), "late", now)).isZero();
+        entityManager.clear();
+
+        ImportJob done = jobRepository.findById(running.getId()).orElseThrow();
+        assertThat(done.getStatus()).isEqualTo(ImportJobStatus.DONE);
+        assertThat(done.getNewProjectId()).isEqualTo(newProjectId);
+        assertThat(done.getImportedTasksCount()).isEqualTo(2);
+        assertThat(done.getMessage()).isEqualTo("done");
+        ImportJob stillFailed = jobRepository.findById(failed.getId()).orElseThrow();
+        assertThat(stillFailed.getStatus()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(stillFailed.getNewProjectId()).isNull();
+    }
+
+    private ImportJob save(ImportJobStatus status, String name) {
+        return jobRepository.saveAndFlush(ImportJob.builder()
+                .status(status)
+                .sourceProjectId(UUID.randomUUID())
+                .newProjectName(name)
+                .build());
+    }
+
+    private void setCreatedAt(ImportJob job, Instant createdAt) {
+        entityManager.createNativeQuery("update import_job set created_at = ?1 where id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, job.getId())
+                .executeUpdate();
+    }
+
+    private ImportJobStatus statusOf(UUID id) {
+        return jobRepository.findById(id).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,180 @@
+package com.task_management.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.task_management.TestData;
+import com.task_management.dto.ProjectRes;
+import com.task_management.dto.ProjectSummaryRes;
+import com.task_management.dto.TagRes;
+import com.task_management.dto.TaskRes;
+import com.task_management.entity.Note;
+import com.task_management.entity.Project;
+import com.task_management.entity.Tag;
+import com.task_management.entity.Task;
+import com.task_management.mapper.ProjectMapperImpl;
+import com.task_management.mapper.TagMapperImpl;
+import com.task_management.mapper.TaskMapperImpl;
+import com.task_management.monitoring.ImportMetrics;
+import com.task_management.service.impl.ProjectImportEngine;
+import com.task_management.service.impl.ProjectServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.hibernate.HibernateException;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ProjectServiceImpl.class, ProjectImportEngine.class, ProjectVersionRepository.class, DatabasePlatform.class,
+        ProjectMapperImpl.class, TaskMapperImpl.class, TagMapperImpl.class, ImportMetrics.class, SimpleMeterRegistry.class})
+class ProjectRepositoryIntegrationTest {
+    @Autowired
+    private ProjectRepository projects;
+
+    @Autowired
+    private TaskRepository tasks;
+
+    @Autowired
+    private TagRepository tags;
+
+    @Autowired
+    private NoteRepository notes;
+
+    @Autowired
+    private ProjectServiceImpl projectService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Project oldest;
+    private Project middle;
+    private Project newest;
+
+    @BeforeEach
+    void setUp() {
+        oldest = saveProject("Oldest", Instant.parse("2024-01-01T00:00:00Z"), 3, 2);
+        middle = saveProject("Middle", Instant.parse("2024-02-01T00:00:00Z"), 2, 3);
+        newest = saveProject("Newest", Instant.parse("2024-03-01T00:00:00Z"), 1, 1);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findPageIdsPagesInSqlByCreatedAtDesc() {
+        Page<UUID> first = projects.findPageIds(PageRequest.of(0, 2));
+        Page<UUID> second = projects.findPageIds(PageRequest.of(1, 2));
+
+        assertThat(first.getContent()).containsExactly(newest.getId(), middle.getId());
+        assertThat(second.getContent()).containsExactly(oldest.getId());
+        assertThat(first.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void listLoadsChildrenForThePageWithFixedStatementCount() {
+        Statistics statistics = TestData.statistics(entityManager.getEntityManagerFactory());
+        statistics.clear();
+
+        Page<ProjectRes> page = projectService.list(PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).extracting(ProjectRes::name).containsExactly("Newest", "Middle");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent().get(0).tasks()).extracting(TaskRes::title).containsExactly("Newest task 0");
+        assertThat(page.getContent().get(1).tasks()).hasSize(2);
+        assertThat(page.getContent().get(1).tags()).extracting(TagRes::projectId).containsOnly(middle.getId());
+        assertThat(page.getContent().get(1).tags()).hasSize(3);
+        // id page + count + tasks fetch + tags fetch, independent of page size and child counts
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void findSummaryByIdComputesAggregatesInOneStatement() {
+        var firstTask = tasks.findByProjectId(oldest.getId()).get(0);
+        notes.save(Note.builder().project(projects.getReferenceById(oldest.getId())).body("project note").build());
+        notes.save(Note.builder().task(firstTask).body("task note").build());
+        notes.save(Note.builder().project(projects.getReferenceById(newest.getId())).body("other project").build());
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = TestData.statistics(entityManager.getEntityManagerFactory());
+        statistics.clear();
+
+        ProjectSummaryRes summary = projects.findSummaryById(oldest.getId()).orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(statements).isEqualTo(1);
+        assertThat(summary.name()).isEqualTo("Oldest");
+        assertThat(summary.taskCount()).isEqualTo(3);
+        assertThat(summary.activityCount()).isEqualTo(tasks.countActivities(oldest.getId())).isEqualTo(2);
+        assertThat(summary.tagCount()).isEqualTo(2);
+        assertThat(summary.noteCount()).isEqualTo(2);
+        assertThat(summary.minStartDay()).isEqualTo(0);
+        assertThat(summary.maxEndDay()).isEqualTo(3);
+    }
+
+    @Test
+    void findSummariesPagesWithoutLoadingChildren() {
+        Page<ProjectSummaryRes> page = projects.findSummaries(PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).extracting(ProjectSummaryRes::name).containsExactly("Newest", "Middle");
+        assertThat(page.getContent()).extracting(ProjectSummaryRes::taskCount).containsExactly(1L, 2L);
+        assertThat(page.getContent().get(0).minStartDay()).isEqualTo(0);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void pagingOverCollectionFetchIsRejected() {
+        // Guards against a return to @EntityGraph-backed paging, which Hibernate would apply in memory
+        assertThatThrownBy(() -> entityManager
+                .createQuery("select p from Project p left join fetch p.tasks", Project.class)
+                .setMaxResults(2)
+                .getResultList())
+                .isInstanceOf(HibernateException.class);
+    }
+
+    private Project saveProject(String name, Instant createdAt, int taskCount, int tagCount) {
+        var project = new Project();
+        project.setName(name);
+        project.setStartDate(LocalDate.of(2024, 1, 1));
+        project = projects.saveAndFlush(project);
+        entityManager.createNativeQuery("update project set created_at = ?1 where id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, project.getId())
+                .executeUpdate();
+
+        for (int i = 0; i < taskCount; i++) {
+            var task = new Task();
+            task.setProject(project);
+            task.setTitle(name + " task " + i);
+            task.setActivity(i % 2 == 0);
+            task.setDuration(1);
+            task.setStartAt(Instant.parse("2024-01-01T00:00:00Z"));
+            task.setEndAt(Instant.parse("2024-01-02T00:00:00Z"));
+            task.setStartDay(i);
+            task.setEndDay(i + 1);
+            tasks.save(task);
+        }
+        for (int i = 0; i < tagCount; i++) {
+            var tag = new Tag();
+            tag.setProject(project);
+            tag.setTitle(name + " tag " + i);
+            tag.setActivity(false);
+            tag.setDuration(1);
+            tag.setStartAt(Instant.parse("2024-01-01T00:00:00Z"));
+            tag.setEndAt(Instant.parse("2024-01-02T00:00:00Z"));
+            tag.setStartDay(0);
+            tag.setEndDay(1);
+            tags.save(tag);
+        }
+        return project;
+    }
+}
@@ -0,0 +1,112 @@
+package com.task_management.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.task_management.dto.SearchHitRes;
+import com.task_management.dto.SearchHitType;
+import com.task_management.entity.Action;
+import com.task_management.entity.Note;
+import com.task_management.entity.Project;
+import com.task_management.entity.Tag;
+import com.task_management.entity.Task;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ProjectSearchRepository.class)
+class ProjectSearchRepositoryIntegrationTest {
+
+    @Autowired
+    ProjectSearchRepository searchRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    Project project;
+    Task reviewTask;
+
+    @BeforeEach
+    void setUp() {
+        project = persist(Project.builder().name("Search").startDate(LocalDate.of(2024, 1, 1)).build());
+        Project other = persist(Project.builder().name("Other").startDate(LocalDate.of(2024, 1, 1)).build());
+
+        reviewTask = persist(task(project, "Design review", "Walk through the mockups"));
+        persist(task(project, "Kickoff", "Agenda includes a review of goals"));
+        persist(task(other, "Review elsewhere", null));
+        persist(Tag.builder().project(project).title("Review week").activity(false).duration(1)
+                .startAt(Instant.parse("2024-01-01T00:00:00Z")).endAt(Instant.parse("2024-01-02T00:00:00Z"))
+                .startDay(0).endDay(1).build());
+        persist(Note.builder().project(project).body("Remember the review checklist").build());
+        persist(Note.builder().task(reviewTask).body("Invite the REVIEW board").build());
+        persist(Action.builder().task(reviewTask).details("Send review notes").day(1).build());
+        persist(Action.builder().task(reviewTask).details("Book a room").day(2).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void searchLike_tasks_ranksTitleMatchesAboveDescriptionMatches() {
+        List<SearchHitRes> hits = searchRepository.searchLike(SearchHitType.TASK, project.getId(), "Review", 10);
+
+        assertThat(hits).extracting(SearchHitRes::title).containsExactly("Design review", "Kickoff");
+        assertThat(hits).extracting(SearchHitRes::score).containsExactly(1.0, 0.4);
+        assertThat(hits.get(0).taskId()).isEqualTo(reviewTask.getId());
+    }
+
+    @Test
+    void searchLike_notes_includesProjectAndTaskNotes() {
+        List<SearchHitRes> hits = searchRepository.searchLike(SearchHitType.NOTE, project.getId(), "review", 10);
+
+        assertThat(hits).extracting(SearchHitRes::snippet)
+                .containsExactlyInAnyOrder("Remember the review checklist", "Invite the REVIEW board");
+    }
+
+    @Test
+    void searchLike_actionsAndTags_matchWithinProjectOnly() {
+        assertThat(searchRepository.searchLike(SearchHitType.ACTION, project.getId(), "review", 10))
+                .singleElement()
+                .satisfies(hit -> {
+                    assertThat(hit.snippet()).isEqualTo("Send review notes");
+                    assertThat(hit.title()).isEqualTo("Design review");
+                    assertThat(hit.taskId()).isEqualTo(reviewTask.getId());
+                });
+        assertThat(searchRepository.searchLike(SearchHitType.TAG, project.getId(), "review", 10))
+                .extracting(SearchHitRes::title)
+                .containsExactly("Review week");
+    }
+
+    @Test
+    void searchLike_respectsLimit() {
+        assertThat(searchRepository.searchLike(SearchHitType.TASK, project.getId(), "review", 1)).hasSize(1);
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private Task task(Project owner, String title, String description) {
+        return Task.builder()
+                .project(owner)
+                .title(title)
+                .description(description)
+                .activity(false)
+                .duration(60)
+                .startAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .endAt(Instant.parse("2024-01-02T00:00:00Z"))
+                .startDay(0)
+                .endDay(1)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.task_management.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.task_management.PostgresTestContainer;
+import com.task_management.dto.SearchHitRes;
+import com.task_management.dto.SearchHitType;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs the {@link ProjectSearchRepositoryIntegrationTest} cases against PostgreSQL and adds the full-text
+ * queries, which only exist there.
+ */
+@ActiveProfiles(value = "postgres-test", inheritProfiles = false)
+class ProjectSearchRepositoryPostgresTest extends ProjectSearchRepositoryIntegrationTest
+        implements PostgresTestContainer {
+
+    private static final String REVIEW = FullTextQuery.toPrefixQuery("review");
+
+    @Test
+    void searchFullText_tasks_ranksTitleMatchesAboveDescriptionMatches() {
+        List<SearchHitRes> hits = searchRepository.searchFullText(SearchHitType.TASK, project.getId(), REVIEW, 10);
+
+        assertThat(hits).extracting(SearchHitRes::title).containsExactly("Design review", "Kickoff");
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    void searchFullText_notes_includesProjectAndTaskNotes() {
+        List<SearchHitRes> hits = searchRepository.searchFullText(SearchHitType.NOTE, project.getId(), REVIEW, 10);
+
+        assertThat(hits).extracting(SearchHitRes::snippet)
+                .containsExactlyInAnyOrder("Remember the review checklist", "Invite the REVIEW board");
+        assertThat(hits).filteredOn(hit -> hit.taskId() != null).singleElement()
+                .satisfies(hit -> assertThat(hit.title()).isEqualTo("Design review"));
+        assertThat(hits).filteredOn(hit -> hit.taskId() == null).singleElement()
+                .satisfies(hit -> assertThat(hit.title()).isNull());
+    }
+
+    @Test
+    void searchFullText_actions_matchWithinProjectOnly() {
+        assertThat(searchRepository.searchFullText(SearchHitType.ACTION, project.getId(), REVIEW, 10))
+                .singleElement()
+                .satisfies(hit -> {
+                    assertThat(hit.snippet()).isEqualTo("Send review notes");
+                    assertThat(hit.taskId()).isEqualTo(reviewTask.getId());
+                });
+    }
+
+    @Test
+    void searchFullText_respectsLimit() {
+        assertThat(searchRepository.searchFullText(SearchHitType.NOTE, project.getId(), REVIEW, 1)).hasSize(1);
+    }
+}
@@ -0,0 +1,149 @@
+package com.task_management.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.task_management.PostgresTestContainer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL Hibernate generates for the hot repository queries and fails when one of them
+ * stops using its index.
+ *
+ * <p>Runs against PostgreSQL with the Liquibase schema, since H2 neither has these indexes by name nor reports
+ * whether an index also delivers the order. Sequential scans are disabled for the session, which makes any plan
+ * that still needs a {@code Seq Scan} or a {@code Sort} node a missing index rather than a planner preference on
+ * tiny tables. Without Docker the class is skipped rather than passing vacuously.
+ */
+@DataJpaTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.task_management.repository.RecordingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("postgres-test")
+class QueryPlanRegressionTest implements PostgresTestContainer {
+
+    private static final UUID ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final Instant AT = Instant.parse("2024-01-01T00:00:00Z");
+    // Page 1 of an empty table makes Spring Data issue the count query as well
+    private static final PageRequest SECOND_PAGE = PageRequest.of(1, 20);
+
+    @Autowired
+    private ProjectRepository projects;
+
+    @Autowired
+    private TaskRepository tasks;
+
+    @Autowired
+    private TagRepository tags;
+
+    @Autowired
+    private NoteRepository notes;
+
+    @Autowired
+    private ActionRepository actions;
+
+    @Autowired
+    private ImportJobRepository importJobs;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void projectPageUsesCreatedAtIndex() {
+        assertPlansUse("idx_project_created_at_id", () -> projects.findPageIds(PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void taskQueriesUseProjectEndAtIndex() {
+        assertPlansUse("idx_task_project_end_at_id", () -> tasks.findByProjectIdOrderByEndAtAsc(ID, SECOND_PAGE));
+        assertPlansUse("idx_task_project_end_at_id", () -> tasks.findFirstByProject(ID, Limit.of(21)));
+        assertPlansUse("idx_task_project_end_at_id", () -> tasks.findByProjectAfter(ID, AT, ID, Limit.of(21)));
+        assertPlansUse("idx_task_project_end_at_id", () -> tasks.findByProjectId(ID));
+        assertPlansUse("idx_task_project_end_at_id", () -> tasks.countActivities(ID));
+    }
+
+    @Test
+    void tagQueriesUseProjectEndAtIndex() {
+        assertPlansUse("idx_tag_project_end_at_id", () -> tags.findByProjectIdOrderByEndAtAsc(ID, SECOND_PAGE));
+        assertPlansUse("idx_tag_project_end_at_id", () -> tags.findFirstByProject(ID, Limit.of(21)));
+        assertPlansUse("idx_tag_project_end_at_id", () -> tags.findByProjectAfter(ID, AT, ID, Limit.of(21)));
+        assertPlansUse("idx_tag_project_end_at_id", () -> tags.findByProjectId(ID));
+    }
+
+    @Test
+    void noteQueriesUseOwnerCreatedAtIndexes() {
+        assertPlansUse("idx_note_project_created_at_id",
+                () -> notes.findByProjectIdOrderByCreatedAtDesc(ID, SECOND_PAGE));
+        assertPlansUse("idx_note_project_created_at_id", () -> notes.findFirstByProject(ID, Limit.of(21)));
+        assertPlansUse("idx_note_project_created_at_id", () -> notes.findByProjectBefore(ID, AT, ID, Limit.of(21)));
+        assertPlansUse("idx_note_project_created_at_id", () -> notes.countByProjectId(ID));
+        assertPlansUse("idx_note_task_created_at_id", () -> notes.findByTaskIdOrderByCreatedAtDesc(ID, SECOND_PAGE));
+        assertPlansUse("idx_note_task_created_at_id", () -> notes.findFirstByTask(ID, Limit.of(21)));
+        assertPlansUse("idx_note_task_created_at_id", () -> notes.findByTaskBefore(ID, AT, ID, Limit.of(21)));
+        assertPlansUse("idx_note_task_created_at_id", () -> notes.countByTaskId(ID));
+    }
+
+    @Test
+    void actionQueriesUseTaskDayIndex() {
+        assertPlansUse("idx_action_task_day_id", () -> actions.findByTaskIdOrderByDayAsc(ID, SECOND_PAGE));
+        assertPlansUse("idx_action_task_day_id", () -> actions.findFirstByTask(ID, Limit.of(21)));
+        assertPlansUse("idx_action_task_day_id", () -> actions.findByTaskAfter(ID, 3, ID, Limit.of(21)));
+        assertPlansUse("idx_action_task_day_id", () -> actions.countByTaskId(ID));
+    }
+
+    @Test
+    void importJobQueueUsesStatusIndex() {
+        assertPlansUse("idx_import_job_status_created", () -> importJobs.lockNextQueued());
+    }
+
+    private void assertPlansUse(String index, Runnable query) {
+        RecordingStatementInspector.clear();
+        query.run();
+        List<String> statements = RecordingStatementInspector.statements();
+        assertThat(statements).as("statements issued").isNotEmpty();
+
+        for (String sql : statements) {
+            assertThat(explain(sql)).as("plan of %s", sql)
+                    .contains(index)
+                    .doesNotContain("Seq Scan")
+                    .doesNotContain("Sort Key");
+        }
+    }
+
+    private String explain(String sql) {
+        String explainable = sql.replaceAll("(?i)\\s+for\\s+update(\\s+skip\\s+locked)?\\s*$", "");
+        return jdbc.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("set local enable_seqscan = off");
+            }
+            try (PreparedStatement statement = connection.prepareStatement("explain " + explainable)) {
+                // Bind parameters are unknown to the planner anyway; nulls keep every placeholder typed by context
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setObject(i, null);
+                }
+                List<String> lines = new ArrayList<>();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        lines.add(rs.getString(1));
+                    }
+                }
+                return String.join("\n", lines);
+            }
+        });
+    }
+}
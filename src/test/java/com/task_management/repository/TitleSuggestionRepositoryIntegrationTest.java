@@ -0,0 +1,70 @@
+package com.task_management.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.task_management.dto.TitleSuggestionRes;
+import com.task_management.entity.Project;
+import com.task_management.entity.Task;
+import com.task_management.repository.TitleSuggestionRepository.Source;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TitleSuggestionRepository.class, DatabasePlatform.class})
+class TitleSuggestionRepositoryIntegrationTest {
+
+    @Autowired
+    private TitleSuggestionRepository titleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        project = Project.builder().name("Titles").startDate(LocalDate.of(2024, 1, 1)).build();
+        entityManager.persist(project);
+        for (String title : new String[] {"Design review", "design_doc", "Deploy", "Code review"}) {
+            entityManager.persist(Task.builder().project(project).title(title).activity(false).duration(1)
+                    .startAt(Instant.parse("2024-01-01T00:00:00Z")).endAt(Instant.parse("2024-01-02T00:00:00Z"))
+                    .startDay(0).endDay(1).build());
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void findByPrefix_matchesCaseInsensitivelyInTitleOrder() {
+        assertThat(titleRepository.findByPrefix(Source.TASK, project.getId(), "DE", 10))
+                .extracting(TitleSuggestionRes::title)
+                .containsExactly("Deploy", "Design review", "design_doc");
+    }
+
+    @Test
+    void findByPrefix_treatsWildcardsLiterally() {
+        assertThat(titleRepository.findByPrefix(Source.TASK, project.getId(), "design_", 10))
+                .extracting(TitleSuggestionRes::title)
+                .containsExactly("design_doc");
+    }
+
+    @Test
+    void findSimilar_fallsBackToSubstringMatch() {
+        assertThat(titleRepository.findSimilar(Source.TASK, project.getId(), "review", 10))
+                .extracting(TitleSuggestionRes::title)
+                .containsExactly("Code review", "Design review");
+    }
+
+    @Test
+    void findTitles_respectsRowLimit() {
+        assertThat(titleRepository.findTitles(Source.TASK, project.getId(), 2)).hasSize(2);
+        assertThat(titleRepository.findTitles(Source.TAG, project.getId(), 10)).isEmpty();
+    }
+}
@@ -0,0 +1,64 @@
+package com.task_management.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.task_management.service.ChangeSyncService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeTombstoneCleanerTest {
+
+    @Mock
+    private ChangeSyncService changeSyncService;
+
+    private ChangeTombstoneCleaner cleaner;
+
+    @BeforeEach
+    void setUp() {
+        cleaner = new ChangeTombstoneCleaner(changeSyncService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleaner.shutdown();
+    }
+
+    @Test
+    void cleanUp_purgesChunksUntilOneComesBackShort() {
+        when(changeSyncService.purgeExpiredTombstones(ChangeTombstoneCleaner.CHUNK_SIZE))
+                .thenReturn(ChangeTombstoneCleaner.CHUNK_SIZE, ChangeTombstoneCleaner.CHUNK_SIZE, 7);
+
+        cleaner.cleanUp();
+
+        verify(changeSyncService, times(3)).purgeExpiredTombstones(ChangeTombstoneCleaner.CHUNK_SIZE);
+    }
+
+    @Test
+    void poll_returnsAtOnceAndNeverRunsTwoCleanupsSideBySide() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(changeSyncService.purgeExpiredTombstones(ChangeTombstoneCleaner.CHUNK_SIZE)).thenAnswer(invocation -> {
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return 0;
+        });
+
+        // The scheduler thread is back before the first chunk has finished
+        cleaner.poll();
+        cleaner.poll();
+        release.countDown();
+
+        verify(changeSyncService, timeout(2000)).purgeExpiredTombstones(ChangeTombstoneCleaner.CHUNK_SIZE);
+        Thread.sleep(100);
+        verify(changeSyncService, times(1)).purgeExpiredTombstones(ChangeTombstoneCleaner.CHUNK_SIZE);
+    }
+}
@@ -0,0 +1,181 @@
+package com.task_management.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.task_management.dto.ImportJobRes;
+import com.task_management.dto.ProjectImportReq;
+import com.task_management.dto.ProjectImportRes;
+import com.task_management.entity.ImportJob;
+import com.task_management.entity.ImportJobStatus;
+import com.task_management.exception.BadRequestException;
+import com.task_management.exception.NotFoundException;
+import com.task_management.mapper.ImportJobMapper;
+import com.task_management.repository.ImportJobRepository;
+import com.task_management.repository.ProjectRepository;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ImportJobServiceImplTest {
+
+    @Mock
+    private ImportJobRepository jobRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ImportJobMapper jobMapper;
+
+    private ImportJobServiceImpl jobService;
+
+    private final UUID sourceId = UUID.randomUUID();
+    private final ProjectImportReq request =
+            new ProjectImportReq(sourceId, "Copy", "Copied", true, true, false, true);
+
+    @BeforeEach
+    void setUp() {
+        jobService = new ImportJobServiceImpl(jobRepository, projectRepository, jobMapper, 1000, 60000, 900000);
+    }
+
+    @Test
+    void submit_savesQueuedJobWithRequestedOptions() {
+        when(projectRepository.existsById(sourceId)).thenReturn(true);
+        when(projectRepository.existsByNameIgnoreCase("Copy")).thenReturn(false);
+        when(jobRepository.save(any(ImportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ImportJobRes res = jobRes(ImportJobStatus.QUEUED);
+        when(jobMapper.toRes(any(ImportJob.class))).thenReturn(res);
+
+        assertThat(jobService.submit(request)).isEqualTo(res);
+
+        ArgumentCaptor<ImportJob> captor = ArgumentCaptor.forClass(ImportJob.class);
+        verify(jobRepository).save(captor.capture());
+        ImportJob saved = captor.getValue();
+        assertThat(saved.getStatus()).isEqualTo(ImportJobStatus.QUEUED);
+        assertThat(saved.getSourceProjectId()).isEqualTo(sourceId);
+        assertThat(saved.getNewProjectName()).isEqualTo("Copy");
+        assertThat(saved.isImportTasks()).isTrue();
+        assertThat(saved.isImportTags()).isFalse();
+        assertThat(saved.isImportActions()).isTrue();
+    }
+
+    @Test
+    void submit_whenSourceMissing_throwsNotFound() {
+        when(projectRepository.existsById(sourceId)).thenReturn(false);
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> jobService.submit(request))
+                .withMessage("Source project not found");
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    void submit_whenTargetNameTaken_throwsBadRequest() {
+        when(projectRepository.existsById(sourceId)).thenReturn(true);
+        when(projectRepository.existsByNameIgnoreCase("Copy")).thenReturn(true);
+
+        assertThatExceptionOfType(BadRequestException.class)
+                .isThrownBy(() -> jobService.submit(request))
+                .withMessage("Target project name already exists");
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    void get_whenMissing_throwsNotFound() {
+        UUID jobId = UUID.randomUUID();
+        when(jobRepository.findById(jobId)).thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> jobService.get(jobId))
+                .withMessage("Import job not found");
+    }
+
+    @Test
+    void claimNext_marksLockedJobRunning() {
+        ImportJob job = ImportJob.builder().id(UUID.randomUUID()).status(ImportJobStatus.QUEUED).build();
+        when(jobRepository.lockNextQueued()).thenReturn(Optional.of(job));
+        when(jobRepository.save(job)).thenReturn(job);
+
+        Optional<ImportJob> claimed = jobService.claimNext("worker-1");
+
+        assertThat(claimed).containsSame(job);
+        assertThat(job.getStatus()).isEqualTo(ImportJobStatus.RUNNING);
+        assertThat(job.getWorkerId()).isEqualTo("worker-1");
+        assertThat(job.getStartedAt()).isNotNull();
+    }
+
+    @Test
+    void claimNext_whenQueueEmpty_returnsEmpty() {
+        when(jobRepository.lockNextQueued()).thenReturn(Optional.empty());
+
+        assertThat(jobService.claimNext("worker-1")).isEmpty();
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    void complete_storesResultOnlyWhileRunning() {
+        UUID jobId = UUID.randomUUID();
+        UUID newProjectId = UUID.randomUUID();
+        when(jobRepository.completeIfRunning(eq(jobId), eq(newProjectId), eq(3), eq(2), eq(1), eq(4), eq("done"), any()))
+                .thenReturn(1);
+
+        assertThat(jobService.complete(jobId, new ProjectImportRes(newProjectId, "Copy", 3, 2, 1, 4, "done"))).isTrue();
+    }
+
+    @Test
+    void complete_whenJobNoLongerRunning_returnsFalse() {
+        UUID jobId = UUID.randomUUID();
+        when(jobRepository.completeIfRunning(eq(jobId), any(), eq(0), eq(0), eq(0), eq(0), eq("done"), any()))
+                .thenReturn(0);
+
+        assertThat(jobService.complete(jobId, new ProjectImportRes(UUID.randomUUID(), "Copy", 0, 0, 0, 0, "done")))
+                .isFalse();
+    }
+
+    @Test
+    void recordProgress_whenJobNoLongerRunning_returnsFalse() {
+        UUID jobId = UUID.randomUUID();
+        when(jobRepository.updateProgressIfRunning(eq(jobId), eq(2), eq(0), eq(1), eq(0), any())).thenReturn(0);
+
+        assertThat(jobService.recordProgress(jobId, 2, 0, 1, 0)).isFalse();
+    }
+
+    @Test
+    void fail_recordsReason() {
+        UUID jobId = UUID.randomUUID();
+
+        jobService.fail(jobId, "boom");
+
+        verify(jobRepository).failIfRunning(eq(jobId), eq("boom"), any());
+    }
+
+    @Test
+    void failStale_usesConfiguredCutoff() {
+        when(jobRepository.failStale(any(), any(), eq(ImportJobServiceImpl.STALE_MESSAGE))).thenReturn(2);
+        Instant before = Instant.now();
+
+        assertThat(jobService.failStale()).isEqualTo(2);
+
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(jobRepository).failStale(cutoff.capture(), any(), eq(ImportJobServiceImpl.STALE_MESSAGE));
+        assertThat(cutoff.getValue()).isBefore(before.minusSeconds(899));
+    }
+
+    private ImportJobRes jobRes(ImportJobStatus status) {
+        return new ImportJobRes(UUID.randomUUID(), status, sourceId, "Copy", null,
+                0, 0, 0, 0, null, Instant.now(), Instant.now(), null, null);
+    }
+}
@@ -0,0 +1,154 @@
+package com.task_management.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.task_management.dto.ProjectImportReq;
+import com.task_management.dto.ProjectImportRes;
+import com.task_management.entity.ImportJob;
+import com.task_management.entity.ImportJobStatus;
+import com.task_management.exception.BadRequestException;
+import com.task_management.service.ImportJobService;
+import com.task_management.service.ImportProgressListener;
+import com.task_management.service.ProjectService;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ImportJobWorkerTest {
+
+    @Mock
+    private ImportJobService jobService;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImportJobWorker worker;
+    private ImportJob job;
+
+    @BeforeEach
+    void setUp() {
+        worker = new ImportJobWorker(jobService, projectService, transactionManager, 1);
+        job = ImportJob.builder()
+                .id(UUID.randomUUID())
+                .status(ImportJobStatus.RUNNING)
+                .sourceProjectId(UUID.randomUUID())
+                .newProjectName("Copy")
+                .importTasks(true)
+                .importNotes(false)
+                .importTags(true)
+                .importActions(false)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void run_completesJobAndReportsProgress() {
+        ProjectImportRes res = new ProjectImportRes(UUID.randomUUID(), "Copy", 2, 0, 1, 0, "done");
+        when(projectService.importProject(any(ProjectImportReq.class), any(ImportProgressListener.class)))
+                .thenAnswer(invocation -> {
+                    ImportProgressListener listener = invocation.getArgument(1);
+                    listener.onProgress(2, 0, 0, 0);
+                    return res;
+                });
+        when(jobService.recordProgress(job.getId(), 2, 0, 0, 0)).thenReturn(true);
+        when(jobService.complete(job.getId(), res)).thenReturn(true);
+
+        worker.run(job);
+
+        ArgumentCaptor<ProjectImportReq> captor = ArgumentCaptor.forClass(ProjectImportReq.class);
+        verify(projectService).importProject(captor.capture(), any(ImportProgressListener.class));
+        assertThat(captor.getValue().sourceProjectId()).isEqualTo(job.getSourceProjectId());
+        assertThat(captor.getValue().importTags()).isTrue();
+        assertThat(captor.getValue().importNotes()).isFalse();
+        verify(jobService).recordProgress(job.getId(), 2, 0, 0, 0);
+        verify(jobService).complete(job.getId(), res);
+        verify(jobService, never()).fail(any(), any());
+    }
+
+    @Test
+    void run_whenImportFails_marksJobFailed() {
+        when(projectService.importProject(any(ProjectImportReq.class), any(ImportProgressListener.class)))
+                .thenThrow(new BadRequestException("Target project name already exists"));
+
+        worker.run(job);
+
+        verify(jobService).fail(job.getId(), "Target project name already exists");
+        verify(jobService, never()).complete(any(), any());
+    }
+
+    @Test
+    void run_whenJobFailedAsStaleDuringImport_abortsWithoutTouchingTheJob() {
+        when(projectService.importProject(any(ProjectImportReq.class), any(ImportProgressListener.class)))
+                .thenAnswer(invocation -> {
+                    ImportProgressListener listener = invocation.getArgument(1);
+                    listener.onProgress(2, 0, 0, 0);
+                    return new ProjectImportRes(UUID.randomUUID(), "Copy", 2, 0, 0, 0, "done");
+                });
+        when(jobService.recordProgress(job.getId(), 2, 0, 0, 0)).thenReturn(false);
+
+        worker.run(job);
+
+        verify(jobService, never()).complete(any(), any());
+        verify(jobService, never()).fail(any(), any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void run_whenJobFailedAsStaleBeforeCompletion_rollsBackTheImport() {
+        ProjectImportRes res = new ProjectImportRes(UUID.randomUUID(), "Copy", 0, 0, 0, 0, "done");
+        when(projectService.importProject(any(ProjectImportReq.class), any(ImportProgressListener.class)))
+                .thenReturn(res);
+        when(jobService.complete(job.getId(), res)).thenReturn(false);
+
+        worker.run(job);
+
+        verify(jobService, never()).fail(any(), any());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void poll_claimsUpToConcurrencyAndRunsJobs() {
+        when(jobService.claimNext(anyString())).thenReturn(Optional.of(job));
+        when(projectService.importProject(any(ProjectImportReq.class), any(ImportProgressListener.class)))
+                .thenReturn(new ProjectImportRes(UUID.randomUUID(), "Copy", 0, 0, 0, 0, "done"));
+
+        worker.poll();
+
+        verify(jobService).failStale();
+        // concurrency is 1, so a single poll claims exactly one job
+        verify(jobService).claimNext(anyString());
+        verify(jobService, timeout(2000)).complete(eq(job.getId()), any());
+    }
+
+    @Test
+    void poll_whenQueueEmpty_doesNotRunAnything() {
+        when(jobService.claimNext(anyString())).thenReturn(Optional.empty());
+
+        worker.poll();
+
+        verify(projectService, never()).importProject(any(), any());
+    }
+}
@@ -0,0 +1,58 @@
+package com.task_management.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.task_management.dto.CursorPageRes;
+import com.task_management.exception.BadRequestException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorsTest {
+
+    @Test
+    void encodeAndDecode_roundTripsInstantKeys() {
+        Instant endAt = Instant.parse("2024-03-01T10:15:30.123456Z");
+        UUID id = UUID.randomUUID();
+
+        var position = KeysetCursors.decodeInstant("task", KeysetCursors.encode("task", endAt, id));
+
+        assertThat(position.key()).isEqualTo(endAt);
+        assertThat(position.id()).isEqualTo(id);
+    }
+
+    @Test
+    void decode_rejectsCursorOfAnotherList() {
+        String cursor = KeysetCursors.encode("action", 3, UUID.randomUUID());
+
+        assertThatExceptionOfType(BadRequestException.class)
+                .isThrownBy(() -> KeysetCursors.decodeInt("task", cursor))
+                .withMessage("Invalid cursor");
+    }
+
+    @Test
+    void decode_rejectsGarbage() {
+        assertThatExceptionOfType(BadRequestException.class)
+                .isThrownBy(() -> KeysetCursors.decodeInstant("task", "not a cursor!"));
+        assertThatExceptionOfType(BadRequestException.class)
+                .isThrownBy(() -> KeysetCursors.decodeInt("action",
+                        KeysetCursors.encode("action", "x", UUID.randomUUID())));
+    }
+
+    @Test
+    void page_usesExtraRowOnlyToSignalNextPage() {
+        CursorPageRes<String> page = KeysetCursors.page(List.of("a", "b", "c"), 2, String::toUpperCase, s -> "after-" + s);
+
+        assertThat(page.content()).containsExactly("A", "B");
+        assertThat(page.nextCursor()).isEqualTo("after-b");
+        assertThat(KeysetCursors.page(List.of("a"), 2, s -> s, s -> s).nextCursor()).isNull();
+    }
+
+    @Test
+    void checkSize_rejectsOutOfRange() {
+        assertThatExceptionOfType(BadRequestException.class).isThrownBy(() -> KeysetCursors.checkSize(0));
+        assertThatExceptionOfType(BadRequestException.class).isThrownBy(() -> KeysetCursors.checkSize(101));
+    }
+}
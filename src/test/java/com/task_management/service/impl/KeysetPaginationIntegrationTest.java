@@ -0,0 +1,142 @@
+package com.task_management.service.impl;
+
+import static com.task_management.TestData.BASE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.task_management.TestData;
+import com.task_management.dto.CursorPageRes;
+import com.task_management.entity.Action;
+import com.task_management.entity.Note;
+import com.task_management.entity.Project;
+import com.task_management.entity.Task;
+import com.task_management.repository.ActionRepository;
+import com.task_management.repository.NoteRepository;
+import com.task_management.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class KeysetPaginationIntegrationTest {
+
+    @Autowired
+    private TaskRepository tasks;
+
+    @Autowired
+    private NoteRepository notes;
+
+    @Autowired
+    private ActionRepository actions;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        statistics = TestData.statistics(entityManager.getEntityManagerFactory());
+        project = TestData.project("Keyset").build();
+        entityManager.persist(project);
+        // Several rows share a sort key so the id tie-breaker is exercised
+        for (int i = 0; i < 7; i++) {
+            Task t = TestData.task(project).title("Task " + i).endAt(BASE.plusSeconds(86_400L * (i / 3))).build();
+            entityManager.persist(t);
+            if (i == 0) task = t;
+        }
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(Action.builder().task(task).details("Action " + i).day(1 + i / 2).build());
+            entityManager.persist(Note.builder().project(project).body("Note " + i).build());
+        }
+        entityManager.flush();
+        entityManager.createQuery("update Note n set n.createdAt = :at").setParameter("at", BASE).executeUpdate();
+        entityManager.clear();
+    }
+
+    @Test
+    void tasks_walkAllPagesInEndAtIdOrderWithOneStatementPerPage() {
+        List<Task> expected = tasks.findByProjectId(project.getId()).stream()
+                .sorted(Comparator.comparing(Task::getEndAt).thenComparing(t -> t.getId().toString()))
+                .toList();
+        entityManager.clear();
+        statistics.clear();
+
+        List<UUID> seen = walk(3,
+                limit -> tasks.findFirstByProject(project.getId(), limit),
+                (cursor, limit) -> {
+                    var position = KeysetCursors.decodeInstant("task", cursor);
+                    return tasks.findByProjectAfter(project.getId(), position.key(), position.id(), limit);
+                },
+                t -> KeysetCursors.encode("task", t.getEndAt(), t.getId()),
+                Task::getId);
+
+        assertThat(seen).containsExactlyElementsOf(expected.stream().map(Task::getId).toList());
+        // 7 rows in pages of 3 -> 3 pages, each a single select and no count(*)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void actions_walkAllPagesInDayOrder() {
+        List<Integer> days = new ArrayList<>();
+        List<UUID> seen = walk(2,
+                limit -> actions.findFirstByTask(task.getId(), limit),
+                (cursor, limit) -> {
+                    var position = KeysetCursors.decodeInt("action", cursor);
+                    return actions.findByTaskAfter(task.getId(), position.key(), position.id(), limit);
+                },
+                a -> KeysetCursors.encode("action", a.getDay(), a.getId()),
+                a -> {
+                    days.add(a.getDay());
+                    return a.getId();
+                });
+
+        assertThat(seen).hasSize(5).doesNotHaveDuplicates();
+        assertThat(days).isSorted();
+    }
+
+    @Test
+    void notes_walkAllPagesNewestFirstAcrossEqualTimestamps() {
+        List<UUID> seen = walk(2,
+                limit -> notes.findFirstByProject(project.getId(), limit),
+                (cursor, limit) -> {
+                    var position = KeysetCursors.decodeInstant("project-note", cursor);
+                    return notes.findByProjectBefore(project.getId(), position.key(), position.id(), limit);
+                },
+                n -> KeysetCursors.encode("project-note", n.getCreatedAt(), n.getId()),
+                Note::getId);
+
+        assertThat(seen).hasSize(5).doesNotHaveDuplicates();
+    }
+
+    private <E> List<UUID> walk(int size,
+                                Function<Limit, List<E>> first,
+                                BiFunction<String, Limit, List<E>> after,
+                                Function<E, String> cursorOf,
+                                Function<E, UUID> idOf) {
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            List<E> rows = cursor == null ? first.apply(Limit.of(size + 1)) : after.apply(cursor, Limit.of(size + 1));
+            CursorPageRes<UUID> page = KeysetCursors.page(rows, size, idOf, cursorOf);
+            seen.addAll(page.content());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return seen;
+    }
+}
@@ -3,7 +3,6 @@ package com.task_management.service.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,8 +14,11 @@ import com.task_management.entity.Task;
 import com.task_management.exception.BadRequestException;
 import com.task_management.exception.NotFoundException;
 import com.task_management.mapper.NoteMapper;
+import com.task_management.repository.ChangeFeedRepository;
 import com.task_management.repository.NoteRepository;
+import com.task_management.repository.ProjectHeader;
 import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.ProjectVersionRepository;
 import com.task_management.repository.TaskRepository;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -44,6 +46,15 @@ class NoteServiceImplTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private ProjectVersionRepository projectVersionRepository;
+
+    @Mock
+    private ChangeFeedRepository changeFeedRepository;
+
+    @Mock
+    private ProjectEventPublisher projectEventPublisher;
+
     @Mock
     private TaskRepository taskRepository;
 
@@ -108,7 +119,7 @@ class NoteServiceImplTest {
     void create_forProject_whenProjectMissing_throwsNotFound() {
         UUID projectId = project.getId();
         NoteCreateReq request = new NoteCreateReq(projectId, null, "Body");
-        when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
+        when(projectRepository.findHeaderById(projectId)).thenReturn(Optional.empty());
 
         assertThatExceptionOfType(NotFoundException.class)
                 .isThrownBy(() -> noteService.create(request))
@@ -130,7 +141,8 @@ class NoteServiceImplTest {
     void create_forProject_savesNote() {
         UUID projectId = project.getId();
         NoteCreateReq request = new NoteCreateReq(projectId, null, "Body");
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.findHeaderById(projectId)).thenReturn(Optional.of(header()));
+        when(projectRepository.getReferenceById(project.getId())).thenReturn(project);
         when(noteRepository.save(any(Note.class))).thenReturn(note);
         when(noteMapper.toRes(note)).thenReturn(noteRes);
 
@@ -217,22 +229,24 @@ class NoteServiceImplTest {
     @Test
     void delete_whenNoteMissing_throwsNotFound() {
         UUID noteId = UUID.randomUUID();
-        when(noteRepository.existsById(noteId)).thenReturn(false);
+        when(noteRepository.deleteRowById(noteId)).thenReturn(0);
 
         assertThatExceptionOfType(NotFoundException.class)
                 .isThrownBy(() -> noteService.delete(noteId))
                 .withMessage("Note not found");
-
-        verify(noteRepository, never()).deleteById(noteId);
     }
 
     @Test
     void delete_whenNoteExists_deletesEntity() {
         UUID noteId = UUID.randomUUID();
-        when(noteRepository.existsById(noteId)).thenReturn(true);
+        when(noteRepository.deleteRowById(noteId)).thenReturn(1);
 
         noteService.delete(noteId);
 
-        verify(noteRepository).deleteById(noteId);
+        verify(noteRepository).deleteRowById(noteId);
+    }
+
+    private ProjectHeader header() {
+        return new ProjectHeader(project.getId(), project.getName(), project.getStartDate());
     }
 }
@@ -0,0 +1,107 @@
+package com.task_management.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.when;
+
+import com.task_management.dto.ChangeOperation;
+import com.task_management.dto.ProjectEventRes;
+import com.task_management.entity.ChangeEntityType;
+import com.task_management.exception.NotFoundException;
+import com.task_management.exception.ServiceUnavailableException;
+import com.task_management.monitoring.ProjectEventMetrics;
+import com.task_management.repository.ProjectRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectEventServiceImplTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // Sends are queued here and run by the test, so every step is deterministic
+    private final List<Runnable> sends = new ArrayList<>();
+    private final UUID projectId = UUID.randomUUID();
+
+    private ProjectEventServiceImpl eventService;
+
+    @BeforeEach
+    void setUp() {
+        eventService = new ProjectEventServiceImpl(projectRepository, new ProjectEventMetrics(meterRegistry),
+                2, 3, 60000, sends::add);
+    }
+
+    @Test
+    void subscribe_unknownProject_throwsNotFound() {
+        when(projectRepository.existsById(projectId)).thenReturn(false);
+
+        assertThatExceptionOfType(NotFoundException.class).isThrownBy(() -> eventService.subscribe(projectId));
+        assertThat(eventService.subscriberCount()).isZero();
+    }
+
+    @Test
+    void subscribe_beyondTheNodeLimit_isRefused() {
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        eventService.subscribe(projectId);
+        eventService.subscribe(projectId);
+
+        assertThatExceptionOfType(ServiceUnavailableException.class)
+                .isThrownBy(() -> eventService.subscribe(projectId));
+        assertThat(eventService.subscriberCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("task_management.events.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_onlyWakesStreamsOfTheEventsProject() {
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        eventService.subscribe(projectId);
+
+        eventService.dispatch(List.of(event(UUID.randomUUID())));
+        assertThat(sends).isEmpty();
+
+        eventService.dispatch(List.of(event(projectId), event(projectId)));
+        // One sender per stream drains everything queued for it
+        assertThat(sends).hasSize(1);
+    }
+
+    @Test
+    void dispatch_streamAWholeQueueBehind_isToldToResyncAndClosed() {
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        eventService.subscribe(projectId);
+
+        eventService.dispatch(List.of(event(projectId), event(projectId), event(projectId), event(projectId)));
+        assertThat(meterRegistry.counter("task_management.events.overflow").count()).isEqualTo(1);
+        sends.forEach(Runnable::run);
+
+        assertThat(eventService.subscriberCount()).isZero();
+        assertThat(meterRegistry.counter("task_management.events.sent").count()).isZero();
+        assertThat(meterRegistry.get("task_management.events.subscribers").gauge().value()).isZero();
+    }
+
+    @Test
+    void dispatch_withinQueueCapacity_sendsEveryEvent() {
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        eventService.subscribe(projectId);
+
+        eventService.dispatch(List.of(event(projectId), event(projectId), event(projectId)));
+        sends.forEach(Runnable::run);
+
+        assertThat(meterRegistry.counter("task_management.events.sent").count()).isEqualTo(3);
+        assertThat(eventService.subscriberCount()).isEqualTo(1);
+    }
+
+    private static ProjectEventRes event(UUID projectId) {
+        return new ProjectEventRes(projectId, ChangeEntityType.TASK, UUID.randomUUID(), ChangeOperation.UPDATED,
+                Instant.now());
+    }
+}
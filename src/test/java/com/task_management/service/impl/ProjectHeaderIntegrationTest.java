@@ -0,0 +1,103 @@
+package com.task_management.service.impl;
+
+import static com.task_management.TestData.BASE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.task_management.TestData;
+import com.task_management.dto.NoteCreateReq;
+import com.task_management.dto.TaskCreateReq;
+import com.task_management.entity.Project;
+import com.task_management.exception.NotFoundException;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.service.NoteService;
+import com.task_management.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Child-entity writes validate against the project header: one narrow read of the project row per write, never a
+ * cached copy, so project changes made on another node (simulated here with plain JDBC) apply to the next write.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectHeaderIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private ProjectRepository projects;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Statistics statistics;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        statistics = TestData.statistics(entityManagerFactory);
+        project = projects.save(TestData.project("Header").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestData.deleteProject(jdbc, project.getId());
+    }
+
+    @Test
+    void childWrites_readOnlyTheProjectHeader() {
+        statistics.clear();
+        taskService.create(task("First"));
+        // The header select and the insert; tasks and tags of the project are never loaded
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        noteService.create(new NoteCreateReq(project.getId(), null, "Note"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void projectChangedElsewhere_appliesToTheNextWrite() {
+        taskService.create(task("Before move"));
+
+        jdbc.update("UPDATE project SET start_date = ? WHERE id = ?",
+                Date.valueOf(LocalDate.of(2023, 12, 1)), project.getId());
+
+        // Same instants as before, but counted from the new start date
+        assertThat(taskService.create(task("After move")).startDay()).isEqualTo(31);
+    }
+
+    @Test
+    void softDeletedElsewhere_rejectsTheNextWrite() {
+        taskService.create(task("Before delete"));
+
+        jdbc.update("UPDATE project SET deleted_at = ? WHERE id = ?", Timestamp.from(Instant.now()), project.getId());
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> taskService.create(task("Too late")))
+                .withMessage("Project not found");
+    }
+
+    private TaskCreateReq task(String title) {
+        return new TaskCreateReq(project.getId(), title, null, false, 60, BASE, BASE.plusSeconds(3_600), null);
+    }
+}
@@ -0,0 +1,12 @@
+package com.task_management.service.impl;
+
+import com.task_management.PostgresTestContainer;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs the {@link ProjectImportEngineTest} cases against PostgreSQL, where the engine copies every entity type
+ * with a single {@code INSERT ... SELECT} instead of the JDBC batches used on H2.
+ */
+@ActiveProfiles(value = "postgres-test", inheritProfiles = false)
+class ProjectImportEnginePostgresTest extends ProjectImportEngineTest implements PostgresTestContainer {
+}
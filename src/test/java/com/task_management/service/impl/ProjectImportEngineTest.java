@@ -0,0 +1,179 @@
+package com.task_management.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.task_management.dto.ProjectImportReq;
+import com.task_management.entity.Action;
+import com.task_management.entity.Note;
+import com.task_management.entity.Project;
+import com.task_management.entity.Tag;
+import com.task_management.entity.Task;
+import com.task_management.monitoring.ImportMetrics;
+import com.task_management.repository.ActionRepository;
+import com.task_management.repository.DatabasePlatform;
+import com.task_management.repository.NoteRepository;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.TagRepository;
+import com.task_management.repository.TaskRepository;
+import com.task_management.service.ImportProgressListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ProjectImportEngine.class, DatabasePlatform.class, ImportMetrics.class, SimpleMeterRegistry.class})
+class ProjectImportEngineTest {
+
+    @Autowired
+    private ProjectImportEngine engine;
+
+    @Autowired
+    private ProjectRepository projects;
+
+    @Autowired
+    private TaskRepository tasks;
+
+    @Autowired
+    private TagRepository tags;
+
+    @Autowired
+    private NoteRepository notes;
+
+    @Autowired
+    private ActionRepository actions;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Project source;
+    private Project target;
+
+    @BeforeEach
+    void setUp() {
+        source = projects.save(project("Source"));
+        target = projects.save(project("Target"));
+
+        Task first = tasks.save(task("First", true, 0, 2));
+        Task second = tasks.save(task("Second", false, 3, 5));
+        tags.save(Tag.builder().project(source).title("Milestone").description("desc").activity(true)
+                .duration(1).startAt(Instant.parse("2024-01-02T00:00:00Z")).endAt(Instant.parse("2024-01-03T00:00:00Z"))
+                .startDay(1).endDay(2).color("#FF0000").build());
+        notes.save(Note.builder().project(source).body("project note").build());
+        notes.save(Note.builder().task(first).body("first task note").build());
+        actions.save(Action.builder().task(first).details("day one").day(1).build());
+        actions.save(Action.builder().task(first).details("day two").day(2).build());
+        actions.save(Action.builder().task(second).details("wrap up").day(4).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void copiesEveryEntityTypeAndRelinksChildrenToCopiedTasks() {
+        var counts = engine.copy(source.getId(), target.getId(), request(true, true, true, true), ImportProgressListener.NONE);
+        entityManager.clear();
+
+        assertThat(counts).isEqualTo(new ProjectImportEngine.ImportCounts(2, 2, 1, 3));
+
+        List<Task> copiedTasks = tasks.findByProjectId(target.getId());
+        assertThat(copiedTasks).extracting(Task::getTitle).containsExactlyInAnyOrder("First", "Second");
+        Task copiedFirst = copiedTasks.stream().filter(t -> t.getTitle().equals("First")).findFirst().orElseThrow();
+        assertThat(copiedFirst.isActivity()).isTrue();
+        assertThat(copiedFirst.getEndDay()).isEqualTo(2);
+        assertThat(copiedFirst.getColor()).isEqualTo("#123456");
+
+        assertThat(tags.findByProjectId(target.getId())).singleElement()
+                .satisfies(tag -> assertThat(tag.getColor()).isEqualTo("#FF0000"));
+        assertThat(notes.findByProjectId(target.getId())).extracting(Note::getBody).containsExactly("project note");
+        assertThat(notes.findTaskNotesByProjectId(target.getId())).singleElement()
+                .satisfies(note -> assertThat(note.getTask().getId()).isEqualTo(copiedFirst.getId()));
+
+        Set<UUID> copiedTaskIds = copiedTasks.stream().map(Task::getId).collect(Collectors.toSet());
+        List<Action> copiedActions = actions.findByProjectId(target.getId());
+        assertThat(copiedActions).extracting(Action::getDetails).containsExactlyInAnyOrder("day one", "day two", "wrap up");
+        assertThat(copiedActions).allSatisfy(a -> assertThat(copiedTaskIds).contains(a.getTask().getId()));
+
+        // Source rows are untouched
+        assertThat(tasks.findByProjectId(source.getId())).hasSize(2);
+        assertThat(actions.findByProjectId(source.getId())).hasSize(3);
+    }
+
+    @Test
+    void skipsTaskOwnedRowsWhenTasksAreNotImported() {
+        var counts = engine.copy(source.getId(), target.getId(), request(false, true, true, true), ImportProgressListener.NONE);
+        entityManager.clear();
+
+        assertThat(counts).isEqualTo(new ProjectImportEngine.ImportCounts(0, 1, 1, 0));
+        assertThat(tasks.findByProjectId(target.getId())).isEmpty();
+        assertThat(actions.findByProjectId(target.getId())).isEmpty();
+        assertThat(notes.findByProjectId(target.getId())).hasSize(1);
+    }
+
+    @Test
+    void copiesOnlyRequestedEntityTypes() {
+        var counts = engine.copy(source.getId(), target.getId(), request(true, false, false, false), ImportProgressListener.NONE);
+        entityManager.clear();
+
+        assertThat(counts).isEqualTo(new ProjectImportEngine.ImportCounts(2, 0, 0, 0));
+        assertThat(tags.findByProjectId(target.getId())).isEmpty();
+        assertThat(notes.findByProjectId(target.getId())).isEmpty();
+        assertThat(notes.findTaskNotesByProjectId(target.getId())).isEmpty();
+    }
+
+    @Test
+    void recordsRowsAndDurationPerPhase() {
+        engine.copy(source.getId(), target.getId(), request(true, true, true, false), ImportProgressListener.NONE);
+
+        assertThat(rows("task")).isEqualTo(2);
+        assertThat(rows("note")).isEqualTo(2);
+        assertThat(rows("tag")).isEqualTo(1);
+        assertThat(rows("action")).isZero();
+        assertThat(meterRegistry.get("task_management.import.phase").tag("entity", "task").timer().count()).isEqualTo(1);
+        // Skipped phases are not timed
+        assertThat(meterRegistry.get("task_management.import.phase").tag("entity", "action").timer().count()).isZero();
+    }
+
+    private double rows(String entity) {
+        return meterRegistry.get("task_management.import.rows").tag("entity", entity).counter().count();
+    }
+
+    private ProjectImportReq request(boolean tasks, boolean notes, boolean tags, boolean actions) {
+        return new ProjectImportReq(source.getId(), "Copy", null, tasks, notes, tags, actions);
+    }
+
+    private Project project(String name) {
+        return Project.builder().name(name).startDate(LocalDate.of(2024, 1, 1)).build();
+    }
+
+    private Task task(String title, boolean activity, int startDay, int endDay) {
+        return Task.builder()
+                .project(source)
+                .title(title)
+                .description(title + " description")
+                .activity(activity)
+                .duration(60)
+                .startAt(Instant.parse("2024-01-01T00:00:00Z").plusSeconds(startDay * 86_400L))
+                .endAt(Instant.parse("2024-01-01T00:00:00Z").plusSeconds(endDay * 86_400L))
+                .startDay(startDay)
+                .endDay(endDay)
+                .color("#123456")
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.task_management.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.task_management.TestData;
+import com.task_management.entity.Action;
+import com.task_management.entity.Note;
+import com.task_management.entity.Project;
+import com.task_management.entity.Task;
+import com.task_management.exception.NotFoundException;
+import com.task_management.monitoring.PurgeMetrics;
+import com.task_management.repository.DatabasePlatform;
+import com.task_management.repository.ProjectPurgeRepository;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.TitleSuggestionRepository;
+import com.task_management.repository.TitleSuggestionRepository.Source;
+import com.task_management.service.TitleAutocompleteService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ProjectPurgeServiceImpl.class, ProjectPurgeRepository.class, PurgeMetrics.class, SimpleMeterRegistry.class,
+        TitleSuggestionRepository.class, DatabasePlatform.class})
+class ProjectPurgeIntegrationTest {
+
+    @Autowired
+    private ProjectPurgeServiceImpl purgeService;
+
+    @Autowired
+    private ProjectRepository projects;
+
+    @Autowired
+    private TitleSuggestionRepository titles;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @MockBean
+    private TitleAutocompleteService autocomplete;
+
+    private Project doomed;
+    private Project kept;
+
+    @BeforeEach
+    void setUp() {
+        doomed = seed("Doomed", 3);
+        kept = seed("Kept", 1);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void markDeleted_hidesProjectFromReadsImmediately() {
+        purgeService.markDeleted(doomed.getId());
+        entityManager.clear();
+
+        assertThat(projects.findById(doomed.getId())).isEmpty();
+        assertThat(projects.existsById(doomed.getId())).isFalse();
+        assertThat(projects.findPageIds(Pageable.unpaged()).getContent())
+                .doesNotContain(doomed.getId())
+                .contains(kept.getId());
+        assertThat(titles.findTitles(Source.TASK, doomed.getId(), 10)).isEmpty();
+        assertThat(titles.findTitles(Source.TASK, kept.getId(), 10)).hasSize(1);
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> purgeService.markDeleted(doomed.getId()))
+                .withMessage("Project not found");
+    }
+
+    @Test
+    void purgeChunk_removesRowsInBoundedChunksAndLeavesOtherProjectsAlone() {
+        purgeService.markDeleted(doomed.getId());
+        assertThat(purgeService.findPending(10)).containsExactly(doomed.getId());
+
+        List<Integer> chunks = new ArrayList<>();
+        int rows;
+        while ((rows = purgeService.purgeChunk(doomed.getId(), 2)) > 0) {
+            chunks.add(rows);
+        }
+
+        // 6 actions, 3 task notes, 3 tasks, 2 tags and 1 project note
+        assertThat(chunks).allMatch(chunk -> chunk <= 2);
+        assertThat(chunks.stream().mapToInt(Integer::intValue).sum()).isEqualTo(15);
+        assertThat(count("project", doomed)).isZero();
+        assertThat(purgeService.findPending(10)).isEmpty();
+        assertThat(count("project", kept)).isOne();
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM task WHERE project_id = ?", Long.class, kept.getId()))
+                .isOne();
+        assertThat(meterRegistry.get("task_management.purge.rows").tag("table", "action").counter().count())
+                .isEqualTo(6);
+        assertThat(meterRegistry.get("task_management.purge.projects").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void purgeChunk_neverDeletesLiveProject() {
+        assertThat(purgeService.purgeChunk(kept.getId(), 100)).isZero();
+
+        assertThat(count("project", kept)).isOne();
+    }
+
+    private long count(String table, Project project) {
+        return jdbc.queryForObject("SELECT count(*) FROM " + table + " WHERE id = ?", Long.class, project.getId());
+    }
+
+    private Project seed(String name, int taskCount) {
+        Project project = TestData.project(name).build();
+        entityManager.persist(project);
+        for (int i = 0; i < taskCount; i++) {
+            Task task = TestData.task(project).title(name + " task " + i).build();
+            entityManager.persist(task);
+            entityManager.persist(Action.builder().task(task).details("First").day(1).build());
+            entityManager.persist(Action.builder().task(task).details("Second").day(2).build());
+            entityManager.persist(Note.builder().task(task).body("Task note").build());
+        }
+        if (taskCount > 1) {
+            for (int i = 0; i < 2; i++) {
+                entityManager.persist(TestData.tag(project).title(name + " tag " + i).build());
+            }
+            entityManager.persist(Note.builder().project(project).body("Project note").build());
+        }
+        return project;
+    }
+}
@@ -0,0 +1,81 @@
+package com.task_management.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.task_management.service.ProjectPurgeService;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectPurgeWorkerTest {
+
+    @Mock
+    private ProjectPurgeService purgeService;
+
+    private ProjectPurgeWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new ProjectPurgeWorker(purgeService, 500, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void drain_purgesEachPendingProjectUntilItsRowIsGone() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(purgeService.findPending(anyInt())).thenReturn(List.of(first, second));
+        when(purgeService.purgeChunk(first, 500)).thenReturn(500, 120, 0);
+        when(purgeService.purgeChunk(second, 500)).thenReturn(0);
+
+        worker.drain();
+
+        var order = inOrder(purgeService);
+        order.verify(purgeService, times(3)).purgeChunk(first, 500);
+        order.verify(purgeService).purgeChunk(second, 500);
+    }
+
+    @Test
+    void drain_keepsGoingWhenOneProjectFails() {
+        UUID broken = UUID.randomUUID();
+        UUID next = UUID.randomUUID();
+        when(purgeService.findPending(anyInt())).thenReturn(List.of(broken, next));
+        when(purgeService.purgeChunk(eq(broken), anyInt())).thenThrow(new IllegalStateException("lock timeout"));
+        when(purgeService.purgeChunk(eq(next), anyInt())).thenReturn(0);
+
+        worker.drain();
+
+        verify(purgeService).purgeChunk(next, 500);
+    }
+
+    @Test
+    void drain_throttlesToConfiguredRowRate() {
+        worker = new ProjectPurgeWorker(purgeService, 100, 1_000);
+        UUID project = UUID.randomUUID();
+        when(purgeService.findPending(anyInt())).thenReturn(List.of(project));
+        when(purgeService.purgeChunk(project, 100)).thenReturn(100, 100, 0);
+
+        long start = System.nanoTime();
+        worker.drain();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // 200 rows at 1000 rows/s take at least 200 ms
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(190);
+    }
+}
@@ -0,0 +1,185 @@
+package com.task_management.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.task_management.dto.ProjectSearchRes;
+import com.task_management.dto.SearchHitRes;
+import com.task_management.dto.SearchHitType;
+import com.task_management.exception.BadRequestException;
+import com.task_management.exception.NotFoundException;
+import com.task_management.monitoring.SearchMetrics;
+import com.task_management.repository.DatabasePlatform;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.ProjectSearchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectSearchServiceImplTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectSearchRepository searchRepository;
+
+    @Mock
+    private DatabasePlatform databasePlatform;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProjectSearchServiceImpl searchService;
+    private final UUID projectId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchService = new ProjectSearchServiceImpl(projectRepository, searchRepository, databasePlatform,
+                new SearchMetrics(meterRegistry), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchService.shutdown();
+    }
+
+    @Test
+    void search_interleavesSourcesByRankNotScore() {
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        stubLike(SearchHitType.TASK, hit(SearchHitType.TASK, "t1", 1.0), hit(SearchHitType.TASK, "t2", 0.4));
+        stubLike(SearchHitType.TAG, hit(SearchHitType.TAG, "g1", 0.9));
+        stubLike(SearchHitType.NOTE, hit(SearchHitType.NOTE, "n1", 0.4), hit(SearchHitType.NOTE, "n2", 0.2));
+        stubLike(SearchHitType.ACTION, hit(SearchHitType.ACTION, "a1", 0.5));
+
+        ProjectSearchRes res = searchService.search(projectId, " review ", PageRequest.of(0, 10));
+
+        assertThat(res.content()).extracting(SearchHitRes::title)
+                .containsExactly("t1", "g1", "n1", "a1", "t2", "n2");
+        assertThat(res.hasNext()).isFalse();
+        verify(searchRepository).searchLike(SearchHitType.TASK, projectId, "review", 11);
+        assertThat(meterRegistry.get("task_management.search.latency").tag("type", "note").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void search_returnsRequestedWindowAndFlagsNextPage() {
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        stubLike(SearchHitType.TASK, hit(SearchHitType.TASK, "t1", 1.0), hit(SearchHitType.TASK, "t2", 0.8),
+                hit(SearchHitType.TASK, "t3", 0.1));
+        stubLike(SearchHitType.TAG, hit(SearchHitType.TAG, "g1", 0.9), hit(SearchHitType.TAG, "g2", 0.7));
+        stubLike(SearchHitType.NOTE);
+        stubLike(SearchHitType.ACTION);
+
+        ProjectSearchRes res = searchService.search(projectId, "review", PageRequest.of(1, 2));
+
+        assertThat(res.content()).extracting(SearchHitRes::title).containsExactly("t2", "g2");
+        assertThat(res.page()).isEqualTo(1);
+        assertThat(res.hasNext()).isTrue();
+        verify(searchRepository).searchLike(SearchHitType.TAG, projectId, "review", 5);
+    }
+
+    @Test
+    void search_onPostgres_usesFullTextQueries() {
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(databasePlatform.isPostgres()).thenReturn(true);
+        when(searchRepository.searchFullText(any(), eq(projectId), eq("design:* & review:*"), anyInt()))
+                .thenReturn(List.of());
+
+        ProjectSearchRes res = searchService.search(projectId, "Design review", PageRequest.of(0, 20));
+
+        assertThat(res.content()).isEmpty();
+        for (SearchHitType type : SearchHitType.values()) {
+            verify(searchRepository).searchFullText(type, projectId, "design:* & review:*", 21);
+        }
+        verify(searchRepository, never()).searchLike(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void search_whenSourceFails_propagatesError() {
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(searchRepository.searchLike(any(), eq(projectId), eq("review"), anyInt())).thenReturn(List.of());
+        when(searchRepository.searchLike(SearchHitType.NOTE, projectId, "review", 21))
+                .thenThrow(new IllegalStateException("boom"));
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> searchService.search(projectId, "review", PageRequest.of(0, 20)))
+                .withMessage("boom");
+    }
+
+    @Test
+    void search_runsAtMostConfiguredNumberOfSourceQueriesAtOnce() {
+        searchService.shutdown();
+        searchService = new ProjectSearchServiceImpl(projectRepository, searchRepository, databasePlatform,
+                new SearchMetrics(meterRegistry), 1);
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(searchRepository.searchLike(any(), eq(projectId), eq("review"), anyInt())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return List.of();
+        });
+
+        searchService.search(projectId, "review", PageRequest.of(0, 20));
+
+        verify(searchRepository, times(4)).searchLike(any(), eq(projectId), eq("review"), anyInt());
+        assertThat(maxRunning).hasValue(1);
+    }
+
+    @Test
+    void search_whenTextBlank_throwsBadRequest() {
+        assertThatExceptionOfType(BadRequestException.class)
+                .isThrownBy(() -> searchService.search(projectId, "  ", PageRequest.of(0, 20)))
+                .withMessage("Search text is required");
+    }
+
+    @Test
+    void search_whenPageTooDeep_throwsBadRequest() {
+        assertThatExceptionOfType(BadRequestException.class)
+                .isThrownBy(() -> searchService.search(projectId, "review", PageRequest.of(50, 20)));
+        verify(searchRepository, never()).searchLike(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void search_whenProjectMissing_throwsNotFound() {
+        when(projectRepository.existsById(projectId)).thenReturn(false);
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> searchService.search(projectId, "review", PageRequest.of(0, 20)))
+                .withMessage("Project not found");
+    }
+
+    @Test
+    void merge_stopsAtRequestedCount() {
+        List<SearchHitRes> merged = ProjectSearchServiceImpl.merge(List.of(
+                List.of(hit(SearchHitType.TASK, "t1", 0.9), hit(SearchHitType.TASK, "t2", 0.3)),
+                List.of(hit(SearchHitType.NOTE, "n1", 0.5))), 2);
+
+        assertThat(merged).extracting(SearchHitRes::title).containsExactly("t1", "n1");
+    }
+
+    private void stubLike(SearchHitType type, SearchHitRes... hits) {
+        when(searchRepository.searchLike(eq(type), eq(projectId), eq("review"), anyInt())).thenReturn(List.of(hits));
+    }
+
+    private static SearchHitRes hit(SearchHitType type, String title, double score) {
+        return new SearchHitRes(type, UUID.randomUUID(), null, title, null, score);
+    }
+}
@@ -3,18 +3,26 @@ package com.task_management.service.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.task_management.dto.ProjectCreateReq;
+import com.task_management.dto.ProjectImportReq;
+import com.task_management.dto.ProjectImportRes;
 import com.task_management.dto.ProjectRes;
+import com.task_management.dto.ProjectSummaryRes;
 import com.task_management.dto.ProjectUpdateReq;
 import com.task_management.entity.Project;
 import com.task_management.exception.BadRequestException;
 import com.task_management.exception.NotFoundException;
 import com.task_management.mapper.ProjectMapper;
+import com.task_management.repository.ProjectHeader;
 import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.ProjectVersionRepository;
+import com.task_management.service.ImportProgressListener;
+import com.task_management.service.Versioned;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
@@ -38,9 +46,15 @@ class ProjectServiceImplTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private ProjectVersionRepository projectVersionRepository;
+
     @Mock
     private ProjectMapper projectMapper;
 
+    @Mock
+    private ProjectImportEngine importEngine;
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -118,22 +132,84 @@ class ProjectServiceImplTest {
                 .withMessage("Project not found");
     }
 
+    @Test
+    void getSummary_whenProjectExists_returnsProjection() {
+        UUID id = project.getId();
+        ProjectSummaryRes summary = new ProjectSummaryRes(id, "Project Alpha", "Description",
+                project.getStartDate(), project.getCreatedAt(), project.getUpdatedAt(), 4, 1, 2, 3, 0, 9);
+        when(projectRepository.findSummaryById(id)).thenReturn(Optional.of(summary));
+
+        assertThat(projectService.getSummary(id)).isSameAs(summary);
+        verify(projectRepository, never()).findById(any());
+    }
+
+    @Test
+    void getSummary_whenProjectMissing_throwsNotFound() {
+        UUID id = UUID.randomUUID();
+        when(projectRepository.findSummaryById(id)).thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> projectService.getSummary(id))
+                .withMessage("Project not found");
+    }
+
+    @Test
+    void getVersioned_pairsTheBodyWithTheVersionReadInTheSameTransaction() {
+        UUID id = project.getId();
+        when(projectVersionRepository.findVersion(id)).thenReturn(Optional.of(5L));
+        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
+        when(projectMapper.toRes(project)).thenReturn(projectRes);
+
+        Versioned<ProjectRes> result = projectService.getVersioned(id);
+
+        assertThat(result.body()).isSameAs(projectRes);
+        assertThat(result.version()).isEqualTo(5L);
+    }
+
+    @Test
+    void getVersioned_whenProjectMissing_throwsNotFoundWithoutLoadingTheBody() {
+        UUID id = UUID.randomUUID();
+        when(projectVersionRepository.findVersion(id)).thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> projectService.getVersioned(id))
+                .withMessage("Project not found");
+        verify(projectRepository, never()).findById(any());
+    }
+
     @Test
     void list_returnsMappedPage() {
         Pageable pageable = PageRequest.of(0, 20);
-        Page<Project> page = new PageImpl<>(List.of(project), pageable, 1);
-        when(projectRepository.findAllByOrderByCreatedAtDesc(pageable)).thenReturn(page);
+        List<UUID> ids = List.of(project.getId());
+        Page<UUID> page = new PageImpl<>(ids, pageable, 1);
+        when(projectRepository.findPageIds(pageable)).thenReturn(page);
+        when(projectRepository.findAllWithTasksByIdIn(ids)).thenReturn(List.of(project));
+        when(projectRepository.findAllWithTagsByIdIn(ids)).thenReturn(List.of(project));
         when(projectMapper.toRes(project)).thenReturn(projectRes);
 
         Page<ProjectRes> result = projectService.list(pageable);
 
         assertThat(result.getContent()).containsExactly(projectRes);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void list_whenPageEmpty_skipsChildFetch() {
+        Pageable pageable = PageRequest.of(3, 20);
+        when(projectRepository.findPageIds(pageable)).thenReturn(new PageImpl<>(List.of(), pageable, 5));
+
+        Page<ProjectRes> result = projectService.list(pageable);
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isEqualTo(5);
+        verify(projectRepository, never()).findAllWithTasksByIdIn(any());
+        verify(projectRepository, never()).findAllWithTagsByIdIn(any());
     }
 
     @Test
     void update_whenProjectMissing_throwsNotFound() {
         UUID id = UUID.randomUUID();
-        when(projectRepository.findById(id)).thenReturn(Optional.empty());
+        when(projectRepository.findHeaderById(id)).thenReturn(Optional.empty());
 
         assertThatExceptionOfType(NotFoundException.class)
                 .isThrownBy(() -> projectService.update(id, new ProjectUpdateReq("Name", null, LocalDate.of(2024, 1, 10))))
@@ -143,7 +219,7 @@ class ProjectServiceImplTest {
     @Test
     void update_whenNewNameAlreadyExists_throwsBadRequest() {
         UUID id = project.getId();
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
+        when(projectRepository.findHeaderById(id)).thenReturn(Optional.of(header()));
         when(projectRepository.existsByNameIgnoreCase("Another")).thenReturn(true);
 
         assertThatExceptionOfType(BadRequestException.class)
@@ -157,7 +233,8 @@ class ProjectServiceImplTest {
     void update_whenValid_updatesEntityAndReturnsResponse() {
         UUID id = project.getId();
         ProjectUpdateReq request = new ProjectUpdateReq("Project Gamma", "Updated", LocalDate.of(2024, 1, 11));
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
+        when(projectRepository.findHeaderById(id)).thenReturn(Optional.of(header()));
+        when(projectRepository.getReferenceById(id)).thenReturn(project);
         when(projectRepository.existsByNameIgnoreCase("Project Gamma")).thenReturn(false);
         when(projectRepository.save(project)).thenReturn(project);
         when(projectMapper.toRes(project)).thenReturn(projectRes);
@@ -171,25 +248,84 @@ class ProjectServiceImplTest {
         verify(projectRepository).save(project);
     }
 
+    @Test
+    void importProject_whenSourceMissing_throwsNotFound() {
+        UUID sourceId = UUID.randomUUID();
+        when(projectRepository.findHeaderById(sourceId)).thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> projectService.importProject(
+                        new ProjectImportReq(sourceId, "Copy", null, true, true, true, true)))
+                .withMessage("Source project not found");
+
+        verify(importEngine, never()).copy(any(), any(), any(), any());
+    }
+
+    @Test
+    void importProject_whenTargetNameExists_throwsBadRequest() {
+        UUID sourceId = project.getId();
+        when(projectRepository.findHeaderById(sourceId)).thenReturn(Optional.of(header()));
+        when(projectRepository.existsByNameIgnoreCase("Copy")).thenReturn(true);
+
+        assertThatExceptionOfType(BadRequestException.class)
+                .isThrownBy(() -> projectService.importProject(
+                        new ProjectImportReq(sourceId, "Copy", null, true, true, true, true)))
+                .withMessage("Target project name already exists");
+
+        verify(projectRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void importProject_flushesNewProjectAndDelegatesCopyToEngine() {
+        UUID sourceId = project.getId();
+        ProjectImportReq request = new ProjectImportReq(sourceId, "Copy", null, true, true, true, true);
+        when(projectRepository.findHeaderById(sourceId)).thenReturn(Optional.of(header()));
+        when(projectRepository.getReferenceById(sourceId)).thenReturn(project);
+        when(projectRepository.existsByNameIgnoreCase("Copy")).thenReturn(false);
+        UUID newId = UUID.randomUUID();
+        when(projectRepository.saveAndFlush(any(Project.class))).thenAnswer(invocation -> {
+            Project saved = invocation.getArgument(0);
+            saved.setId(newId);
+            return saved;
+        });
+        when(importEngine.copy(sourceId, newId, request, ImportProgressListener.NONE))
+                .thenReturn(new ProjectImportEngine.ImportCounts(4, 3, 2, 10));
+
+        ProjectImportRes result = projectService.importProject(request);
+
+        assertThat(result.newProjectId()).isEqualTo(newId);
+        assertThat(result.importedTasksCount()).isEqualTo(4);
+        assertThat(result.importedNotesCount()).isEqualTo(3);
+        assertThat(result.importedTagsCount()).isEqualTo(2);
+        assertThat(result.importedActionsCount()).isEqualTo(10);
+        ArgumentCaptor<Project> captor = ArgumentCaptor.forClass(Project.class);
+        verify(projectRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().getDescription()).isEqualTo("Description");
+        assertThat(captor.getValue().getStartDate()).isEqualTo(project.getStartDate());
+        verify(importEngine).copy(eq(sourceId), eq(newId), eq(request), eq(ImportProgressListener.NONE));
+    }
+
     @Test
     void delete_whenProjectMissing_throwsNotFound() {
         UUID id = UUID.randomUUID();
-        when(projectRepository.existsById(id)).thenReturn(false);
+        when(projectRepository.deleteRowById(id)).thenReturn(0);
 
         assertThatExceptionOfType(NotFoundException.class)
                 .isThrownBy(() -> projectService.delete(id))
                 .withMessage("Project not found");
-
-        verify(projectRepository, never()).deleteById(id);
     }
 
     @Test
     void delete_whenProjectExists_deletesEntity() {
         UUID id = UUID.randomUUID();
-        when(projectRepository.existsById(id)).thenReturn(true);
+        when(projectRepository.deleteRowById(id)).thenReturn(1);
 
         projectService.delete(id);
 
-        verify(projectRepository).deleteById(id);
+        verify(projectRepository).deleteRowById(id);
+    }
+
+    private ProjectHeader header() {
+        return new ProjectHeader(project.getId(), project.getName(), project.getStartDate());
     }
 }
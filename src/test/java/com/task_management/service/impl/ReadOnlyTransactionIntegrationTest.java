@@ -0,0 +1,136 @@
+package com.task_management.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.task_management.TestData;
+import com.task_management.dto.NoteUpdateReq;
+import com.task_management.entity.Action;
+import com.task_management.entity.Note;
+import com.task_management.entity.Project;
+import com.task_management.entity.Task;
+import com.task_management.repository.ActionRepository;
+import com.task_management.repository.NoteRepository;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.TagRepository;
+import com.task_management.repository.TaskRepository;
+import com.task_management.service.ActionService;
+import com.task_management.service.NoteService;
+import com.task_management.service.ProjectService;
+import com.task_management.service.TagService;
+import com.task_management.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs the services through their real transaction boundaries: read-only query methods leave the session in
+ * flush mode MANUAL, so loading entities never ends in a dirty-checking flush at commit.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReadOnlyTransactionIntegrationTest {
+
+    private static final PageRequest PAGE = PageRequest.of(0, 20);
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private ActionService actionService;
+
+    @Autowired
+    private ProjectRepository projects;
+
+    @Autowired
+    private TaskRepository tasks;
+
+    @Autowired
+    private TagRepository tags;
+
+    @Autowired
+    private NoteRepository notes;
+
+    @Autowired
+    private ActionRepository actions;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Statistics statistics;
+    private UUID projectId;
+    private UUID taskId;
+    private UUID noteId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = TestData.statistics(entityManagerFactory);
+        Project project = projects.save(TestData.project("Read only").build());
+        Task task = tasks.save(TestData.task(project).build());
+        tags.save(TestData.tag(project).build());
+        actions.save(Action.builder().task(task).details("Action").day(1).build());
+        noteId = notes.save(Note.builder().project(project).body("Note").build()).getId();
+        notes.save(Note.builder().task(task).body("Task note").build());
+        projectId = project.getId();
+        taskId = task.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestData.deleteProject(jdbc, projectId);
+    }
+
+    @Test
+    void queryMethods_loadEntitiesWithoutFlushing() {
+        statistics.clear();
+
+        projectService.get(projectId);
+        projectService.getSummary(projectId);
+        projectService.list(PAGE);
+        projectService.listSummaries(PAGE);
+        taskService.get(taskId);
+        taskService.listInProject(projectId, PAGE);
+        taskService.listInProjectByCursor(projectId, null, 20);
+        taskService.searchInProject(projectId, "task", PAGE);
+        tagService.listInProject(projectId, PAGE);
+        tagService.listInProjectByCursor(projectId, null, 20);
+        noteService.listForProject(projectId, PAGE);
+        noteService.listForTask(taskId, PAGE);
+        noteService.listForProjectByCursor(projectId, null, 20);
+        noteService.listForTaskByCursor(taskId, null, 20);
+        actionService.listInTask(taskId, PAGE);
+        actionService.listInTaskByCursor(taskId, null, 20);
+
+        assertThat(statistics.getEntityLoadCount()).isPositive();
+        assertThat(statistics.getFlushCount()).isZero();
+    }
+
+    @Test
+    void writeMethods_stillFlushAtCommit() {
+        statistics.clear();
+
+        noteService.update(noteId, new NoteUpdateReq("Edited"));
+
+        assertThat(statistics.getFlushCount()).isPositive();
+        assertThat(notes.findById(noteId)).get().extracting(Note::getBody).isEqualTo("Edited");
+    }
+}
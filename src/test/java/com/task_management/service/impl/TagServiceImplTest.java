@@ -3,6 +3,7 @@ package com.task_management.service.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -15,8 +16,14 @@ import com.task_management.entity.Tag;
 import com.task_management.exception.BadRequestException;
 import com.task_management.exception.NotFoundException;
 import com.task_management.mapper.TagMapper;
+import com.task_management.repository.ChangeFeedRepository;
+import com.task_management.repository.DatabasePlatform;
+import com.task_management.repository.ProjectHeader;
 import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.ProjectVersionRepository;
 import com.task_management.repository.TagRepository;
+import com.task_management.repository.TitleSuggestionRepository;
+import com.task_management.service.TitleAutocompleteService;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -36,6 +43,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 @ExtendWith(MockitoExtension.class)
 class TagServiceImplTest {
@@ -46,9 +54,24 @@ class TagServiceImplTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private ProjectVersionRepository projectVersionRepository;
+
+    @Mock
+    private ChangeFeedRepository changeFeedRepository;
+
+    @Mock
+    private ProjectEventPublisher projectEventPublisher;
+
     @Mock
     private TagMapper tagMapper;
 
+    @Mock
+    private DatabasePlatform databasePlatform;
+
+    @Mock
+    private TitleAutocompleteService titleAutocompleteService;
+
     @InjectMocks
     private TagServiceImpl tagService;
 
@@ -97,7 +120,7 @@ class TagServiceImplTest {
     void create_whenProjectMissing_throwsNotFound() {
         UUID projectId = UUID.randomUUID();
         TagCreateReq request = new TagCreateReq(projectId, "Title", null, false, 30, Instant.now(), Instant.now(), null);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
+        when(projectRepository.findHeaderById(projectId)).thenReturn(Optional.empty());
 
         assertThatExceptionOfType(NotFoundException.class)
                 .isThrownBy(() -> tagService.create(request))
@@ -108,7 +131,7 @@ class TagServiceImplTest {
     void create_whenEndAtMissing_throwsBadRequest() {
         UUID projectId = project.getId();
         TagCreateReq request = new TagCreateReq(projectId, "Title", null, false, 30, Instant.now(), null, null);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.findHeaderById(projectId)).thenReturn(Optional.of(header()));
 
         assertThatExceptionOfType(BadRequestException.class)
                 .isThrownBy(() -> tagService.create(request))
@@ -121,7 +144,7 @@ class TagServiceImplTest {
     void create_whenStartAtMissing_throwsBadRequest() {
         UUID projectId = project.getId();
         TagCreateReq request = new TagCreateReq(projectId, "Title", null, false, 30, null, Instant.now(), null);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.findHeaderById(projectId)).thenReturn(Optional.of(header()));
 
         assertThatExceptionOfType(BadRequestException.class)
                 .isThrownBy(() -> tagService.create(request))
@@ -134,7 +157,8 @@ class TagServiceImplTest {
     void create_whenTitleBlankAfterTrim_throwsBadRequest() {
         UUID projectId = project.getId();
         TagCreateReq request = new TagCreateReq(projectId, "   ", null, false, 30, Instant.now(), Instant.now(), null);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.findHeaderById(projectId)).thenReturn(Optional.of(header()));
+        when(projectRepository.getReferenceById(project.getId())).thenReturn(project);
 
         assertThatExceptionOfType(BadRequestException.class)
                 .isThrownBy(() -> tagService.create(request))
@@ -147,7 +171,8 @@ class TagServiceImplTest {
         Instant startAt = Instant.parse("2024-01-01T00:00:00Z");
         Instant endAt = Instant.parse("2024-02-01T00:00:00Z");
         TagCreateReq request = new TagCreateReq(projectId, "  Important Tag  ", "Desc", true, 30, startAt, endAt, "  #112233  ");
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.findHeaderById(projectId)).thenReturn(Optional.of(header()));
+        when(projectRepository.getReferenceById(project.getId())).thenReturn(project);
         when(tagRepository.save(any(Tag.class))).thenReturn(tag);
         when(tagMapper.toRes(tag)).thenReturn(tagRes);
 
@@ -175,7 +200,8 @@ class TagServiceImplTest {
         Instant startAt = project.getStartDate().atStartOfDay().atOffset(ZoneOffset.ofHours(5)).toInstant();
         Instant endAt = project.getStartDate().plusDays(1).atStartOfDay().atOffset(ZoneOffset.ofHours(5)).toInstant();
         TagCreateReq request = new TagCreateReq(projectId, "Offset Tag", null, false, 45, startAt, endAt, null);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.findHeaderById(projectId)).thenReturn(Optional.of(header()));
+        when(projectRepository.getReferenceById(project.getId())).thenReturn(project);
         when(tagRepository.save(any(Tag.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(tagMapper.toRes(any(Tag.class))).thenReturn(tagRes);
 
@@ -195,7 +221,8 @@ class TagServiceImplTest {
         Instant startAt = project.getStartDate().minusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
         Instant endAt = startAt.plus(Duration.ofDays(2));
         TagCreateReq request = new TagCreateReq(projectId, "Early", null, false, 30, startAt, endAt, null);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.findHeaderById(projectId)).thenReturn(Optional.of(header()));
+        when(projectRepository.getReferenceById(project.getId())).thenReturn(project);
 
         assertThatExceptionOfType(BadRequestException.class)
                 .isThrownBy(() -> tagService.create(request))
@@ -250,6 +277,52 @@ class TagServiceImplTest {
         assertThat(result.getContent()).containsExactly(tagRes);
     }
 
+    @Test
+    void searchInProject_onPostgres_usesRankedFullTextQuery() {
+        UUID projectId = project.getId();
+        Pageable pageable = PageRequest.of(1, 10, Sort.by("title"));
+        Page<Tag> page = new PageImpl<>(List.of(tag), PageRequest.of(1, 10), 11);
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(databasePlatform.isPostgres()).thenReturn(true);
+        when(tagRepository.fullTextSearchInProject(eq(projectId), eq("plan:* & rev:*"), any(Pageable.class))).thenReturn(page);
+        when(tagMapper.toRes(tag)).thenReturn(tagRes);
+
+        Page<TagRes> result = tagService.searchInProject(projectId, " Plan, rev ", pageable);
+
+        assertThat(result.getContent()).containsExactly(tagRes);
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(tagRepository).fullTextSearchInProject(eq(projectId), eq("plan:* & rev:*"), captor.capture());
+        assertThat(captor.getValue().getPageNumber()).isEqualTo(1);
+        assertThat(captor.getValue().getSort().isUnsorted()).isTrue();
+        verify(tagRepository, never()).searchInProject(any(), any(), any());
+    }
+
+    @Test
+    void searchInProject_onOtherDatabases_fallsBackToLike() {
+        UUID projectId = project.getId();
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Tag> page = new PageImpl<>(List.of(tag), pageable, 1);
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(databasePlatform.isPostgres()).thenReturn(false);
+        when(tagRepository.searchInProject(projectId, "plan", pageable)).thenReturn(page);
+        when(tagMapper.toRes(tag)).thenReturn(tagRes);
+
+        Page<TagRes> result = tagService.searchInProject(projectId, " plan ", pageable);
+
+        assertThat(result.getContent()).containsExactly(tagRes);
+        verify(tagRepository, never()).fullTextSearchInProject(any(), any(), any());
+    }
+
+    @Test
+    void searchInProject_whenProjectMissing_throwsNotFound() {
+        UUID projectId = UUID.randomUUID();
+        when(projectRepository.existsById(projectId)).thenReturn(false);
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> tagService.searchInProject(projectId, "plan", PageRequest.of(0, 10)))
+                .withMessage("Project not found");
+    }
+
     @Test
     void update_whenTagMissing_throwsNotFound() {
         UUID tagId = UUID.randomUUID();
@@ -290,6 +363,7 @@ class TagServiceImplTest {
                 Instant.parse("2024-01-11T00:00:00Z"),
                 Instant.parse("2024-01-12T00:00:00Z"), "  #445566  ");
         when(tagRepository.findById(tagId)).thenReturn(Optional.of(tag));
+        when(projectRepository.findHeaderById(project.getId())).thenReturn(Optional.of(header()));
         when(tagRepository.save(tag)).thenReturn(tag);
         when(tagMapper.toRes(tag)).thenReturn(tagRes);
 
@@ -303,22 +377,29 @@ class TagServiceImplTest {
     @Test
     void delete_whenTagMissing_throwsNotFound() {
         UUID tagId = UUID.randomUUID();
-        when(tagRepository.existsById(tagId)).thenReturn(false);
+        when(projectVersionRepository.bumpForTag(tagId)).thenReturn(Optional.empty());
 
         assertThatExceptionOfType(NotFoundException.class)
                 .isThrownBy(() -> tagService.delete(tagId))
                 .withMessage("Tag not found");
 
-        verify(tagRepository, never()).deleteById(tagId);
+        verify(changeFeedRepository, never()).recordTagDeletion(any(), any());
+        verify(tagRepository, never()).deleteRowById(tagId);
     }
 
     @Test
     void delete_whenTagExists_deletesEntity() {
         UUID tagId = UUID.randomUUID();
-        when(tagRepository.existsById(tagId)).thenReturn(true);
+        when(projectVersionRepository.bumpForTag(tagId)).thenReturn(Optional.of(project.getId()));
+        when(tagRepository.deleteRowById(tagId)).thenReturn(1);
 
         tagService.delete(tagId);
 
-        verify(tagRepository).deleteById(tagId);
+        verify(tagRepository).deleteRowById(tagId);
+        verify(titleAutocompleteService).invalidate(TitleSuggestionRepository.Source.TAG, project.getId());
+    }
+
+    private ProjectHeader header() {
+        return new ProjectHeader(project.getId(), project.getName(), project.getStartDate());
     }
 }
@@ -3,21 +3,35 @@ package com.task_management.service.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.task_management.dto.BulkOperation;
+import com.task_management.dto.CursorPageRes;
+import com.task_management.dto.TaskBulkItemReq;
+import com.task_management.dto.TaskBulkItemRes;
+import com.task_management.dto.TaskBulkReq;
+import com.task_management.dto.TaskBulkRes;
 import com.task_management.dto.TaskCreateReq;
 import com.task_management.dto.TaskRes;
 import com.task_management.dto.TaskUpdateReq;
+import com.task_management.entity.ChangeEntityType;
 import com.task_management.entity.Project;
 import com.task_management.entity.Task;
 import com.task_management.exception.BadRequestException;
 import com.task_management.exception.NotFoundException;
 import com.task_management.mapper.TaskMapper;
 import com.task_management.monitoring.TaskMetrics;
+import com.task_management.repository.ChangeFeedRepository;
+import com.task_management.repository.DatabasePlatform;
+import com.task_management.repository.ProjectHeader;
 import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.ProjectVersionRepository;
 import com.task_management.repository.TaskRepository;
+import com.task_management.repository.TitleSuggestionRepository;
+import com.task_management.service.TitleAutocompleteService;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
@@ -30,10 +44,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 @ExtendWith(MockitoExtension.class)
 class TaskServiceImplTest {
@@ -44,12 +60,27 @@ class TaskServiceImplTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private ProjectVersionRepository projectVersionRepository;
+
+    @Mock
+    private ChangeFeedRepository changeFeedRepository;
+
+    @Mock
+    private ProjectEventPublisher projectEventPublisher;
+
     @Mock
     private TaskMapper taskMapper;
 
     @Mock
     private TaskMetrics taskMetrics;
 
+    @Mock
+    private DatabasePlatform databasePlatform;
+
+    @Mock
+    private TitleAutocompleteService titleAutocompleteService;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -98,7 +129,7 @@ class TaskServiceImplTest {
     void create_whenProjectMissing_throwsNotFound() {
         UUID projectId = UUID.randomUUID();
         TaskCreateReq request = new TaskCreateReq(projectId, "Title", null, false, 30, Instant.now(), Instant.now(), null);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
+        when(projectRepository.findHeaderById(projectId)).thenReturn(Optional.empty());
 
         assertThatExceptionOfType(NotFoundException.class)
                 .isThrownBy(() -> taskService.create(request))
@@ -109,7 +140,8 @@ class TaskServiceImplTest {
     void create_whenEndAtMissing_throwsBadRequest() {
         UUID projectId = project.getId();
         TaskCreateReq request = new TaskCreateReq(projectId, "Title", null, false, 30, Instant.now(), null, null);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.findHeaderById(projectId)).thenReturn(Optional.of(header()));
+        when(projectRepository.getReferenceById(project.getId())).thenReturn(project);
 
         assertThatExceptionOfType(BadRequestException.class)
                 .isThrownBy(() -> taskService.create(request))
@@ -122,7 +154,8 @@ class TaskServiceImplTest {
     void create_whenStartAtMissing_throwsBadRequest() {
         UUID projectId = project.getId();
         TaskCreateReq request = new TaskCreateReq(projectId, "Title", null, false, 30, null, Instant.now(), null);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.findHeaderById(projectId)).thenReturn(Optional.of(header()));
+        when(projectRepository.getReferenceById(project.getId())).thenReturn(project);
 
         assertThatExceptionOfType(BadRequestException.class)
                 .isThrownBy(() -> taskService.create(request))
@@ -135,7 +168,8 @@ class TaskServiceImplTest {
     void create_whenTitleBlankAfterTrim_throwsBadRequest() {
         UUID projectId = project.getId();
         TaskCreateReq request = new TaskCreateReq(projectId, "   ", null, false, 30, Instant.now(), Instant.now(), null);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.findHeaderById(projectId)).thenReturn(Optional.of(header()));
+        when(projectRepository.getReferenceById(project.getId())).thenReturn(project);
 
         assertThatExceptionOfType(BadRequestException.class)
                 .isThrownBy(() -> taskService.create(request))
@@ -148,7 +182,8 @@ class TaskServiceImplTest {
         Instant startAt = Instant.parse("2024-01-01T00:00:00Z");
         Instant endAt = Instant.parse("2024-02-01T00:00:00Z");
         TaskCreateReq request = new TaskCreateReq(projectId, "  Important Task  ", "Desc", true, 30, startAt, endAt, "  #123456  ");
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.findHeaderById(projectId)).thenReturn(Optional.of(header()));
+        when(projectRepository.getReferenceById(project.getId())).thenReturn(project);
         when(taskRepository.save(any(Task.class))).thenReturn(task);
         when(taskMapper.toRes(task)).thenReturn(taskRes);
 
@@ -217,6 +252,83 @@ class TaskServiceImplTest {
         assertThat(result.getContent()).containsExactly(taskRes);
     }
 
+    @Test
+    void searchInProject_onPostgres_usesRankedFullTextQuery() {
+        UUID projectId = project.getId();
+        Pageable pageable = PageRequest.of(1, 10, Sort.by("title"));
+        Page<Task> page = new PageImpl<>(List.of(task), PageRequest.of(1, 10), 11);
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(databasePlatform.isPostgres()).thenReturn(true);
+        when(taskRepository.fullTextSearchInProject(eq(projectId), eq("plan:* & rev:*"), any(Pageable.class))).thenReturn(page);
+        when(taskMapper.toRes(task)).thenReturn(taskRes);
+
+        Page<TaskRes> result = taskService.searchInProject(projectId, " Plan, rev ", pageable);
+
+        assertThat(result.getContent()).containsExactly(taskRes);
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(taskRepository).fullTextSearchInProject(eq(projectId), eq("plan:* & rev:*"), captor.capture());
+        assertThat(captor.getValue().getPageNumber()).isEqualTo(1);
+        assertThat(captor.getValue().getSort().isUnsorted()).isTrue();
+        verify(taskRepository, never()).searchInProject(any(), any(), any());
+    }
+
+    @Test
+    void searchInProject_onOtherDatabases_fallsBackToLike() {
+        UUID projectId = project.getId();
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Task> page = new PageImpl<>(List.of(task), pageable, 1);
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(databasePlatform.isPostgres()).thenReturn(false);
+        when(taskRepository.searchInProject(projectId, "plan", pageable)).thenReturn(page);
+        when(taskMapper.toRes(task)).thenReturn(taskRes);
+
+        Page<TaskRes> result = taskService.searchInProject(projectId, " plan ", pageable);
+
+        assertThat(result.getContent()).containsExactly(taskRes);
+        verify(taskRepository, never()).fullTextSearchInProject(any(), any(), any());
+    }
+
+    @Test
+    void searchInProject_whenProjectMissing_throwsNotFound() {
+        UUID projectId = UUID.randomUUID();
+        when(projectRepository.existsById(projectId)).thenReturn(false);
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> taskService.searchInProject(projectId, "plan", PageRequest.of(0, 10)))
+                .withMessage("Project not found");
+    }
+
+    @Test
+    void listInProjectByCursor_firstPage_returnsNextCursorFromLastRow() {
+        UUID projectId = project.getId();
+        Task next = new Task();
+        next.setId(UUID.randomUUID());
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(taskRepository.findFirstByProject(projectId, Limit.of(2))).thenReturn(List.of(task, next));
+        when(taskMapper.toRes(task)).thenReturn(taskRes);
+
+        CursorPageRes<TaskRes> page = taskService.listInProjectByCursor(projectId, null, 1);
+
+        assertThat(page.content()).containsExactly(taskRes);
+        var position = KeysetCursors.decodeInstant("task", page.nextCursor());
+        assertThat(position.key()).isEqualTo(task.getEndAt());
+        assertThat(position.id()).isEqualTo(task.getId());
+    }
+
+    @Test
+    void listInProjectByCursor_withCursor_seeksAfterPosition() {
+        UUID projectId = project.getId();
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(taskRepository.findByProjectAfter(projectId, task.getEndAt(), task.getId(), Limit.of(11)))
+                .thenReturn(List.of());
+
+        CursorPageRes<TaskRes> page = taskService.listInProjectByCursor(projectId,
+                KeysetCursors.encode("task", task.getEndAt(), task.getId()), 10);
+
+        assertThat(page.content()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+    }
+
     @Test
     void update_whenTaskMissing_throwsNotFound() {
         UUID taskId = UUID.randomUUID();
@@ -231,6 +343,7 @@ class TaskServiceImplTest {
     void update_whenTitleBecomesBlank_throwsBadRequest() {
         UUID taskId = task.getId();
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(projectRepository.findHeaderById(project.getId())).thenReturn(Optional.of(header()));
 
         assertThatExceptionOfType(BadRequestException.class)
                 .isThrownBy(() -> taskService.update(taskId, new TaskUpdateReq("   ", null, null, null, null, null, null)))
@@ -250,6 +363,7 @@ class TaskServiceImplTest {
         existing.setEndAt(null);
         UUID taskId = existing.getId();
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(existing));
+        when(projectRepository.findHeaderById(project.getId())).thenReturn(Optional.of(header()));
 
         assertThatExceptionOfType(BadRequestException.class)
                 .isThrownBy(() -> taskService.update(taskId, new TaskUpdateReq(null, null, null, null, null, null, null)))
@@ -271,6 +385,7 @@ class TaskServiceImplTest {
         existing.setEndAt(Instant.parse("2024-01-10T00:00:00Z"));
         UUID taskId = existing.getId();
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(existing));
+        when(projectRepository.findHeaderById(project.getId())).thenReturn(Optional.of(header()));
 
         assertThatExceptionOfType(BadRequestException.class)
                 .isThrownBy(() -> taskService.update(taskId, new TaskUpdateReq(null, null, null, null, null, null, null)))
@@ -285,6 +400,7 @@ class TaskServiceImplTest {
         TaskUpdateReq request = new TaskUpdateReq("  Updated Title  ", "New Desc", false, 45,
                 Instant.parse("2024-02-01T00:00:00Z"), Instant.parse("2024-03-01T00:00:00Z"), "  #654321  ");
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(projectRepository.findHeaderById(project.getId())).thenReturn(Optional.of(header()));
         when(taskRepository.save(task)).thenReturn(task);
         when(taskMapper.toRes(task)).thenReturn(taskRes);
 
@@ -307,23 +423,82 @@ class TaskServiceImplTest {
     @Test
     void delete_whenTaskMissing_throwsNotFound() {
         UUID taskId = UUID.randomUUID();
-        when(taskRepository.existsById(taskId)).thenReturn(false);
+        when(projectVersionRepository.bumpForTask(taskId)).thenReturn(Optional.empty());
 
         assertThatExceptionOfType(NotFoundException.class)
                 .isThrownBy(() -> taskService.delete(taskId))
                 .withMessage("Task not found");
 
-        verify(taskRepository, never()).deleteById(taskId);
+        verify(changeFeedRepository, never()).recordTaskDeletion(any(), any());
+        verify(taskRepository, never()).deleteRowById(taskId);
     }
 
     @Test
     void delete_whenTaskExists_deletesEntity() {
         UUID taskId = UUID.randomUUID();
-        when(taskRepository.existsById(taskId)).thenReturn(true);
+        when(projectVersionRepository.bumpForTask(taskId)).thenReturn(Optional.of(project.getId()));
+        when(taskRepository.deleteRowById(taskId)).thenReturn(1);
 
         taskService.delete(taskId);
 
-        verify(taskRepository).deleteById(taskId);
+        verify(taskRepository).deleteRowById(taskId);
+        verify(titleAutocompleteService).invalidate(TitleSuggestionRepository.Source.TASK, project.getId());
         verify(taskMetrics).incrementDeleted();
     }
+
+    @Test
+    void bulk_whenProjectMissing_throwsNotFound() {
+        UUID projectId = UUID.randomUUID();
+        when(projectRepository.findHeaderById(projectId)).thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> taskService.bulk(new TaskBulkReq(projectId, List.of(
+                        new TaskBulkItemReq(BulkOperation.DELETE, UUID.randomUUID(),
+                                null, null, null, null, null, null, null)))))
+                .withMessage("Project not found");
+
+        verify(taskRepository, never()).findAllInProject(any(), any());
+    }
+
+    @Test
+    void bulk_appliesItemsInOrderAndReportsEachOutcome() {
+        UUID missing = UUID.randomUUID();
+        when(projectRepository.findHeaderById(project.getId())).thenReturn(Optional.of(header()));
+        when(projectRepository.getReferenceById(project.getId())).thenReturn(project);
+        when(taskRepository.findAllInProject(eq(project.getId()), any())).thenReturn(List.of(task));
+        when(taskMapper.toRes(any())).thenReturn(taskRes);
+
+        TaskBulkRes result = taskService.bulk(new TaskBulkReq(project.getId(), List.of(
+                new TaskBulkItemReq(BulkOperation.CREATE, null, " New ", null, null, 30,
+                        Instant.parse("2024-01-02T00:00:00Z"), Instant.parse("2024-01-03T00:00:00Z"), null),
+                new TaskBulkItemReq(BulkOperation.UPDATE, missing, "X", null, null, null, null, null, null),
+                new TaskBulkItemReq(BulkOperation.UPDATE, task.getId(), "   ", null, null, null, null, null, null),
+                new TaskBulkItemReq(BulkOperation.DELETE, task.getId(), null, null, null, null, null, null, null),
+                new TaskBulkItemReq(BulkOperation.DELETE, task.getId(), null, null, null, null, null, null, null))));
+
+        assertThat(result.results()).extracting(TaskBulkItemRes::status).containsExactly(201, 404, 400, 204, 404);
+        assertThat(result.results().get(2).error()).isEqualTo("Task title cannot be blank");
+        assertThat(result.succeeded()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(3);
+        assertThat(task.getTitle()).isEqualTo("Task");
+
+        ArgumentCaptor<List<Task>> created = ArgumentCaptor.captor();
+        verify(taskRepository).saveAll(created.capture());
+        assertThat(created.getValue()).singleElement().satisfies(t -> {
+            assertThat(t.getTitle()).isEqualTo("New");
+            assertThat(t.getStartDay()).isEqualTo(1);
+            assertThat(t.getEndDay()).isEqualTo(2);
+        });
+        verify(taskRepository).deleteAllByIdInBatch(List.of(task.getId()));
+        verify(titleAutocompleteService).invalidate(TitleSuggestionRepository.Source.TASK, project.getId());
+        verify(taskMetrics).incrementCreated();
+        verify(taskMetrics).incrementDeleted();
+        verify(taskMetrics, never()).incrementUpdated();
+        verify(projectEventPublisher).publishBulk(project.getId(), ChangeEntityType.TASK);
+        verify(projectEventPublisher, never()).publish(any(), any(), any(), any());
+    }
+
+    private ProjectHeader header() {
+        return new ProjectHeader(project.getId(), project.getName(), project.getStartDate());
+    }
 }
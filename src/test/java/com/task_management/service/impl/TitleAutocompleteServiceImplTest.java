@@ -0,0 +1,122 @@
+package com.task_management.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.task_management.dto.TitleSuggestionRes;
+import com.task_management.exception.BadRequestException;
+import com.task_management.exception.NotFoundException;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.TitleSuggestionRepository;
+import com.task_management.repository.TitleSuggestionRepository.Source;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TitleAutocompleteServiceImplTest {
+
+    @Mock
+    private TitleSuggestionRepository titleRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private TitleAutocompleteServiceImpl autocomplete;
+    private final UUID projectId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        autocomplete = new TitleAutocompleteServiceImpl(titleRepository, projectRepository, 60_000, 3, 10);
+    }
+
+    @Test
+    void suggest_servesPrefixesFromSortedSnapshot() {
+        when(titleRepository.findTitles(Source.TASK, projectId, 4)).thenReturn(List.of(
+                title("Review budget"), title("design review"), title("Design sprint")));
+
+        List<TitleSuggestionRes> first = autocomplete.suggest(Source.TASK, projectId, "De", 2);
+        List<TitleSuggestionRes> second = autocomplete.suggest(Source.TASK, projectId, "re", 1);
+
+        assertThat(first).extracting(TitleSuggestionRes::title).containsExactly("design review", "Design sprint");
+        assertThat(second).extracting(TitleSuggestionRes::title).containsExactly("Review budget");
+        verify(titleRepository, times(1)).findTitles(any(), any(), anyInt());
+        verify(titleRepository, never()).findSimilar(any(), any(), anyString(), anyInt());
+    }
+
+    @Test
+    void suggest_fillsWithFuzzyMatchesAndCachesTheAnswer() {
+        when(titleRepository.findTitles(Source.TAG, projectId, 4)).thenReturn(List.of(title("Design review")));
+        when(titleRepository.findSimilar(Source.TAG, projectId, "desgn", 5))
+                .thenReturn(List.of(title("Design review"), title("Designer sync")));
+
+        List<TitleSuggestionRes> first = autocomplete.suggest(Source.TAG, projectId, "desgn", 5);
+        List<TitleSuggestionRes> again = autocomplete.suggest(Source.TAG, projectId, "DESGN ", 5);
+
+        assertThat(first).extracting(TitleSuggestionRes::title).containsExactly("Design review", "Designer sync");
+        assertThat(again).isEqualTo(first);
+        verify(titleRepository, times(1)).findSimilar(any(), any(), anyString(), anyInt());
+    }
+
+    @Test
+    void suggest_whenProjectTooLargeToIndex_queriesPrefixInDatabase() {
+        when(titleRepository.findTitles(Source.TASK, projectId, 4))
+                .thenReturn(List.of(title("a1"), title("a2"), title("a3"), title("a4")));
+        when(titleRepository.findByPrefix(Source.TASK, projectId, "a", 2)).thenReturn(List.of(title("a1"), title("a2")));
+
+        assertThat(autocomplete.suggest(Source.TASK, projectId, "a", 2))
+                .extracting(TitleSuggestionRes::title)
+                .containsExactly("a1", "a2");
+    }
+
+    @Test
+    void invalidate_reloadsTitlesOnNextSuggest() {
+        when(titleRepository.findTitles(Source.TASK, projectId, 4))
+                .thenReturn(List.of(title("Old")))
+                .thenReturn(List.of(title("Old"), title("Onboarding")));
+
+        assertThat(autocomplete.suggest(Source.TASK, projectId, "o", 5)).hasSize(1);
+        autocomplete.invalidate(Source.TASK, projectId);
+
+        assertThat(autocomplete.suggest(Source.TASK, projectId, "o", 5))
+                .extracting(TitleSuggestionRes::title)
+                .containsExactly("Old", "Onboarding");
+    }
+
+    @Test
+    void suggest_whenProjectMissing_throwsNotFound() {
+        when(titleRepository.findTitles(Source.TASK, projectId, 4)).thenReturn(List.of());
+        when(projectRepository.existsById(projectId)).thenReturn(false);
+
+        assertThatExceptionOfType(NotFoundException.class)
+                .isThrownBy(() -> autocomplete.suggest(Source.TASK, projectId, "x", 5))
+                .withMessage("Project not found");
+    }
+
+    @Test
+    void suggest_withBlankText_returnsNothing() {
+        assertThat(autocomplete.suggest(Source.TASK, projectId, "  ", 5)).isEmpty();
+        verify(titleRepository, never()).findTitles(any(), any(), anyInt());
+    }
+
+    @Test
+    void suggest_withLimitOutOfRange_throwsBadRequest() {
+        assertThatExceptionOfType(BadRequestException.class)
+                .isThrownBy(() -> autocomplete.suggest(Source.TASK, projectId, "x", 26));
+    }
+
+    private static TitleSuggestionRes title(String title) {
+        return new TitleSuggestionRes(UUID.randomUUID(), title);
+    }
+}
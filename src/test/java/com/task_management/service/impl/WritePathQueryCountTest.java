@@ -0,0 +1,184 @@
+package com.task_management.service.impl;
+
+import static com.task_management.TestData.BASE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.task_management.TestData;
+import com.task_management.dto.BulkOperation;
+import com.task_management.dto.NoteCreateReq;
+import com.task_management.dto.ProjectImportReq;
+import com.task_management.dto.ProjectUpdateReq;
+import com.task_management.dto.TagCreateReq;
+import com.task_management.dto.TagUpdateReq;
+import com.task_management.dto.TaskBulkItemReq;
+import com.task_management.dto.TaskBulkReq;
+import com.task_management.dto.TaskCreateReq;
+import com.task_management.dto.TaskUpdateReq;
+import com.task_management.entity.Project;
+import com.task_management.entity.Tag;
+import com.task_management.entity.Task;
+import com.task_management.repository.ProjectRepository;
+import com.task_management.repository.TagRepository;
+import com.task_management.repository.TaskRepository;
+import com.task_management.service.NoteService;
+import com.task_management.service.ProjectService;
+import com.task_management.service.TagService;
+import com.task_management.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Statement and row counts of the service write paths against a project with {@value #CHILDREN} tasks and as many
+ * tags. Child writes validate against the project header and never hydrate the project's tasks or tags; the old
+ * {@code findById} entity graph loaded all of them through a tasks x tags join.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class WritePathQueryCountTest {
+
+    private static final int CHILDREN = 30;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projects;
+
+    @Autowired
+    private TaskRepository tasks;
+
+    @Autowired
+    private TagRepository tags;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private Statistics statistics;
+    private Project project;
+    private Task task;
+    private Tag tag;
+    private final List<UUID> createdProjects = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = TestData.statistics(entityManagerFactory);
+        project = projects.save(TestData.project("Writes").description("Seeded").build());
+        for (int i = 0; i < CHILDREN; i++) {
+            task = tasks.save(TestData.task(project).title("Task " + i).build());
+            tag = tags.save(TestData.tag(project).title("Tag " + i).build());
+        }
+        createdProjects.add(project.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (UUID id : createdProjects) {
+            TestData.deleteProject(jdbc, id);
+        }
+        createdProjects.clear();
+    }
+
+    @Test
+    void taskCreate_readsHeaderThenInserts() {
+        measure(() -> taskService.create(new TaskCreateReq(project.getId(), "New", null, false, 60,
+                BASE, BASE.plusSeconds(3_600), null)));
+
+        assertCounts(2, 0, 0);
+    }
+
+    @Test
+    void tagCreate_readsHeaderThenInserts() {
+        measure(() -> tagService.create(new TagCreateReq(project.getId(), "New", null, false, 60,
+                BASE, BASE.plusSeconds(3_600), null)));
+
+        assertCounts(2, 0, 0);
+    }
+
+    @Test
+    void projectNoteCreate_readsHeaderThenInserts() {
+        measure(() -> noteService.create(new NoteCreateReq(project.getId(), null, "Note")));
+
+        assertCounts(2, 0, 0);
+    }
+
+    @Test
+    void taskUpdate_loadsOnlyTheTask() {
+        measure(() -> taskService.update(task.getId(), new TaskUpdateReq("Renamed", null, null, null,
+                null, BASE.plusSeconds(86_400), null)));
+
+        // task row, header, update
+        assertCounts(3, 1, 0);
+    }
+
+    @Test
+    void tagUpdate_loadsOnlyTheTag() {
+        measure(() -> tagService.update(tag.getId(), new TagUpdateReq("Renamed", null, null, null,
+                null, BASE.plusSeconds(86_400), null)));
+
+        assertCounts(3, 1, 0);
+    }
+
+    @Test
+    void taskBulk_loadsOnlyTheTouchedTasks() {
+        measure(() -> taskService.bulk(new TaskBulkReq(project.getId(), List.of(
+                new TaskBulkItemReq(BulkOperation.CREATE, null, "New", null, false, 60,
+                        BASE, BASE.plusSeconds(3_600), null),
+                new TaskBulkItemReq(BulkOperation.UPDATE, task.getId(), "Renamed", null, null, null,
+                        null, null, null)))));
+
+        // header, touched tasks, batched insert, batched update
+        assertCounts(4, 1, 0);
+    }
+
+    @Test
+    void projectUpdate_fetchesTasksAndTagsSeparatelyForTheResponse() {
+        measure(() -> projectService.update(project.getId(),
+                new ProjectUpdateReq("Renamed " + UUID.randomUUID(), null, null)));
+
+        // header, name check, project row, update, then one select per collection: CHILDREN rows each instead of
+        // CHILDREN x CHILDREN joined rows
+        assertCounts(6, 1 + 2 * CHILDREN, 2);
+    }
+
+    @Test
+    void importProject_readsOnlyTheSourceRow() {
+        measure(() -> createdProjects.add(projectService.importProject(new ProjectImportReq(project.getId(),
+                "Copy " + UUID.randomUUID(), null, false, false, false, false)).newProjectId()));
+
+        // header, name check, source row for its description, insert of the copy
+        assertCounts(4, 1, 0);
+    }
+
+    private void measure(Runnable write) {
+        statistics.clear();
+        write.run();
+    }
+
+    private void assertCounts(long statements, long entitiesLoaded, long collectionsLoaded) {
+        assertThat(statistics.getPrepareStatementCount()).as("statements").isEqualTo(statements);
+        assertThat(statistics.getEntityLoadCount()).as("entity rows hydrated").isEqualTo(entitiesLoaded);
+        assertThat(statistics.getCollectionLoadCount()).as("collections loaded").isEqualTo(collectionsLoaded);
+    }
+}